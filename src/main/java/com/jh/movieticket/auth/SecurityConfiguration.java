@@ -40,9 +40,11 @@ public class SecurityConfiguration {
                     .requestMatchers(HttpMethod.DELETE, "/members/member/{userId}").authenticated()
                     .requestMatchers(HttpMethod.GET, "/members/member/{userId}").authenticated()
                     .requestMatchers("/members").authenticated()
+                    .requestMatchers("/members/cursor").authenticated()
                     .requestMatchers(HttpMethod.POST, "/movies/movie").authenticated()
                     .requestMatchers(HttpMethod.PUT, "/movies/movie").authenticated()
                     .requestMatchers(HttpMethod.DELETE, "/movies/movie/{id}").authenticated()
+                    .requestMatchers(HttpMethod.POST, "/movies/schedules").authenticated()
                     .requestMatchers(HttpMethod.POST, "/theaters/theater").authenticated()
                     .requestMatchers(HttpMethod.PUT, "/theaters/theater").authenticated()
                     .requestMatchers("/theaters/theater/{id}").authenticated()
@@ -53,6 +55,11 @@ public class SecurityConfiguration {
                     .requestMatchers("/chatrooms/chatroom/out/{chatRoomId}").authenticated()
                     .requestMatchers(HttpMethod.GET, "/chatrooms/chatroom").authenticated()
                     .requestMatchers("chatrooms/{verifyMemberId}").authenticated()
+                    .requestMatchers("/chatrooms/{verifyMemberId}/cursor").authenticated()
+                    .requestMatchers(HttpMethod.PUT, "/reservations/schedules/{scheduleId}/seats").authenticated()
+                    .requestMatchers(HttpMethod.POST, "/reservations/reservation").authenticated()
+                    .requestMatchers("/reservations/hold", "/reservations/hold/release").authenticated()
+                    .requestMatchers("/waiting/schedules/{scheduleId}").authenticated()
 
                     .anyRequest().permitAll()
             )
@@ -1,11 +1,11 @@
 package com.jh.movieticket.chat.controller;
 
 import com.jh.movieticket.chat.dto.ChatMessageSendDto;
-import com.jh.movieticket.chat.service.ChatMessageService;
+import com.jh.movieticket.chat.service.ChatMessageWriter;
+import com.jh.movieticket.config.MessageBroadcaster;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,20 +15,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 @Validated
 public class ChatController {
 
-    private final SimpMessageSendingOperations simpMessageSendingOperations;
-    private final ChatMessageService chatMessageService;
+    private final MessageBroadcaster messageBroadcaster;
+    private final ChatMessageWriter chatMessageWriter;
 
     /**
      * 메시지 발송하고 db에 저장하는 컨트롤러
+     * 먼저 발송한 후 저장 대기열에 넣어 발송 지연에 db 저장 시간이 포함되지 않도록 한다.
      *
      * @param chatMessageSendDto 발송할 메시지 내용 dto
      */
     @MessageMapping("/chat/message")
     public void message(@Valid @RequestBody ChatMessageSendDto chatMessageSendDto) {
 
-        chatMessageService.chatMessageSave(chatMessageSendDto);
+        messageBroadcaster.broadcast("/sub/chat/room" + chatMessageSendDto.getRoomId(),
+            chatMessageSendDto);
 
-        simpMessageSendingOperations.convertAndSend(
-            "/sub/chat/room" + chatMessageSendDto.getRoomId(), chatMessageSendDto);
+        chatMessageWriter.write(chatMessageSendDto);
     }
 }
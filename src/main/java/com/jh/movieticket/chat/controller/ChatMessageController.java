@@ -4,7 +4,10 @@ import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.dto.ChatMessageVerifyDto;
 import com.jh.movieticket.chat.dto.ChatMessageVerifyDto.Response;
 import com.jh.movieticket.chat.service.ChatMessageService;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.config.GlobalApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +18,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -44,4 +48,28 @@ public class ChatMessageController {
 
         return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, responseList));
     }
+
+    /**
+     * 채팅방의 채팅메시지 내역 커서 페이징 조회 컨트롤러(최신 순)
+     *
+     * @param chatRoomId 채팅방 pk
+     * @param cursor     이전 페이지의 다음 커서(가장 최근 페이지라면 생략)
+     * @param size       페이지 크기
+     * @return 성공 시 200 코드와 커서 페이징 처리된 채팅 메시지 dto 리스트, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping("/{chatRoomId}/history")
+    public ResponseEntity<GlobalApiResponse<CursorPage<ChatMessageVerifyDto.Response>>> chatMessageVerifyHistoryController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long chatRoomId,
+        @RequestParam(required = false) String cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        @RequestParam(defaultValue = "30") int size) {
+
+        CursorPage<ChatMessageVerifyDto.Response> result = chatMessageService.chatMessageVerifyHistory(
+                chatRoomId, cursor, size)
+            .map(ChatMessageServiceDto::toVerifyResponse);
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
 }
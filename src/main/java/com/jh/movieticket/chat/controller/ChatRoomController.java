@@ -7,8 +7,11 @@ import com.jh.movieticket.chat.dto.ChatRoomServiceDto;
 import com.jh.movieticket.chat.dto.ChatRoomVerifyDto;
 import com.jh.movieticket.chat.dto.ChatRoomVerifyDto.Response;
 import com.jh.movieticket.chat.service.ChatRoomService;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.config.GlobalApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -136,4 +140,28 @@ public class ChatRoomController {
 
         return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, responsePage));
     }
+
+    /**
+     * 커서 페이징 처리된 전체 채팅방 리스트 조회 컨트롤러
+     *
+     * @param verifyMemberId 조회하는 회원의 아이디
+     * @param cursor         이전 페이지의 다음 커서(첫 페이지라면 생략)
+     * @param size           페이지 크기
+     * @return 커서 페이징 처리된 전체 채팅방 dto 리스트
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping("/{verifyMemberId}/cursor")
+    public ResponseEntity<GlobalApiResponse<CursorPage<ChatRoomVerifyDto.Response>>> chatRoomVerifyAllByCursorController(
+        @NotBlank(message = "조회하는 회원 아이디를 입력해주세요.") @PathVariable String verifyMemberId,
+        @RequestParam(required = false) String cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        @RequestParam(defaultValue = "10") int size) {
+
+        CursorPage<ChatRoomVerifyDto.Response> result = chatRoomService.verifyAllChatRoomByCursor(
+                verifyMemberId, cursor, size)
+            .map(ChatRoomServiceDto::toVerifyResponse);
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
 }
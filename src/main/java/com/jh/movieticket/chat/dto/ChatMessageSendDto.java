@@ -3,6 +3,7 @@ package com.jh.movieticket.chat.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,5 +24,6 @@ public class ChatMessageSendDto {
     private String sender; // 작성자
 
     @NotBlank(message = "메시지 내용을 입력해주세요.")
+    @Size(max = 5000, message = "메시지는 5000자 이하여야 합니다.")
     private String message; // 메시지
 }
@@ -0,0 +1,61 @@
+package com.jh.movieticket.chat.repository;
+
+import com.jh.movieticket.chat.domain.ChatMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+// 채팅 메시지 대량 저장을 위한 jdbc 레포지토리
+// IDENTITY 전략에서는 hibernate 가 insert 를 한 건씩 실행하므로 jdbc batch insert 로 한 번에 저장하고 생성된 pk 를 돌려받는다.
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO chat_message "
+        + "(chat_room_id, sender_id, message, not_read_count) "
+        + "VALUES (:chatRoomId, :senderId, :message, :notReadCount)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 채팅 메시지 batch insert
+     *
+     * @param chatMessageList 저장할 채팅 메시지 리스트(채팅방, 보낸 회원은 저장된 엔티티)
+     * @return pk 가 채워진 채팅 메시지 리스트(저장 순서 유지)
+     */
+    public List<ChatMessage> insertAll(List<ChatMessage> chatMessageList) {
+
+        if (chatMessageList.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = chatMessageList.stream()
+            .map(cm -> new MapSqlParameterSource()
+                .addValue("chatRoomId", cm.getChatRoom().getId())
+                .addValue("senderId", cm.getSender().getId())
+                .addValue("message", cm.getMessage())
+                .addValue("notReadCount", cm.getNotReadCount()))
+            .toArray(SqlParameterSource[]::new);
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder,
+            new String[]{"id"});
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        List<ChatMessage> savedList = new ArrayList<>(chatMessageList.size());
+        for (int i = 0; i < chatMessageList.size(); i++) {
+            Number id = (Number) keyList.get(i).values().iterator().next();
+            savedList.add(chatMessageList.get(i).toBuilder()
+                .id(id.longValue())
+                .build());
+        }
+
+        return savedList;
+    }
+}
@@ -3,6 +3,7 @@ package com.jh.movieticket.chat.repository;
 import com.jh.movieticket.chat.domain.ChatMessage;
 import com.jh.movieticket.chat.domain.ChatRoom;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,4 +17,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     void deleteChatMessageByMember(Long parentId); // 회원 소프트딜리트로 인한 채팅메시지 삭제 메소드
 
     List<ChatMessage> findAllByChatRoom(ChatRoom chatRoom); // 채팅방을 통해 채팅 메시지 리스트 조회
+
+    List<ChatMessage> findAllByChatRoomAndIdLessThanOrderByIdDesc(ChatRoom chatRoom, Long id,
+        Limit limit); // 채팅방의 pk 보다 오래된 메시지를 최신 순으로 조회(채팅 내역 커서 페이징)
+
+    @Query("select max(cm.id) from ChatMessage cm where cm.chatRoom = :chatRoom")
+    Long findLastMessageId(ChatRoom chatRoom); // 채팅방의 마지막 메시지 pk 조회(메시지가 없다면 null)
+
+    @Query("select count(cm) from ChatMessage cm"
+        + " where cm.chatRoom = :chatRoom and cm.sender.userId <> :userId and cm.notReadCount > 0"
+        + " and cm.id > coalesce((select rc.lastReadMessageId from ChatReadCursor rc"
+        + " where rc.chatRoom = :chatRoom and rc.member.userId = :userId), 0)")
+    long countNotReadMessage(ChatRoom chatRoom, String userId); // 마지막으로 읽은 위치 이후 상대방이 보낸 안 읽은 메시지 수 조회(함께 접속 중에 보낸 메시지 제외)
 }
@@ -0,0 +1,15 @@
+package com.jh.movieticket.chat.repository;
+
+import com.jh.movieticket.chat.domain.ChatReadCursor;
+import com.jh.movieticket.chat.domain.ChatRoom;
+import com.jh.movieticket.member.domain.Member;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, Long> {
+
+    Optional<ChatReadCursor> findByChatRoomAndMember(ChatRoom chatRoom,
+        Member member); // 채팅방과 회원으로 읽은 위치 조회
+}
@@ -2,7 +2,9 @@ package com.jh.movieticket.chat.repository;
 
 import com.jh.movieticket.chat.domain.ChatRoom;
 import com.jh.movieticket.member.domain.Member;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,4 +20,6 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByMember(Member member); // 회원을 통해 조회
 
     boolean existsByMember(Member member); // 회원으로 채팅방 존재 유무 확인
+
+    List<ChatRoom> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit); // 채팅방 리스트 커서 페이징하여 조회
 }
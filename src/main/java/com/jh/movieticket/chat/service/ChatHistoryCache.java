@@ -0,0 +1,177 @@
+package com.jh.movieticket.chat.service;
+
+import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
+import com.jh.movieticket.config.AfterCommit;
+import com.jh.movieticket.config.CacheName;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+// 채팅방별 최근 메시지 캐시
+// 채팅방마다 최근 메시지를 오래된 순으로 redis list(chatHistory::{채팅방 pk})에 최대 cacheSize 개까지만 보관한다.
+// 새 메시지는 캐시가 있는 채팅방에만 추가하고(RPUSHX) 오래된 메시지는 잘라낸다(LTRIM), 그보다 오래된 메시지는 db 에서 조회한다.
+@Slf4j
+@Component
+public class ChatHistoryCache {
+
+    private static final String KEY_PREFIX = CacheName.CHAT_HISTORY_CACHE_NAME + "::";
+
+    private final RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+    private final int cacheSize; // 채팅방별 보관할 최근 메시지 수
+    private final Duration ttl; // 마지막 메시지 이후 보관 시간
+
+    public ChatHistoryCache(RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate,
+        @Value("${chat.history.cache-size:100}") int cacheSize,
+        @Value("${chat.history.ttl-minutes:60}") long ttlMinutes) {
+
+        this.chatMessageRedisTemplate = chatMessageRedisTemplate;
+        this.cacheSize = cacheSize;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public int getCacheSize() {
+
+        return cacheSize;
+    }
+
+    /**
+     * 캐시된 최근 메시지 조회
+     * 읽을 수 없는 메시지(null)가 섞여 있다면 빠진 메시지를 알 수 없으므로 캐시를 삭제하고 캐시가 없는 것으로 본다.
+     *
+     * @param chatRoomId 채팅방 pk
+     * @return 오래된 순의 최근 메시지 리스트, 캐시가 없거나 redis 장애 시 null
+     */
+    public List<ChatMessageServiceDto> get(Long chatRoomId) {
+
+        try {
+            List<ChatMessageServiceDto> cachedList = chatMessageRedisTemplate.opsForList()
+                .range(keyOf(chatRoomId), 0, -1);
+            if (cachedList == null || cachedList.isEmpty()) {
+                return null;
+            }
+
+            if (cachedList.stream().anyMatch(Objects::isNull)) { // 읽을 수 없는 메시지가 섞인 경우
+                log.warn("채팅 메시지 캐시에 읽을 수 없는 메시지 포함 - 캐시 삭제 chatRoomId={}", chatRoomId);
+                evict(chatRoomId);
+                return null;
+            }
+
+            return cachedList;
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 캐시 조회 실패 chatRoomId={}", chatRoomId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시가 채팅방의 전체 메시지를 담고 있는지 확인
+     * 보관 개수보다 적다면 잘려 나간 메시지가 없으므로 캐시보다 오래된 메시지는 없다.
+     *
+     * @param cachedList 캐시된 메시지 리스트
+     * @return 전체 메시지를 담고 있다면 true
+     */
+    public boolean isComplete(List<ChatMessageServiceDto> cachedList) {
+
+        return cachedList.size() < cacheSize;
+    }
+
+    /**
+     * db 에서 조회한 최근 메시지로 캐시 채움
+     *
+     * @param chatRoomId  채팅방 pk
+     * @param messageList 오래된 순의 최근 메시지 리스트(최대 cacheSize 개)
+     */
+    public void fill(Long chatRoomId, List<ChatMessageServiceDto> messageList) {
+
+        if (messageList.isEmpty()) {
+            return;
+        }
+
+        String key = keyOf(chatRoomId);
+        try {
+            chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, ChatMessageServiceDto> chatOperations =
+                        (RedisOperations<String, ChatMessageServiceDto>) operations;
+                    chatOperations.delete(key);
+                    chatOperations.opsForList().rightPushAll(key, messageList);
+                    chatOperations.opsForList().trim(key, -cacheSize, -1);
+                    chatOperations.expire(key, ttl);
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 캐시 저장 실패 chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    /**
+     * 커밋 후 캐시가 있는 채팅방에만 새 메시지 추가, 보관 개수를 넘은 오래된 메시지는 잘라낸다.
+     * 커밋 후에 추가하므로 커밋 전에 db 를 읽어 캐시를 채운 요청보다 항상 나중에 추가된다.
+     *
+     * @param chatRoomId 채팅방 pk
+     * @param message    새 메시지
+     */
+    public void append(Long chatRoomId, ChatMessageServiceDto message) {
+
+        appendAll(Collections.singletonMap(chatRoomId, List.of(message)));
+    }
+
+    /**
+     * 여러 채팅방의 새 메시지를 한 번의 파이프라인으로 추가
+     *
+     * @param messageMap 채팅방 pk -> 오래된 순의 새 메시지 리스트
+     */
+    public void appendAll(Map<Long, List<ChatMessageServiceDto>> messageMap) {
+
+        if (messageMap.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run("채팅 메시지 캐시 추가 실패",
+            () -> chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, ChatMessageServiceDto> chatOperations =
+                        (RedisOperations<String, ChatMessageServiceDto>) operations;
+                    messageMap.forEach((chatRoomId, messageList) -> {
+                        String key = keyOf(chatRoomId);
+                        messageList.forEach(m -> chatOperations.opsForList().rightPushIfPresent(key, m));
+                        chatOperations.opsForList().trim(key, -cacheSize, -1);
+                        chatOperations.expire(key, ttl);
+                    });
+                    return null;
+                }
+            }));
+    }
+
+    /**
+     * 캐시 삭제
+     *
+     * @param chatRoomId 채팅방 pk
+     */
+    public void evict(Long chatRoomId) {
+
+        try {
+            chatMessageRedisTemplate.delete(keyOf(chatRoomId));
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 캐시 삭제 실패 chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    private String keyOf(Long chatRoomId) {
+
+        return KEY_PREFIX + chatRoomId;
+    }
+}
@@ -6,31 +6,45 @@ import com.jh.movieticket.chat.dto.ChatMessageSendDto;
 import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.exception.ChatRoomErrorCode;
 import com.jh.movieticket.chat.exception.ChatRoomException;
+import com.jh.movieticket.chat.repository.ChatMessageJdbcRepository;
 import com.jh.movieticket.chat.repository.ChatMessageRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
-import com.jh.movieticket.config.CacheName;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.member.exception.MemberErrorCode;
 import com.jh.movieticket.member.exception.MemberException;
 import com.jh.movieticket.member.repository.MemberRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
-    private final RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatHistoryCache chatHistoryCache;
 
     // 채팅방에 입장하고 있는 사람이 몇 명인지 확인이 가능해야 한다.
     // 메시지를 보낼 때 두 사람 모두 입장시 0, 한 사람만 입장한 경우는 1로 해서 보낸다.
+    // 1로 보낸 경우 받는 사람의 안읽은 메시지 수를 증가시킨다.
+    // 채팅 내역은 최근 메시지만 redis 에 보관하고(ChatHistoryCache), 그보다 오래된 메시지는 db 에서 커서 페이징하여 조회한다.
 
     /**
      * 채팅 메시지 저장
@@ -55,40 +69,182 @@ public class ChatMessageService {
             .build();
         ChatMessage savedChatMessage = chatMessageRepository.save(chatMessage);
 
-        chatMessageRedisTemplate.opsForList()
-            .rightPush(String.valueOf(chatRoom.getId()),
-                savedChatMessage.toServiceDto()); // redis 저장
+        if (savedChatMessage.getNotReadCount() == 1) { // 받는 사람이 입장하지 않은 경우
+            chatUnreadCounter.increment(receiverIdOf(chatRoom, sender), chatRoom.getId());
+        }
+
+        chatHistoryCache.append(chatRoom.getId(), savedChatMessage.toServiceDto()); // redis 저장
     }
 
     /**
-     * 채팅 메시지 내역 조회
+     * 채팅 메시지 여러 건 저장(ChatMessageWriter 에서 모아서 호출)
+     * 채팅방과 보낸 회원을 IN 절로 한 번씩 조회한 후 jdbc batch insert 로 저장하고,
+     * redis 캐시 추가와 안읽은 메시지 수 증가는 채팅방별로 모아서 커밋 후 반영한다.
+     * 없는 채팅방이나 회원의 메시지는 저장하지 않고 건너뛴다.
+     *
+     * @param messageList 저장할 메시지 정보 dto 리스트(보낸 순서)
+     * @return 저장된 메시지 수
+     */
+    public int chatMessageSaveAll(List<ChatMessageSendDto> messageList) {
+
+        Map<Long, ChatRoom> chatRoomMap = chatRoomRepository.findAllById(
+                messageList.stream().map(ChatMessageSendDto::getRoomId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+        Map<String, Member> senderMap = memberRepository.findAllByUserIdInAndDeleteDateIsNull(
+                messageList.stream().map(ChatMessageSendDto::getSender).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Member::getUserId, Function.identity()));
+
+        List<ChatMessage> chatMessageList = new ArrayList<>(messageList.size());
+        for (ChatMessageSendDto message : messageList) {
+            ChatRoom chatRoom = chatRoomMap.get(message.getRoomId());
+            Member sender = senderMap.get(message.getSender());
+            if (chatRoom == null || sender == null) {
+                log.warn("없는 채팅방 또는 회원의 메시지 저장 생략 roomId={}, sender={}",
+                    message.getRoomId(), message.getSender());
+                continue;
+            }
+
+            chatMessageList.add(ChatMessage.builder()
+                .message(message.getMessage())
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .notReadCount(chatRoom.getChatMemberCount() == 2 ? 0 : 1)
+                .build());
+        }
+
+        List<ChatMessage> savedList = chatMessageJdbcRepository.insertAll(chatMessageList);
+
+        Map<Long, List<ChatMessageServiceDto>> historyMap = new LinkedHashMap<>();
+        Map<Long, Map<String, Long>> notReadMap = new LinkedHashMap<>(); // 채팅방 pk -> (받는 회원 아이디 -> 안읽은 메시지 수)
+        for (ChatMessage savedChatMessage : savedList) {
+            Long chatRoomId = savedChatMessage.getChatRoom().getId();
+            historyMap.computeIfAbsent(chatRoomId, id -> new ArrayList<>())
+                .add(savedChatMessage.toServiceDto());
+            if (savedChatMessage.getNotReadCount() == 1) {
+                notReadMap.computeIfAbsent(chatRoomId, id -> new LinkedHashMap<>())
+                    .merge(receiverIdOf(savedChatMessage.getChatRoom(),
+                        savedChatMessage.getSender()), 1L, Long::sum);
+            }
+        }
+
+        chatHistoryCache.appendAll(historyMap); // redis 저장
+        notReadMap.forEach((chatRoomId, countMap) -> countMap.forEach(
+            (receiverId, count) -> chatUnreadCounter.increment(receiverId, chatRoomId, count)));
+
+        return savedList.size();
+    }
+
+    /**
+     * 채팅 메시지 전체 내역 조회
+     * 전체 내역은 캐시하지 않고 db 에서 조회한다.(최근 메시지는 chatMessageVerifyHistory 사용)
      *
      * @param chatRoomId 채팅 내용 조회할 채팅방 pk
      * @return 채팅방의 채팅 내용 dto 리스트
      */
     public List<ChatMessageServiceDto> chatMessageVerifyAll(Long chatRoomId) {
 
-        String chatMessageKey = CacheName.CHAT_MESSAGE_CACHE_NAME + "::" + chatRoomId;
-        if (Boolean.TRUE.equals(
-            chatMessageRedisTemplate.hasKey(chatMessageKey))) { // redis에 존재하는 경우
-            return chatMessageRedisTemplate.opsForList()
-                .range(chatMessageKey, 0, -1);
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+            .orElseThrow(() -> new ChatRoomException(ChatRoomErrorCode.NOT_FOUND_CHAT_ROOM));
+
+        return chatMessageRepository.findAllByChatRoom(chatRoom)
+            .stream()
+            .map(ChatMessage::toServiceDto)
+            .toList();
+    }
+
+    /**
+     * 채팅 메시지 내역 커서 페이징 조회(최신 순)
+     * 최근 메시지는 redis 캐시에서, 캐시보다 오래된 메시지는 db 에서 조회한다.
+     *
+     * @param chatRoomId 채팅 내용 조회할 채팅방 pk
+     * @param cursor     이전 페이지의 다음 커서(가장 최근 페이지라면 null)
+     * @param size       페이지 크기
+     * @return 커서 페이징 처리된 채팅 메시지 dto 리스트, 다음 커서로 더 오래된 메시지를 조회한다.
+     */
+    public CursorPage<ChatMessageServiceDto> chatMessageVerifyHistory(Long chatRoomId,
+        String cursor, int size) {
+
+        Long beforeId = CursorPage.decodeCursorId(cursor);
+
+        List<ChatMessageServiceDto> cachedList = chatHistoryCache.get(chatRoomId);
+        if (cachedList == null && beforeId == null) { // 가장 최근 페이지 조회 시 캐시 채움
+            cachedList = fillHistoryCache(chatRoomId);
+        }
+
+        if (cachedList != null) {
+            List<ChatMessageServiceDto> fetchedList = cachedList.stream()
+                .filter(m -> beforeId == null || m.getId() < beforeId)
+                .sorted(Comparator.comparing(ChatMessageServiceDto::getId).reversed())
+                .limit(size + 1L)
+                .toList();
+            // 캐시만으로 한 페이지를 채울 수 있거나 캐시보다 오래된 메시지가 없는 경우
+            if (fetchedList.size() > size || chatHistoryCache.isComplete(cachedList)) {
+                return toHistoryPage(fetchedList, size);
+            }
         }
 
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
             .orElseThrow(() -> new ChatRoomException(ChatRoomErrorCode.NOT_FOUND_CHAT_ROOM));
 
-        List<ChatMessageServiceDto> chatMessageServiceDtoList = chatMessageRepository.findAllByChatRoom(
-                chatRoom)
+        List<ChatMessageServiceDto> fetchedList = findLatestMessages(chatRoom,
+            beforeId == null ? Long.MAX_VALUE : beforeId, size + 1);
+
+        return toHistoryPage(fetchedList, size);
+    }
+
+    /**
+     * db 에서 최근 메시지를 조회하여 캐시 채움
+     * 채우는 사이 커밋된 메시지가 있다면 캐시가 최신이 아니므로 지운다.(다음 조회 시 다시 채움)
+     *
+     * @param chatRoomId 채팅방 pk
+     * @return 오래된 순의 최근 메시지 리스트
+     */
+    private List<ChatMessageServiceDto> fillHistoryCache(Long chatRoomId) {
+
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+            .orElseThrow(() -> new ChatRoomException(ChatRoomErrorCode.NOT_FOUND_CHAT_ROOM));
+
+        List<ChatMessageServiceDto> latestList = new ArrayList<>(
+            findLatestMessages(chatRoom, Long.MAX_VALUE, chatHistoryCache.getCacheSize()));
+        if (latestList.isEmpty()) {
+            return latestList;
+        }
+        Collections.reverse(latestList); // 캐시는 오래된 순으로 보관
+
+        chatHistoryCache.fill(chatRoomId, latestList);
+
+        Long lastMessageId = chatMessageRepository.findLastMessageId(chatRoom);
+        if (lastMessageId != null && lastMessageId > latestList.get(latestList.size() - 1).getId()) {
+            chatHistoryCache.evict(chatRoomId);
+        }
+
+        return latestList;
+    }
+
+    // 채팅방에서 보낸 회원의 상대방 아이디
+    private String receiverIdOf(ChatRoom chatRoom, Member sender) {
+
+        return chatRoom.getMember().getUserId().equals(sender.getUserId())
+            ? chatRoom.getAdmin().getUserId() : chatRoom.getMember().getUserId();
+    }
+
+    // 채팅방의 beforeId 보다 오래된 메시지를 최신 순으로 limit 개 조회
+    private List<ChatMessageServiceDto> findLatestMessages(ChatRoom chatRoom, Long beforeId,
+        int limit) {
+
+        return chatMessageRepository.findAllByChatRoomAndIdLessThanOrderByIdDesc(chatRoom,
+                beforeId, Limit.of(limit))
             .stream()
             .map(ChatMessage::toServiceDto)
             .toList();
+    }
 
-        if (!chatMessageServiceDtoList.isEmpty()) {
-            chatMessageRedisTemplate.opsForList()
-                .rightPushAll(chatMessageKey, chatMessageServiceDtoList); // redis에 저장
-        }
+    // 최신 순으로 페이지 크기 + 1 개까지 조회한 메시지로 커서 페이지 생성, 커서는 페이지의 가장 오래된 메시지 pk
+    private CursorPage<ChatMessageServiceDto> toHistoryPage(
+        List<ChatMessageServiceDto> fetchedList, int size) {
 
-        return chatMessageServiceDtoList;
+        return CursorPage.of(fetchedList, size, m -> CursorPage.encodeCursor(m.getId(), null));
     }
 }
@@ -0,0 +1,263 @@
+package com.jh.movieticket.chat.service;
+
+import com.jh.movieticket.chat.dto.ChatMessageSendDto;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 발송된 채팅 메시지를 모아서 db 에 저장(write-behind)
+// 메시지는 크기가 정해진 대기열에 넣고, 주기적으로 또는 일정 개수 쌓이면 batch-size 개씩 한 번에 저장한다.
+// 저장에 실패한 메시지는 버리지 않고 다음 저장 때 다시 시도한다.(at-least-once)
+// 대기열이 가득 차면 보낸 쓰레드가 쌓인 메시지를 순서대로 직접 저장하고 자리가 날 때까지 기다려 발송 속도를 저장 속도에 맞춘다.(backpressure)
+// 종료 시 저장하지 못한 메시지는 저널 파일에 기록하고 다음 기동 시 다시 저장한다.
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String JOURNAL_DELIMITER = "\t";
+
+    private final ChatMessageService chatMessageService;
+    private final Executor flushExecutor;
+    private final int batchSize; // 한 번에 저장할 메시지 수
+    private final long offerTimeoutMs; // 대기열이 가득 찼을 때 자리가 나기를 기다리는 시간
+    private final Path journalPath; // 종료 시 저장하지 못한 메시지를 기록할 파일
+
+    private final BlockingQueue<ChatMessageSendDto> queue; // 저장 대기 중인 메시지
+    private final List<ChatMessageSendDto> retryList = new ArrayList<>(); // 저장에 실패하여 다시 저장할 메시지(flushLock 보유 시에만 접근)
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ChatMessageWriter(ChatMessageService chatMessageService,
+        @Qualifier("applicationTaskExecutor") Executor flushExecutor,
+        @Value("${chat.message-write.queue-capacity:10000}") int queueCapacity,
+        @Value("${chat.message-write.batch-size:200}") int batchSize,
+        @Value("${chat.message-write.offer-timeout-ms:100}") long offerTimeoutMs,
+        @Value("${chat.message-write.journal-path:chat-message.journal}") String journalPath) {
+
+        this.chatMessageService = chatMessageService;
+        this.flushExecutor = flushExecutor;
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.journalPath = Paths.get(journalPath);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 채팅 메시지를 저장 대기열에 추가
+     * 대기열이 가득 차 자리가 나지 않으면 호출한 쓰레드에서 쌓인 메시지를 먼저 저장한 후 대기열에 추가한다.
+     * 저장이 계속 실패하면 자리가 날 때까지 기다리며, 메시지를 버리지 않는다.
+     *
+     * @param message 저장할 메시지 정보 dto
+     */
+    public void write(ChatMessageSendDto message) {
+
+        boolean queued;
+        try {
+            queued = queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        if (!queued) { // 대기열이 가득 찬 경우
+            log.warn("채팅 메시지 저장 대기열 가득 참 - 직접 저장 roomId={}", message.getRoomId());
+            flushLock.lock();
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+            enqueue(message);
+            return;
+        }
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 저장 대기 중인 메시지를 batch-size 개씩 db 에 저장
+     * 저장에 실패한 메시지는 남겨 두고 다음 저장 때 먼저 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${chat.message-write.flush-interval-ms:50}")
+    public void flush() {
+
+        if (!flushLock.tryLock()) { // 다른 쓰레드가 저장 중인 경우
+            return;
+        }
+
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 메시지 수
+     *
+     * @return 대기열과 재시도 대기 중인 메시지 수(대략적인 값)
+     */
+    public int getPendingCount() {
+
+        return queue.size() + retryList.size();
+    }
+
+    /**
+     * 종료 시 남은 메시지를 저장하고, 실패하면 저널 파일에 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+
+        flush();
+
+        List<ChatMessageSendDto> pendingList = new ArrayList<>();
+        flushLock.lock();
+        try {
+            pendingList.addAll(retryList);
+            retryList.clear();
+            queue.drainTo(pendingList);
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (pendingList.isEmpty()) {
+            return;
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8)) {
+            for (ChatMessageSendDto message : pendingList) {
+                writer.write(message.getRoomId() + JOURNAL_DELIMITER + encode(message.getSender())
+                    + JOURNAL_DELIMITER + encode(message.getMessage()));
+                writer.newLine();
+            }
+            log.warn("저장하지 못한 채팅 메시지 {}건을 저널에 기록 - {}", pendingList.size(), journalPath);
+        } catch (IOException e) {
+            log.error("채팅 메시지 저널 기록 실패 - 유실 {}건", pendingList.size(), e);
+        }
+    }
+
+    /**
+     * 기동 시 저널 파일에 남은 메시지를 대기열에 추가하고 저장
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] tokens = line.split(JOURNAL_DELIMITER);
+                write(ChatMessageSendDto.builder()
+                    .roomId(Long.parseLong(tokens[0]))
+                    .sender(decode(tokens[1]))
+                    .message(decode(tokens[2]))
+                    .build());
+            }
+            Files.delete(journalPath);
+            log.info("채팅 메시지 저널 {}건 복구", lines.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("채팅 메시지 저널 복구 실패 - {}", journalPath, e);
+            return;
+        }
+
+        flush();
+    }
+
+    // 재시도 대기 중인 메시지부터 대기열 순서대로 저장(flushLock 보유 시에만 호출)
+    private void flushPending() {
+
+        try {
+            while (true) {
+                if (retryList.isEmpty()) {
+                    queue.drainTo(retryList, batchSize);
+                }
+                if (retryList.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    chatMessageService.chatMessageSaveAll(new ArrayList<>(retryList));
+                } catch (DataIntegrityViolationException e) { // 다시 시도해도 저장되지 않는 메시지가 섞인 경우
+                    log.error("채팅 메시지 batch 저장 실패 - 한 건씩 저장 {}건", retryList.size(), e);
+                    saveEach();
+                }
+                retryList.clear();
+            }
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 저장 실패 - 다음 저장 때 재시도 {}건", retryList.size(), e);
+        }
+    }
+
+    // 대기열에 자리가 날 때까지 기다려 추가, 기다리는 중 인터럽트되면 재시도 목록 끝에 추가하여 버리지 않는다.
+    private void enqueue(ChatMessageSendDto message) {
+
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flushLock.lock();
+            try {
+                retryList.add(message);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    // 재시도 대기 중인 메시지를 한 건씩 저장, 다시 시도해도 저장되지 않는 메시지만 버린다.
+    private void saveEach() {
+
+        Iterator<ChatMessageSendDto> iterator = retryList.iterator();
+        while (iterator.hasNext()) {
+            ChatMessageSendDto message = iterator.next();
+            try {
+                chatMessageService.chatMessageSaveAll(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                log.error("채팅 메시지 저장 불가 - 버림 roomId={}, sender={}", message.getRoomId(),
+                    message.getSender(), e);
+            }
+            iterator.remove();
+        }
+    }
+
+    // 구분자, 줄바꿈이 포함된 값도 한 줄에 기록할 수 있도록 base64 로 감싼다.
+    private String encode(String value) {
+
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String value) {
+
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
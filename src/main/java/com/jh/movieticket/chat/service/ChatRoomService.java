@@ -1,8 +1,8 @@
 package com.jh.movieticket.chat.service;
 
 import com.jh.movieticket.chat.domain.ChatMessage;
+import com.jh.movieticket.chat.domain.ChatReadCursor;
 import com.jh.movieticket.chat.domain.ChatRoom;
-import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.dto.ChatRoomCreateDto;
 import com.jh.movieticket.chat.dto.ChatRoomJoinDto;
 import com.jh.movieticket.chat.dto.ChatRoomOutDto;
@@ -11,19 +11,22 @@ import com.jh.movieticket.chat.dto.ChatRoomVerifyDto;
 import com.jh.movieticket.chat.exception.ChatRoomErrorCode;
 import com.jh.movieticket.chat.exception.ChatRoomException;
 import com.jh.movieticket.chat.repository.ChatMessageRepository;
+import com.jh.movieticket.chat.repository.ChatReadCursorRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
-import com.jh.movieticket.config.CacheName;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.member.exception.MemberErrorCode;
 import com.jh.movieticket.member.exception.MemberException;
 import com.jh.movieticket.member.repository.MemberRepository;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,11 +38,13 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
-    private final RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatHistoryCache chatHistoryCache;
 
     // 채팅방에 입장하고 있는 사람이 몇 명인지 확인이 가능해야 한다.
-    // 입장 시 채팅 메시지들을 불러와 입장한 회원과 비교하여 해당 회원이 작성한 메시지가 아닌  메시지의 count - 1을 진행(읽음 처리)
-    // 조회시에는 메시지들을 불러와 조회한 사람이 아닌 사람이 보낸 메시지가 1이 있는 경우를 카운팅하여 새로운 메시지 갯수를 보여준다.(최대 100개)
+    // 입장 시 입장한 회원의 읽은 위치(ChatReadCursor)를 채팅방의 마지막 메시지로 옮기고 redis 의 안읽은 메시지 수를 초기화한다.(읽음 처리)
+    // 조회시에는 redis 의 안읽은 메시지 수를 한 번에 조회하고, redis 에 없는 채팅방만 읽은 위치 이후 상대방이 보낸 메시지 수를 db 에서 센다.
 
     /**
      * 채팅방 생성 메소드
@@ -71,6 +76,7 @@ public class ChatRoomService {
 
     /**
      * 채팅방 입장
+     * 입장한 회원의 읽은 위치를 채팅방의 마지막 메시지로 옮겨 읽음 처리한다.
      *
      * @param joinRequest 채팅방 입장 정보 dto
      */
@@ -79,32 +85,33 @@ public class ChatRoomService {
         ChatRoom chatRoom = chatRoomRepository.findById(joinRequest.getChatRoomId())
             .orElseThrow(() -> new ChatRoomException(ChatRoomErrorCode.NOT_FOUND_CHAT_ROOM));
 
-        List<ChatMessage> chatMessageList = chatMessageRepository.findAllByChatRoom(chatRoom);
-        if (chatMessageList != null && !chatMessageList.isEmpty()) {
-            chatMessageList.stream()
-                .filter(cm -> !cm.getSender().getUserId().equals(joinRequest.getEnterMemberId())
-                    && cm.getNotReadCount() != 0) // 상대방이 보낸 메시지 중 안 읽은 수가 0이 아닌 경우만 필터링
-                .forEach(cm -> {
-                    cm = cm.toBuilder()
-                        .notReadCount(cm.getNotReadCount() - 1) // 안 읽은 수를 -1 처리함으로써 읽음 처리
-                        .build();
-                    chatMessageRepository.save(cm);
-                });
-
-            String chatMessageKey =
-                CacheName.CHAT_MESSAGE_CACHE_NAME + "::" + joinRequest.getChatRoomId();
-            List<ChatMessageServiceDto> chatMessageServiceDtoList = chatMessageList.stream()
-                .map(ChatMessage::toServiceDto)
-                .toList();
-            chatMessageRedisTemplate.opsForList()
-                .rightPushAll(chatMessageKey, chatMessageServiceDtoList); // 채팅 메시지 redis 저장
+        Member enterMember = memberRepository.findByUserIdAndDeleteDate(
+                joinRequest.getEnterMemberId(), null)
+            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+
+        Long lastMessageId = chatMessageRepository.findLastMessageId(chatRoom);
+        if (lastMessageId != null) {
+            ChatReadCursor chatReadCursor = chatReadCursorRepository.findByChatRoomAndMember(
+                    chatRoom, enterMember)
+                .orElseGet(() -> ChatReadCursor.builder()
+                    .chatRoom(chatRoom)
+                    .member(enterMember)
+                    .build());
+            if (chatReadCursor.getId() == null
+                || chatReadCursor.getLastReadMessageId() < lastMessageId) {
+                chatReadCursorRepository.save(chatReadCursor.toBuilder()
+                    .lastReadMessageId(lastMessageId) // 마지막 메시지까지 읽음 처리
+                    .build());
+            }
         }
 
-        chatRoom = chatRoom.toBuilder()
+        chatUnreadCounter.reset(enterMember.getUserId(), chatRoom.getId());
+
+        ChatRoom enteredChatRoom = chatRoom.toBuilder()
             .chatMemberCount(chatRoom.getChatMemberCount() + 1) // 채팅방 인원 수 증가
             .notReadMessage(0) // 안읽은 메시지 수 초기화
             .build();
-        chatRoomRepository.save(chatRoom);
+        chatRoomRepository.save(enteredChatRoom);
     }
 
     /**
@@ -136,10 +143,9 @@ public class ChatRoomService {
         List<ChatMessage> chatMessageList = chatMessageRepository.findAllByChatRoom(chatRoom);
         chatMessageRepository.deleteAll(chatMessageList); // 채팅 메시지 삭제
 
-        String chatMessageKey = CacheName.CHAT_MESSAGE_CACHE_NAME + "::" + chatRoom.getId();
-        if (Boolean.TRUE.equals(chatMessageRedisTemplate.hasKey(chatMessageKey))) {
-            chatMessageRedisTemplate.delete(chatMessageKey); // 채팅 메시지 캐시 삭제
-        }
+        chatHistoryCache.evict(chatRoom.getId()); // 최근 메시지 캐시 삭제
+        chatUnreadCounter.remove(chatRoom.getId(), chatRoom.getMember().getUserId(),
+            chatRoom.getAdmin().getUserId()); // 안읽은 메시지 수 삭제
 
         chatRoom = chatRoom.toBuilder()
             .deleteDate(LocalDateTime.now())
@@ -162,7 +168,10 @@ public class ChatRoomService {
         ChatRoom chatRoom = chatRoomRepository.findByMember(member)
             .orElseThrow(() -> new ChatRoomException(ChatRoomErrorCode.NOT_FOUND_CHAT_ROOM));
 
-        return getChatRoomWithNotReadCount(verifyRequest.getVerifyMemberId(), chatRoom);
+        Map<Long, Long> notReadCountMap = getNotReadCountMap(verifyRequest.getVerifyMemberId(),
+            List.of(chatRoom));
+
+        return toServiceDtoWithNotReadCount(chatRoom, notReadCountMap);
     }
 
     /**
@@ -174,47 +183,82 @@ public class ChatRoomService {
     public Page<ChatRoomServiceDto> verifyAllChatRoom(String verifyMemberId, Pageable pageable) {
 
         Page<ChatRoom> allOfChatRoom = chatRoomRepository.findAll(pageable);
+        Map<Long, Long> notReadCountMap = getNotReadCountMap(verifyMemberId,
+            allOfChatRoom.getContent());
         List<ChatRoomServiceDto> chatRoomServiceDtoList = allOfChatRoom.getContent().stream()
-            .map(cr -> getChatRoomWithNotReadCount(verifyMemberId, cr)) // 안읽은 메시지 업데이트
+            .map(cr -> toServiceDtoWithNotReadCount(cr, notReadCountMap)) // 안읽은 메시지 업데이트
             .toList();
 
         return new PageImpl<>(chatRoomServiceDtoList, pageable, chatRoomServiceDtoList.size());
     }
 
     /**
-     * 채팅방의 채팅 메시지 중 안읽은 메시지 갯수 카운팅 메소드
+     * 커서 페이징 처리된 전체 채팅방 리스트 조회 서비스(생성 순서)
      *
      * @param verifyMemberId 채팅방 조회하는 회원 아이디
-     * @param chatRoom       조회할 채팅방
-     * @return 카운팅한 안읽은 메시지 갯수
+     * @param cursor         이전 페이지의 다음 커서(첫 페이지라면 null)
+     * @param size           페이지 크기
+     * @return 커서 페이징 처리된 전체 채팅방 dto 리스트
      */
-    private ChatRoomServiceDto getChatRoomWithNotReadCount(String verifyMemberId,
-        ChatRoom chatRoom) {
-
-        long count;
-        String chatMessageKey = CacheName.CHAT_MESSAGE_CACHE_NAME + "::" + chatRoom.getId();
-        if (Boolean.TRUE.equals(
-            chatMessageRedisTemplate.hasKey(chatMessageKey))) { // redis에 채팅 메시지가 존재하는 경우
-            List<ChatMessageServiceDto> messageServiceDtoList = chatMessageRedisTemplate.opsForList()
-                .range(chatMessageKey, 0, -1);
-            count = messageServiceDtoList.stream()
-                .filter(cmd -> !cmd.getSenderId().equals(verifyMemberId)
-                    && cmd.getNotReadCount() != 0) // 읽지 않은 메시지 최대 100개까지 카운팅
-                .limit(100)
-                .count();
-        } else { // redis에 채팅 메시지가 존재하지 않는 경우
-            List<ChatMessage> chatMessageList = chatMessageRepository.findAllByChatRoom(chatRoom);
-            count = chatMessageList.stream()
-                .filter(cm -> !cm.getSender().getUserId().equals(verifyMemberId)
-                    && cm.getNotReadCount() != 0) // 읽지 않은 메시지 최대 100개까지 카운팅
-                .limit(100)
-                .count();
+    public CursorPage<ChatRoomServiceDto> verifyAllChatRoomByCursor(String verifyMemberId,
+        String cursor, int size) {
+
+        Long lastId = CursorPage.decodeCursorId(cursor);
+        List<ChatRoom> chatRoomList = chatRoomRepository.findAllByIdGreaterThanOrderByIdAsc(
+            lastId == null ? 0L : lastId, Limit.of(size + 1));
+
+        CursorPage<ChatRoom> chatRoomPage = CursorPage.of(chatRoomList, size,
+            cr -> CursorPage.encodeCursor(cr.getId(), null));
+        Map<Long, Long> notReadCountMap = getNotReadCountMap(verifyMemberId,
+            chatRoomPage.getContent());
+
+        return chatRoomPage.map(
+            cr -> toServiceDtoWithNotReadCount(cr, notReadCountMap)); // 안읽은 메시지 업데이트
+    }
+
+    /**
+     * 채팅방들의 안읽은 메시지 갯수 조회 메소드
+     * redis 에서 한 번에 조회하고, redis 에 없는 채팅방만 조회하는 회원이 마지막으로 읽은 위치 이후
+     * 상대방이 보낸 메시지 수를 db 에서 세어 redis 에 채운다.(세는 동안 메시지를 받았다면 채우지 않는다.)
+     *
+     * @param verifyMemberId 채팅방 조회하는 회원 아이디
+     * @param chatRoomList   조회할 채팅방 리스트
+     * @return 채팅방 pk -> 안읽은 메시지 갯수
+     */
+    private Map<Long, Long> getNotReadCountMap(String verifyMemberId, List<ChatRoom> chatRoomList) {
+
+        List<Long> chatRoomIdList = chatRoomList.stream()
+            .map(ChatRoom::getId)
+            .toList();
+        Map<Long, Long> notReadCountMap = new HashMap<>(
+            chatUnreadCounter.getCounts(verifyMemberId, chatRoomIdList));
+
+        List<ChatRoom> notCountedList = chatRoomList.stream()
+            .filter(cr -> !notReadCountMap.containsKey(cr.getId()))
+            .toList();
+        if (notCountedList.isEmpty()) {
+            return notReadCountMap;
         }
 
-        chatRoom = chatRoom.toBuilder()
-            .notReadMessage(count)
-            .build();
+        Map<Long, Long> versionMap = chatUnreadCounter.getVersions(verifyMemberId,
+            notCountedList.stream().map(ChatRoom::getId).toList()); // 세기 전 버전
+        Map<Long, Long> countedMap = new HashMap<>();
+        for (ChatRoom chatRoom : notCountedList) {
+            countedMap.put(chatRoom.getId(),
+                chatMessageRepository.countNotReadMessage(chatRoom, verifyMemberId));
+        }
+        chatUnreadCounter.initCounts(verifyMemberId, countedMap, versionMap);
+        notReadCountMap.putAll(countedMap);
 
-        return chatRoomRepository.save(chatRoom).toServiceDto();
+        return notReadCountMap;
+    }
+
+    // 채팅방 dto 에 안읽은 메시지 갯수를 담아 변환
+    private ChatRoomServiceDto toServiceDtoWithNotReadCount(ChatRoom chatRoom,
+        Map<Long, Long> notReadCountMap) {
+
+        return chatRoom.toServiceDto().toBuilder()
+            .notReadMessage(notReadCountMap.getOrDefault(chatRoom.getId(), 0L))
+            .build();
     }
 }
@@ -0,0 +1,186 @@
+package com.jh.movieticket.chat.service;
+
+import com.jh.movieticket.config.AfterCommit;
+import com.jh.movieticket.config.RedisScripts;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+// 회원별, 채팅방별 안읽은 메시지 수를 redis hash(chatUnread:{회원 아이디} -> 채팅방 pk -> 수)로 관리하는 컴포넌트
+// 필드가 있는 채팅방만 메시지 수신 시 증가시키며, 필드가 없는 채팅방은 조회 시 db 로 센 값으로 채운다.
+// 필드가 없는 채팅방의 증가 요청은 버전({채팅방 pk}:version)만 올리고, 세는 동안 버전이 바뀌었다면 센 값을 저장하지 않는다.(lost update 방지)
+// redis 반영은 커밋 후에 하며 실패해도 본 작업은 실패시키지 않는다.(조회 시 db 로 다시 센다.)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+    private static final String KEY_PREFIX = "chatUnread:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = RedisScripts.load(
+        "scripts/chat-unread-increment.lua");
+    private static final DefaultRedisScript<Long> INIT_SCRIPT = RedisScripts.load(
+        "scripts/chat-unread-init.lua");
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 메시지를 받은 회원의 안읽은 메시지 수 증가
+     *
+     * @param userId     메시지를 받은 회원 아이디
+     * @param chatRoomId 채팅방 pk
+     */
+    public void increment(String userId, Long chatRoomId) {
+
+        increment(userId, chatRoomId, 1);
+    }
+
+    /**
+     * 메시지를 받은 회원의 안읽은 메시지 수를 받은 메시지 수만큼 증가
+     *
+     * @param userId     메시지를 받은 회원 아이디
+     * @param chatRoomId 채팅방 pk
+     * @param amount     받은 메시지 수
+     */
+    public void increment(String userId, Long chatRoomId, long amount) {
+
+        AfterCommit.run("안읽은 메시지 수 갱신 실패",
+            () -> stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)),
+                String.valueOf(chatRoomId), String.valueOf(amount)));
+    }
+
+    /**
+     * 채팅방에 입장한 회원의 안읽은 메시지 수 초기화
+     *
+     * @param userId     입장한 회원 아이디
+     * @param chatRoomId 채팅방 pk
+     */
+    public void reset(String userId, Long chatRoomId) {
+
+        AfterCommit.run("안읽은 메시지 수 갱신 실패", () -> stringRedisTemplate.opsForHash()
+            .put(key(userId), String.valueOf(chatRoomId), "0"));
+    }
+
+    /**
+     * 삭제된 채팅방의 안읽은 메시지 수 제거
+     *
+     * @param chatRoomId 채팅방 pk
+     * @param userIds    채팅방 회원 아이디들
+     */
+    public void remove(Long chatRoomId, String... userIds) {
+
+        AfterCommit.run("안읽은 메시지 수 갱신 실패", () -> {
+            for (String userId : userIds) {
+                stringRedisTemplate.opsForHash().delete(key(userId), String.valueOf(chatRoomId),
+                    chatRoomId + VERSION_SUFFIX);
+            }
+        });
+    }
+
+    /**
+     * 여러 채팅방의 안읽은 메시지 수를 HMGET 한 번으로 조회
+     *
+     * @param userId        조회하는 회원 아이디
+     * @param chatRoomIdList 채팅방 pk 리스트
+     * @return 채팅방 pk -> 안읽은 메시지 수(세고 있지 않거나 redis 장애로 알 수 없는 채팅방은 제외)
+     */
+    public Map<Long, Long> getCounts(String userId, List<Long> chatRoomIdList) {
+
+        Map<Long, Long> countMap = new HashMap<>();
+        if (chatRoomIdList.isEmpty()) {
+            return countMap;
+        }
+
+        List<Object> fieldList = new ArrayList<>(chatRoomIdList.size());
+        chatRoomIdList.forEach(id -> fieldList.add(String.valueOf(id)));
+
+        try {
+            List<Object> valueList = stringRedisTemplate.opsForHash()
+                .multiGet(key(userId), fieldList);
+            for (int i = 0; i < chatRoomIdList.size(); i++) {
+                Object value = valueList.get(i);
+                if (value != null) {
+                    countMap.put(chatRoomIdList.get(i), Long.parseLong((String) value));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("안읽은 메시지 수 조회 실패 userId={}", userId, e);
+        }
+
+        return countMap;
+    }
+
+    /**
+     * db 로 세기 전에 세지 않는 채팅방들의 버전을 HMGET 한 번으로 조회
+     *
+     * @param userId         조회하는 회원 아이디
+     * @param chatRoomIdList 채팅방 pk 리스트
+     * @return 채팅방 pk -> 버전(redis 장애 시 빈 결과)
+     */
+    public Map<Long, Long> getVersions(String userId, List<Long> chatRoomIdList) {
+
+        Map<Long, Long> versionMap = new HashMap<>();
+        if (chatRoomIdList.isEmpty()) {
+            return versionMap;
+        }
+
+        List<Object> fieldList = new ArrayList<>(chatRoomIdList.size());
+        chatRoomIdList.forEach(id -> fieldList.add(id + VERSION_SUFFIX));
+
+        try {
+            List<Object> valueList = stringRedisTemplate.opsForHash()
+                .multiGet(key(userId), fieldList);
+            for (int i = 0; i < chatRoomIdList.size(); i++) {
+                Object value = valueList.get(i);
+                versionMap.put(chatRoomIdList.get(i),
+                    value == null ? 0L : Long.parseLong((String) value));
+            }
+        } catch (RuntimeException e) {
+            log.error("안읽은 메시지 수 버전 조회 실패 userId={}", userId, e);
+        }
+
+        return versionMap;
+    }
+
+    /**
+     * db 로 센 안읽은 메시지 수를 한 번에 저장
+     * 그 사이 다른 요청이 먼저 저장했거나, 세는 동안 증가 요청이 있었던(버전이 바뀐) 채팅방은 저장하지 않는다.
+     *
+     * @param userId     조회한 회원 아이디
+     * @param countMap   채팅방 pk -> 안읽은 메시지 수
+     * @param versionMap 채팅방 pk -> 세기 전에 조회한 버전(버전이 없는 채팅방은 저장하지 않음)
+     */
+    public void initCounts(String userId, Map<Long, Long> countMap, Map<Long, Long> versionMap) {
+
+        List<String> argList = new ArrayList<>();
+        countMap.forEach((chatRoomId, count) -> {
+            Long version = versionMap.get(chatRoomId);
+            if (version != null) {
+                argList.add(String.valueOf(chatRoomId));
+                argList.add(String.valueOf(count));
+                argList.add(String.valueOf(version));
+            }
+        });
+
+        if (argList.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute(INIT_SCRIPT, List.of(key(userId)), argList.toArray());
+        } catch (RuntimeException e) {
+            log.error("안읽은 메시지 수 저장 실패 userId={}", userId, e);
+        }
+    }
+
+    private String key(String userId) {
+
+        return KEY_PREFIX + userId;
+    }
+}
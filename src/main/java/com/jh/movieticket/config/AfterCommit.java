@@ -0,0 +1,43 @@
+package com.jh.movieticket.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션이 있다면 커밋 후, 없다면 즉시 실행
+// 커밋 후 부가 작업(redis, 메모리 색인 갱신)의 실패가 이미 커밋된 db 변경을 실패시키지 않도록 예외는 로그만 남긴다.
+@Slf4j
+public class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 커밋 후 작업 실행
+     *
+     * @param failMessage 작업 실패 시 남길 로그 메시지
+     * @param task        실행할 작업
+     */
+    public static void run(String failMessage, Runnable task) {
+
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error(failMessage, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeTask.run();
+            }
+        });
+    }
+}
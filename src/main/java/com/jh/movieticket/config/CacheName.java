@@ -6,4 +6,6 @@ public class CacheName {
     public static final String MOVIE_CACHE_NAME = "movie";
     public static final String THEATER_CACHE_NAME = "theater";
     public static final String CHAT_MESSAGE_CACHE_NAME = "chatMessage";
+    public static final String CHAT_HISTORY_CACHE_NAME = "chatHistory"; // 이전 json 형식의 chatMessage 키와 섞이지 않도록 분리
+    public static final String MOVIE_SEARCH_CACHE_NAME = "movieSearch";
 }
@@ -0,0 +1,130 @@
+package com.jh.movieticket.config;
+
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import com.jh.movieticket.movie.service.MovieService;
+import com.jh.movieticket.theater.dto.TheaterServiceDto;
+import com.jh.movieticket.theater.service.TheaterService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 서버 시작 시 상영 중, 상영 예정 영화와 전체 상영관을 캐시에 미리 채우는 컴포넌트
+// ApplicationRunner 가 끝난 후에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로 예열이 끝나기 전에는 트래픽을 받지 않는다.
+// 예열 실패나 시간 초과는 로그만 남기고 서버 시작은 계속한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private static final List<ScreenType> WARM_UP_SCREEN_TYPES = List.of(ScreenType.NOW,
+        ScreenType.EXPECTED);
+
+    private final MovieRepository movieRepository;
+    private final MovieService movieService;
+    private final TheaterService theaterService;
+    private final CacheManager redisCacheManager;
+    private final int batchSize; // 한 번에 조회할 영화 수
+    private final int threads; // 동시에 예열할 배치 수
+    private final long timeoutSeconds; // 예열 최대 대기 시간
+
+    public CacheWarmUpRunner(MovieRepository movieRepository, MovieService movieService,
+        TheaterService theaterService, CacheManager redisCacheManager,
+        @Value("${cache.warm-up.batch-size:100}") int batchSize,
+        @Value("${cache.warm-up.threads:4}") int threads,
+        @Value("${cache.warm-up.timeout-seconds:60}") long timeoutSeconds) {
+
+        this.movieRepository = movieRepository;
+        this.movieService = movieService;
+        this.theaterService = theaterService;
+        this.redisCacheManager = redisCacheManager;
+        this.batchSize = batchSize;
+        this.threads = threads;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        long start = System.currentTimeMillis();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Integer>> futureList = new ArrayList<>();
+            futureList.add(CompletableFuture.supplyAsync(this::warmUpTheaters, executorService));
+
+            List<String> titleList = movieRepository.findTitlesByScreenTypeIn(
+                WARM_UP_SCREEN_TYPES);
+            for (int from = 0; from < titleList.size(); from += batchSize) {
+                List<String> batch = titleList.subList(from,
+                    Math.min(from + batchSize, titleList.size()));
+                futureList.add(
+                    CompletableFuture.supplyAsync(() -> warmUpMovies(batch), executorService));
+            }
+
+            CompletableFuture.allOf(futureList.toArray(CompletableFuture[]::new))
+                .get(timeoutSeconds, TimeUnit.SECONDS);
+            int warmUpCnt = futureList.stream()
+                .mapToInt(CompletableFuture::join)
+                .sum();
+            log.info("캐시 예열 완료 {}건, {}ms", warmUpCnt, System.currentTimeMillis() - start);
+        } catch (TimeoutException e) {
+            log.warn("캐시 예열 시간 초과 {}초, 예열을 마치지 않고 시작합니다.", timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("캐시 예열 실패", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 영화 캐시 예열
+     * redis 에 있는 영화는 MGET 으로, 없는 영화만 db 에서 조회하여 redis 에 채운 후 로컬 캐시에도 채운다.
+     *
+     * @param titleList 예열할 영화 제목 리스트
+     * @return 예열한 영화 수
+     */
+    private int warmUpMovies(List<String> titleList) {
+
+        List<MovieServiceDto> movieServiceDtoList = movieService.verifyMovies(titleList);
+
+        if (redisCacheManager.getCache(CacheName.MOVIE_CACHE_NAME) instanceof TwoLevelCache cache) {
+            movieServiceDtoList.forEach(dto -> cache.putLocal(dto.getTitle(), dto));
+        }
+
+        return movieServiceDtoList.size();
+    }
+
+    /**
+     * 상영관 캐시 예열, 이미 redis 에 있는 상영관은 덮어쓰지 않는다.
+     *
+     * @return 예열한 상영관 수
+     */
+    private int warmUpTheaters() {
+
+        Cache cache = redisCacheManager.getCache(CacheName.THEATER_CACHE_NAME);
+        if (cache == null) {
+            return 0;
+        }
+
+        List<TheaterServiceDto> theaterServiceDtoList = theaterService.verifyAll();
+        theaterServiceDtoList.forEach(dto -> cache.putIfAbsent(dto.getName(), dto));
+
+        return theaterServiceDtoList.size();
+    }
+}
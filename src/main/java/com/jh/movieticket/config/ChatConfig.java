@@ -28,7 +28,9 @@ public class ChatConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
 
-        registry.enableSimpleBroker("/sub"); // 메시지를 구독(수신)하는 요청 엔트포인트
+        // 메시지를 구독(수신)하는 요청 엔트포인트
+        // 각 서버의 simple broker 는 자신에게 연결된 구독자에게만 보내므로 여러 서버에서는 MessageBroadcaster(chat.broker.mode: redis)로 보낸다.
+        registry.enableSimpleBroker("/sub");
         registry.setApplicationDestinationPrefixes("/pub"); // 메시지를 발송하는 엔드포인트
     }
 
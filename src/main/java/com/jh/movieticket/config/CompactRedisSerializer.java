@@ -0,0 +1,105 @@
+package com.jh.movieticket.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// 캐시 dto 를 타입 정보 없이 바이너리(smile)로 직렬화하는 redis 직렬화기
+// 직렬화 결과가 기준 크기 이상이면 lz4 로 압축하여 저장한다.
+// 저장 형식 : 첫 바이트가 형식(0: 비압축, 1: lz4 압축), 압축된 경우 이어서 원본 길이(4바이트)와 압축된 데이터
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte FORMAT_PLAIN = 0;
+    private static final byte FORMAT_LZ4 = 1;
+    private static final int LZ4_HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+        .registerModule(new JavaTimeModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // dto 필드 추가 후에도 기존 캐시를 읽을 수 있도록
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private final Class<T> type; // 직렬화할 dto 타입
+    private final int compressThreshold; // 압축을 시도할 최소 바이트 수
+    private final LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4_FACTORY.fastDecompressor();
+
+    public CompactRedisSerializer(Class<T> type, int compressThreshold) {
+
+        this.type = type;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] encoded;
+        try {
+            encoded = SMILE_MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 직렬화 실패 type=" + type.getSimpleName(), e);
+        }
+
+        if (encoded.length >= compressThreshold) {
+            byte[] compressed = compressor.compress(encoded);
+            if (compressed.length + LZ4_HEADER_SIZE < encoded.length + 1) { // 압축 효과가 있는 경우만 압축본 저장
+                return ByteBuffer.allocate(LZ4_HEADER_SIZE + compressed.length)
+                    .put(FORMAT_LZ4)
+                    .putInt(encoded.length)
+                    .put(compressed)
+                    .array();
+            }
+        }
+
+        return ByteBuffer.allocate(1 + encoded.length)
+            .put(FORMAT_PLAIN)
+            .put(encoded)
+            .array();
+    }
+
+    /**
+     * 바이트 배열을 dto 로 역직렬화
+     * 형식을 알 수 없는 값(이전 json 형식으로 저장된 캐시 등)은 캐시에 없는 것으로 보고 null 리턴
+     */
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            if (bytes[0] == FORMAT_PLAIN) {
+                return SMILE_MAPPER.readValue(bytes, 1, bytes.length - 1, type);
+            }
+
+            if (bytes[0] == FORMAT_LZ4 && bytes.length > LZ4_HEADER_SIZE) {
+                int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                byte[] decompressed = decompressor.decompress(bytes, LZ4_HEADER_SIZE,
+                    originalLength);
+                return SMILE_MAPPER.readValue(decompressed, type);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 역직렬화 실패 type=" + type.getSimpleName(), e);
+        }
+
+        return null;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+
+        return type;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jh.movieticket.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 커서 기반 페이징 응답 형식
+// 커서는 마지막 항목의 pk 와 정렬 기준 값을 base64 로 감싼 문자열로, 클라이언트는 그대로 다음 요청에 전달한다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class CursorPage<T> {
+
+    private static final String CURSOR_DELIMITER = ":";
+
+    private List<T> content; // 조회된 데이터
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 조회용 커서(다음 페이지가 없다면 null)
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 커서 페이지 생성
+     *
+     * @param fetchedList 페이지 크기 + 1 개까지 조회한 결과
+     * @param size        페이지 크기
+     * @param cursorOf    항목 -> 커서 변환 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> fetchedList, int size,
+        Function<T, String> cursorOf) {
+
+        boolean hasNext = fetchedList.size() > size;
+        List<T> content = hasNext ? fetchedList.subList(0, size) : fetchedList;
+
+        return CursorPage.<T>builder()
+            .content(content)
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+            .build();
+    }
+
+    /**
+     * 항목 타입 변환
+     *
+     * @param mapper 변환 함수
+     * @return 변환된 커서 페이지
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+
+        return CursorPage.<R>builder()
+            .content(content.stream().map(mapper).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * 커서 생성
+     *
+     * @param id        마지막 항목의 pk
+     * @param sortValue 마지막 항목의 정렬 기준 값(pk 로만 정렬하는 경우 null)
+     * @return 커서
+     */
+    public static String encodeCursor(Long id, Object sortValue) {
+
+        String raw = id + CURSOR_DELIMITER + (sortValue == null ? "" : sortValue);
+
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서에서 pk 추출
+     *
+     * @param cursor 커서(첫 페이지라면 null)
+     * @return 마지막 항목의 pk, 첫 페이지라면 null
+     */
+    public static Long decodeCursorId(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(decode(cursor)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 커서에서 정렬 기준 값 추출
+     *
+     * @param cursor 커서(첫 페이지라면 null)
+     * @return 마지막 항목의 정렬 기준 값, 첫 페이지라면 null
+     */
+    public static String decodeCursorSortValue(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        return decode(cursor)[1];
+    }
+
+    // base64 해제 후 pk, 정렬 기준 값으로 분리
+    private static String[] decode(String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_DELIMITER, 2);
+            if (parts.length != 2) {
+                throw new InvalidCursorException();
+            }
+
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
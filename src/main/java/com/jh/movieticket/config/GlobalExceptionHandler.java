@@ -6,7 +6,9 @@ import com.jh.movieticket.mail.exception.MailException;
 import com.jh.movieticket.member.exception.MemberException;
 import com.jh.movieticket.movie.exception.MovieException;
 import com.jh.movieticket.movie.exception.PosterException;
+import com.jh.movieticket.reservation.exception.ReservationException;
 import com.jh.movieticket.theater.exception.TheaterException;
+import com.jh.movieticket.waiting.exception.WaitingException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.ArrayList;
@@ -194,6 +196,40 @@ public class GlobalExceptionHandler {
                 e.getPosterErrorCode().getMessage()));
     }
 
+    // 예매 관련 에러 핸들러 -> 400 에러
+    @ExceptionHandler(ReservationException.class)
+    private ResponseEntity<GlobalApiResponse<?>> handleReservationException(
+        ReservationException e) {
+
+        log.error("예매 관련 exception", e);
+
+        return ResponseEntity.badRequest()
+            .body(GlobalApiResponse.toGlobalResponseFail(HttpStatus.BAD_REQUEST,
+                e.getReservationErrorCode().getMessage()));
+    }
+
+    // 대기열 관련 에러 핸들러 -> 400 에러
+    @ExceptionHandler(WaitingException.class)
+    private ResponseEntity<GlobalApiResponse<?>> handleWaitingException(WaitingException e) {
+
+        log.error("대기열 관련 exception", e);
+
+        return ResponseEntity.badRequest()
+            .body(GlobalApiResponse.toGlobalResponseFail(HttpStatus.BAD_REQUEST,
+                e.getWaitingErrorCode().getMessage()));
+    }
+
+    // 커서 페이징의 커서가 올바르지 않은 경우 에러 핸들러 -> 400 에러
+    @ExceptionHandler(InvalidCursorException.class)
+    private ResponseEntity<GlobalApiResponse<?>> handleInvalidCursorException(
+        InvalidCursorException e) {
+
+        log.error("커서 관련 exception", e);
+
+        return ResponseEntity.badRequest()
+            .body(GlobalApiResponse.toGlobalResponseFail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
     // 예상하지 못한 에러 핸들러 -> 500 에러
     @ExceptionHandler(Exception.class)
     private ResponseEntity<GlobalApiResponse<?>> handleUnexpectedException(Exception e) {
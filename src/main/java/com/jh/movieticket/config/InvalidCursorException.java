@@ -0,0 +1,9 @@
+package com.jh.movieticket.config;
+
+// 커서 페이징 요청의 커서가 올바르지 않은 경우
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("올바르지 않은 커서입니다.");
+    }
+}
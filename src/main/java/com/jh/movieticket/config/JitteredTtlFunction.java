@@ -0,0 +1,40 @@
+package com.jh.movieticket.config;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.data.redis.cache.RedisCacheWriter.TtlFunction;
+
+// 캐시 수명에 무작위 편차를 주는 ttl 함수
+// 같은 시각에 저장된 캐시들이 같은 시각에 만료되어 db 조회가 한꺼번에 몰리지 않도록 수명을 기준 ± 편차 범위로 흩뜨린다.
+public class JitteredTtlFunction implements TtlFunction {
+
+    private final long baseMillis; // 기준 수명
+    private final long jitterMillis; // 최대 편차
+
+    public JitteredTtlFunction(Duration baseTtl, double jitterRatio) {
+
+        this.baseMillis = baseTtl.toMillis();
+        this.jitterMillis = (long) (baseMillis * Math.max(0, Math.min(jitterRatio, 1)));
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+
+        return next();
+    }
+
+    /**
+     * 기준 수명 ± 편차 범위의 무작위 수명
+     *
+     * @return 캐시 수명
+     */
+    public Duration next() {
+
+        if (jitterMillis == 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+
+        return Duration.ofMillis(baseMillis - jitterMillis
+            + ThreadLocalRandom.current().nextLong(2 * jitterMillis + 1));
+    }
+}
@@ -0,0 +1,14 @@
+package com.jh.movieticket.config;
+
+// 웹소켓 구독자에게 메시지를 보내는 인터페이스
+// chat.broker.mode 에 따라 단일 서버용(simple) 또는 redis pub/sub 으로 모든 서버의 구독자에게 보내는 구현(redis)을 사용한다.
+public interface MessageBroadcaster {
+
+    /**
+     * 구독 주소의 구독자에게 메시지 발송
+     *
+     * @param destination 구독 주소(/sub/...)
+     * @param payload     보낼 메시지
+     */
+    void broadcast(String destination, Object payload);
+}
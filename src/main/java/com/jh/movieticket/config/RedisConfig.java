@@ -1,9 +1,16 @@
 package com.jh.movieticket.config;
 
 import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
+import com.jh.movieticket.member.dto.MemberServiceDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.service.MovieSearchIndex;
+import com.jh.movieticket.reservation.service.SeatInventoryService;
+import com.jh.movieticket.theater.dto.TheaterServiceDto;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -12,8 +19,13 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 // redis 설정
@@ -26,20 +38,109 @@ public class RedisConfig {
     @Value("${spring.data.redis.host}")
     private String host;
 
+    @Value("${cache.local.max-size:10000}")
+    private long localCacheMaxSize;
+
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localCacheTtlSeconds;
+
+    // 자주 조회되는 카탈로그성 캐시는 로컬 캐시를 앞에 두어 redis 왕복을 줄인다.
+    private static final Set<String> LOCAL_CACHE_NAMES = Set.of(CacheName.MOVIE_CACHE_NAME,
+        CacheName.THEATER_CACHE_NAME, CacheName.MEMBER_CACHE_NAME);
+
+    @Value("${cache.serializer.compress-threshold-bytes:1024}")
+    private int compressThreshold;
+
+    @Value("${cache.ttl-minutes:30}")
+    private long cacheTtlMinutes;
+
+    @Value("${cache.ttl-jitter-ratio:0.1}")
+    private double cacheTtlJitterRatio;
+
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+        StringRedisTemplate stringRedisTemplate) {
 
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
                 new StringRedisSerializer())) // key serializer
             .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                 new GenericJackson2JsonRedisSerializer())) // value serializer
-            .entryTtl(Duration.ofMinutes(30));// 캐시 수명
-
-        return RedisCacheManager.RedisCacheManagerBuilder
+            .entryTtl(cacheTtlFunction()); // 캐시 수명(만료 시각이 몰리지 않도록 편차 적용)
+
+        // 캐시 이름별 값 직렬화기, 지정하지 않은 캐시는 기본(json) 직렬화기 사용
+        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
+            CacheName.MOVIE_CACHE_NAME, configuration.serializeValuesWith(
+                SerializationPair.fromSerializer(movieCacheSerializer())),
+            CacheName.MEMBER_CACHE_NAME, configuration.serializeValuesWith(
+                SerializationPair.fromSerializer(
+                    new CompactRedisSerializer<>(MemberServiceDto.class, compressThreshold))),
+            CacheName.THEATER_CACHE_NAME, configuration.serializeValuesWith(
+                SerializationPair.fromSerializer(
+                    new CompactRedisSerializer<>(TheaterServiceDto.class, compressThreshold))));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
             .fromConnectionFactory(redisConnectionFactory)
             .cacheDefaults(configuration)
+            .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, LOCAL_CACHE_NAMES,
+            localCacheMaxSize, Duration.ofSeconds(localCacheTtlSeconds));
+    }
+
+    // 다른 서버의 캐시 변경을 받아 로컬 캐시를 무효화하는 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager redisCacheManager) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisCacheManager,
+            new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+
+        return container;
+    }
+
+    // 다른 서버의 좌석 상태 변경을 받아 이 서버의 좌석 비트맵에 반영하는 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer seatStatusListenerContainer(
+        RedisConnectionFactory redisConnectionFactory, SeatInventoryService seatInventoryService) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(seatInventoryService,
+            new ChannelTopic(SeatInventoryService.SEAT_STATUS_CHANNEL));
+
+        return container;
+    }
+
+    // 다른 서버의 영화 변경을 받아 이 서버의 영화 검색 색인에 반영하는 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer movieSearchIndexListenerContainer(
+        RedisConnectionFactory redisConnectionFactory, MovieSearchIndex movieSearchIndex) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(movieSearchIndex,
+            new ChannelTopic(MovieSearchIndex.INDEX_CHANGE_CHANNEL));
+
+        return container;
+    }
+
+    // 다른 서버가 보낸 웹소켓 메시지를 받아 이 서버의 구독자에게 보내는 구독 컨테이너(chat.broker.mode: redis)
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer messageBroadcastListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        RedisMessageBroadcaster redisMessageBroadcaster) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisMessageBroadcaster,
+            new ChannelTopic(RedisMessageBroadcaster.BROADCAST_CHANNEL));
+
+        return container;
     }
 
     @Bean
@@ -54,13 +155,33 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    public JitteredTtlFunction cacheTtlFunction() {
+
+        return new JitteredTtlFunction(Duration.ofMinutes(cacheTtlMinutes), cacheTtlJitterRatio);
+    }
+
+    // 영화 캐시를 redis 에서 직접 여러 건 조회/저장할 때 사용(영화 캐시와 같은 직렬화기)
+    @Bean
+    public RedisTemplate<String, MovieServiceDto> movieCacheRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory) {
+
+        RedisTemplate<String, MovieServiceDto> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(movieCacheSerializer());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        return redisTemplate;
+    }
+
     @Bean
     public RedisTemplate<String, ChatMessageServiceDto> chatMessateRedisTemplate(
         RedisConnectionFactory redisConnectionFactory) {
 
         RedisTemplate<String, ChatMessageServiceDto> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(
+            new CompactRedisSerializer<>(ChatMessageServiceDto.class, compressThreshold));
         redisTemplate.setConnectionFactory(redisConnectionFactory);
 
         return redisTemplate;
@@ -75,4 +196,10 @@ public class RedisConfig {
 
         return new LettuceConnectionFactory(redisStandaloneConfiguration);
     }
-}
\ No newline at end of file
+
+    // 영화 캐시 값 직렬화기(설명이 길어 압축 효과가 큼)
+    private RedisSerializer<MovieServiceDto> movieCacheSerializer() {
+
+        return new CompactRedisSerializer<>(MovieServiceDto.class, compressThreshold);
+    }
+}
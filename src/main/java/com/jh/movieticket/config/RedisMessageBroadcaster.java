@@ -0,0 +1,80 @@
+package com.jh.movieticket.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+// 여러 서버용 메시지 발송
+// 이 서버의 구독자에게 바로 보낸 후 redis pub/sub 으로 다른 서버에 알리고, 알림을 받은 서버는 자신의 구독자에게 보낸다.
+// 메시지 형식 : {"origin": 보낸 서버, "destination": 구독 주소, "payload": 메시지(json)}
+// 모든 서버가 같은 json 을 보내도록 이 서버의 구독자에게도 json 으로 변환한 메시지를 보낸다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisMessageBroadcaster implements MessageBroadcaster, MessageListener {
+
+    public static final String BROADCAST_CHANNEL = "stompBroadcast"; // 서버 간 메시지 전달 채널
+
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 메시지 구분용
+
+    public RedisMessageBroadcaster(SimpMessageSendingOperations simpMessageSendingOperations,
+        StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+
+        this.simpMessageSendingOperations = simpMessageSendingOperations;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이 서버의 구독자에게 보낸 후 다른 서버에 알림
+     * 알림에 실패해도 이 서버의 구독자에게는 이미 보냈으므로 로그만 남긴다.
+     */
+    @Override
+    public void broadcast(String destination, Object payload) {
+
+        JsonNode payloadNode = objectMapper.valueToTree(payload);
+        simpMessageSendingOperations.convertAndSend(destination, payloadNode);
+
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode()
+                .put("origin", nodeId)
+                .put("destination", destination);
+            envelope.set("payload", payloadNode);
+            stringRedisTemplate.convertAndSend(BROADCAST_CHANNEL,
+                objectMapper.writeValueAsString(envelope));
+        } catch (IOException | RuntimeException e) {
+            log.error("다른 서버에 메시지 전달 실패 destination={}", destination, e);
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 메시지를 이 서버의 구독자에게 발송, 자신이 보낸 메시지는 무시
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        try {
+            JsonNode envelope = objectMapper.readTree(message.getBody());
+            if (nodeId.equals(envelope.path("origin").asText())) {
+                return;
+            }
+
+            simpMessageSendingOperations.convertAndSend(envelope.path("destination").asText(),
+                envelope.get("payload"));
+        } catch (IOException | RuntimeException e) {
+            log.error("다른 서버의 메시지 발송 실패", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.jh.movieticket.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+// classpath 의 lua 스크립트(resources/scripts)를 redis 스크립트로 읽어오는 유틸
+public class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    /**
+     * 정수를 반환하는 lua 스크립트 로드
+     *
+     * @param path classpath 기준 스크립트 경로
+     * @return redis 스크립트
+     */
+    public static DefaultRedisScript<Long> load(String path) {
+
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+
+        return script;
+    }
+}
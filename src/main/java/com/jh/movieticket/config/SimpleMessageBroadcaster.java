@@ -0,0 +1,21 @@
+package com.jh.movieticket.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+// 단일 서버용 메시지 발송, 이 서버에 연결된 구독자에게만 보낸다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleMessageBroadcaster implements MessageBroadcaster {
+
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+
+        simpMessageSendingOperations.convertAndSend(destination, payload);
+    }
+}
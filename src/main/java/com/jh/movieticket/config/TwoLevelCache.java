@@ -0,0 +1,206 @@
+package com.jh.movieticket.config;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+// 로컬(caffeine) 캐시를 redis 캐시 앞에 두는 2단계 캐시
+// 조회는 로컬 캐시에서 먼저 찾고 없을 때만 redis 에서 찾아 로컬 캐시에 채운다.
+// 변경(put, evict, clear)은 redis 와 로컬 캐시에 반영한 후 다른 서버의 로컬 캐시를 무효화하도록 알린다.
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name; // 캐시 이름
+    private final Cache redisCache; // 2단계 redis 캐시
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache; // 1단계 로컬 캐시(키는 문자열로 통일)
+    private final Consumer<String> invalidationPublisher; // 다른 서버에 무효화할 키를 알림(null 이면 전체)
+    private final Map<String, CompletableFuture<Object>> inFlightMap = new ConcurrentHashMap<>(); // 키별 불러오는 중인 요청
+
+    public TwoLevelCache(String name, Cache redisCache,
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+        Consumer<String> invalidationPublisher) {
+
+        super(true);
+        this.name = name;
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+
+        String localKey = toLocalKey(key);
+        Object storeValue = localCache.getIfPresent(localKey);
+        if (storeValue != null) {
+            return storeValue;
+        }
+
+        ValueWrapper redisValue = redisCache.get(key);
+        if (redisValue == null) {
+            return null;
+        }
+
+        storeValue = toStoreValue(redisValue.get());
+        localCache.put(localKey, storeValue);
+
+        return storeValue;
+    }
+
+    /**
+     * 캐시에 없다면 valueLoader 로 불러와 저장 후 리턴(@Cacheable(sync = true))
+     * 같은 키를 동시에 요청하면 먼저 온 요청 하나만 불러오고 나머지는 그 결과를 기다려 db 조회가 몰리지 않게 한다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+
+        String localKey = toLocalKey(key);
+        Object storeValue = localCache.getIfPresent(localKey);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightMap.putIfAbsent(localKey, flight);
+        if (inFlight != null) { // 다른 요청이 불러오는 중인 경우 결과를 기다림
+            return (T) fromStoreValue(await(key, valueLoader, inFlight));
+        }
+
+        try {
+            storeValue = load(key, localKey, valueLoader);
+            flight.complete(storeValue);
+            return (T) fromStoreValue(storeValue);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightMap.remove(localKey, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), toStoreValue(value));
+        invalidationPublisher.accept(toLocalKey(key));
+    }
+
+    /**
+     * redis 캐시에 없을 때만 저장하고 로컬 캐시에는 redis 에 남은 값을 채운다.
+     * 기존 값을 바꾸지 않으므로 다른 서버에 무효화를 알리지 않는다.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        localCache.put(toLocalKey(key), toStoreValue(existing == null ? value : existing.get()));
+
+        return existing;
+    }
+
+    /**
+     * 로컬 캐시에만 저장(redis 에 이미 저장된 값으로 로컬 캐시를 채울 때 사용)
+     *
+     * @param key   캐시 키
+     * @param value 캐시 값
+     */
+    public void putLocal(Object key, Object value) {
+
+        localCache.put(toLocalKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+
+        redisCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.accept(toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    /**
+     * 다른 서버에서 변경된 키를 로컬 캐시에서만 제거
+     *
+     * @param key 제거할 키(null 이면 전체 제거)
+     */
+    public void evictLocal(String key) {
+
+        if (key == null) {
+            localCache.invalidateAll();
+            return;
+        }
+
+        localCache.invalidate(key);
+    }
+
+    // redis 캐시 키와 같은 문자열 형태로 로컬 캐시 키 생성
+    private String toLocalKey(Object key) {
+
+        return String.valueOf(key);
+    }
+
+    // redis 캐시에서 찾고 없다면 valueLoader 로 불러와 redis 캐시에 없을 때만 저장, 결과는 로컬 캐시에 채운다.
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+
+        Object storeValue;
+        ValueWrapper redisValue = redisCache.get(key);
+        if (redisValue != null) {
+            storeValue = toStoreValue(redisValue.get());
+        } else {
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            // db 에서 새로 불러온 값이므로 다른 서버에 무효화를 알리지 않는다.
+            // 불러오는 동안 다른 요청이 저장한 값이 있다면 더 최신 값이므로 덮어쓰지 않고 그 값을 사용한다.
+            ValueWrapper existingValue = redisCache.putIfAbsent(key, value);
+            storeValue = toStoreValue(existingValue != null ? existingValue.get() : value);
+        }
+
+        localCache.put(localKey, storeValue);
+
+        return storeValue;
+    }
+
+    // 먼저 온 요청의 결과를 기다림, 먼저 온 요청이 실패했다면 같은 예외를 던진다.
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jh.movieticket.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 지정한 캐시는 로컬(caffeine) + redis 2단계 캐시로, 나머지 캐시는 redis 캐시로 제공하는 캐시 매니저
+// 2단계 캐시가 변경되면 redis pub/sub 으로 다른 서버에 알려 각 서버의 로컬 캐시를 무효화한다.
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cacheInvalidation"; // 로컬 캐시 무효화 채널
+    private static final String SEPARATOR = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Set<String> localCacheNames; // 2단계 캐시로 제공할 캐시 이름
+    private final long localMaxSize; // 캐시별 로컬 캐시 최대 개수
+    private final Duration localTtl; // 로컬 캐시 수명(무효화 메시지 유실 시 최대 불일치 시간)
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 무효화 메시지 구분용
+    private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+        StringRedisTemplate stringRedisTemplate, Set<String> localCacheNames, long localMaxSize,
+        Duration localTtl) {
+
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCacheNames = localCacheNames;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.redisCacheManager.initializeCaches();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+
+        Cache cache = cacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+
+        return cacheMap.computeIfAbsent(name, n -> localCacheNames.contains(n)
+            ? new TwoLevelCache(n, redisCache, Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .build(), key -> publishInvalidation(n, key))
+            : redisCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 서버에서 보낸 무효화 메시지를 받아 로컬 캐시에서 제거
+     * 메시지 형식 : 서버 id|캐시 이름|키 (키가 없다면 캐시 전체)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) { // 잘못된 메시지이거나 자신이 보낸 메시지인 경우
+            return;
+        }
+
+        if (cacheMap.get(parts[1]) instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictLocal(parts.length == 3 ? parts[2] : null);
+        }
+    }
+
+    // 다른 서버에 로컬 캐시 무효화 알림, 실패해도 redis 캐시는 이미 반영되었으므로 로그만 남긴다.
+    private void publishInvalidation(String cacheName, String key) {
+
+        String message = nodeId + SEPARATOR + cacheName + (key == null ? "" : SEPARATOR + key);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("로컬 캐시 무효화 메시지 발행 실패 cacheName={}, key={}", cacheName, key, e);
+        }
+    }
+}
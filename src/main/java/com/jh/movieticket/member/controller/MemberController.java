@@ -2,6 +2,7 @@ package com.jh.movieticket.member.controller;
 
 import com.jh.movieticket.auth.TokenException;
 import com.jh.movieticket.auth.TokenProvider;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.config.GlobalApiResponse;
 import com.jh.movieticket.member.dto.MemberModifyDto;
 import com.jh.movieticket.member.dto.MemberServiceDto;
@@ -16,6 +17,8 @@ import com.jh.movieticket.member.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import java.util.List;
@@ -226,4 +229,26 @@ public class MemberController {
 
         return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
     }
+
+    /**
+     * 회원 전체 리스트 커서 페이징하여 조회(가입 순서)
+     *
+     * @param cursor 이전 페이지의 다음 커서(첫 페이지라면 생략)
+     * @param size   페이지 크기
+     * @return 커서 페이징 처리된 회원 전체 리스트
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalApiResponse<CursorPage<MemberVerifyDto.Response>>> allByCursor(
+        @RequestParam(required = false) String cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        @RequestParam(defaultValue = "10") int size) {
+
+        CursorPage<MemberVerifyDto.Response> result = memberService.allMembersByCursor(cursor,
+                size)
+            .map(MemberServiceDto::toVerifyResponse);
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
 }
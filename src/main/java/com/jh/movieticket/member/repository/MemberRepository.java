@@ -2,7 +2,10 @@ package com.jh.movieticket.member.repository;
 
 import com.jh.movieticket.member.domain.Member;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +23,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Page<Member> findAllByDeleteDate(LocalDateTime deleteDate,
         Pageable pageable); // 회원 리스트 페이징하여 조회
+
+    List<Member> findAllByDeleteDateIsNullAndIdGreaterThanOrderByIdAsc(Long id,
+        Limit limit); // 회원 리스트 커서 페이징하여 조회
+
+    List<Member> findAllByUserIdInAndDeleteDateIsNull(
+        Collection<String> userIdList); // 탈퇴하지 않은 회원 아이디 리스트를 통해 조회
 }
@@ -3,6 +3,7 @@ package com.jh.movieticket.member.service;
 import com.jh.movieticket.chat.repository.ChatMessageRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
 import com.jh.movieticket.config.CacheName;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.grade.repository.GradeRepository;
 import com.jh.movieticket.mail.service.MailService;
 import com.jh.movieticket.member.domain.Member;
@@ -24,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -220,7 +222,7 @@ public class MemberService {
      * @return 조회된 회원 정보
      */
     @Transactional(readOnly = true)
-    @Cacheable(key = "#userId", value = CacheName.MEMBER_CACHE_NAME)
+    @Cacheable(key = "#userId", value = CacheName.MEMBER_CACHE_NAME, sync = true)
     public MemberServiceDto verifyMember(String userId) {
 
         Member member = memberRepository.findByUserIdAndDeleteDate(userId, null)
@@ -246,6 +248,24 @@ public class MemberService {
         return new PageImpl<>(list, pageable, list.size());
     }
 
+    /**
+     * 회원 전체 리스트 커서 페이징하여 조회(가입 순서)
+     *
+     * @param cursor 이전 페이지의 다음 커서(첫 페이지라면 null)
+     * @param size   페이지 크기
+     * @return 커서 페이징된 전체 회원 리스트
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MemberServiceDto> allMembersByCursor(String cursor, int size) {
+
+        Long lastId = CursorPage.decodeCursorId(cursor);
+        List<Member> memberList = memberRepository.findAllByDeleteDateIsNullAndIdGreaterThanOrderByIdAsc(
+            lastId == null ? 0L : lastId, Limit.of(size + 1));
+
+        return CursorPage.of(memberList, size, m -> CursorPage.encodeCursor(m.getId(), null))
+            .map(Member::toServiceDto);
+    }
+
     /**
      * 이메일 인증을 위한 인증코드 생성 메서드
      *
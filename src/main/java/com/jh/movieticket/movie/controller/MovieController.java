@@ -1,22 +1,27 @@
 package com.jh.movieticket.movie.controller;
 
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.config.GlobalApiResponse;
+import com.jh.movieticket.movie.domain.RankingType;
+import com.jh.movieticket.movie.domain.ScreenType;
 import com.jh.movieticket.movie.dto.MovieCreateDto;
 import com.jh.movieticket.movie.dto.MovieModifyDto;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
 import com.jh.movieticket.movie.dto.MovieSearchDto.Request;
-import com.jh.movieticket.movie.dto.MovieSearchDto.Response;
 import com.jh.movieticket.movie.dto.MovieServiceDto;
 import com.jh.movieticket.movie.dto.MovieVerifyDto;
+import com.jh.movieticket.movie.service.MovieRankingService;
 import com.jh.movieticket.movie.service.MovieService;
 import com.jh.movieticket.validation.IsImage;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -31,6 +36,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +48,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class MovieController {
 
     private final MovieService movieService;
+    private final MovieRankingService movieRankingService;
 
     /**
      * 영화 생성 컨트롤러
@@ -114,6 +121,35 @@ public class MovieController {
             GlobalApiResponse.toGlobalResponse(HttpStatus.OK, serviceDto.toVerifyResponse()));
     }
 
+    /**
+     * 여러 영화 한 번에 조회 컨트롤러
+     * 영화 pk 리스트가 있다면 pk 로, 없다면 영화 제목 리스트로 조회한다.
+     *
+     * @param titles 조회할 영화 제목 리스트
+     * @param ids    조회할 영화 pk 리스트
+     * @return 성공 시 200 코드와 요청 순서대로의 영화 dto 리스트(없는 영화는 제외), 실패 시 에러코드와 에러메시지
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<GlobalApiResponse<List<MovieVerifyDto.Response>>> movieBatchVerifyController(
+        @Size(max = 100, message = "한 번에 조회할 수 있는 영화는 100개 이하입니다.")
+        @RequestParam(required = false) List<String> titles,
+        @Size(max = 100, message = "한 번에 조회할 수 있는 영화는 100개 이하입니다.")
+        @RequestParam(required = false) List<Long> ids) {
+
+        List<MovieServiceDto> movieServiceDtoList;
+        if (ids != null && !ids.isEmpty()) {
+            movieServiceDtoList = movieService.verifyMoviesByIds(ids);
+        } else {
+            movieServiceDtoList = movieService.verifyMovies(titles == null ? List.of() : titles);
+        }
+
+        List<MovieVerifyDto.Response> result = movieServiceDtoList.stream()
+            .map(MovieServiceDto::toVerifyResponse)
+            .toList();
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
+
     /**
      * 영화 검색 컨트롤러
      *
@@ -124,22 +160,79 @@ public class MovieController {
     public ResponseEntity<GlobalApiResponse<Page<MovieSearchDto.Response>>> movieSearchController(
         @RequestBody Request searchRequest) {
 
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<MovieServiceDto> movieServiceDtos = movieService.searchMovie(
+            filterOrderBy(searchRequest), pageable);
+        Page<MovieSearchDto.Response> result = movieServiceDtos.map(
+            MovieServiceDto::toSearchResponse);
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
+
+    /**
+     * 영화 커서 검색 컨트롤러
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @param cursor        이전 페이지의 다음 커서(첫 페이지라면 생략)
+     * @param size          페이지 크기
+     * @return 성공 시 200 코드와 검색 결과, 실패 시 에러 코드와 에러메시지 반환
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<GlobalApiResponse<CursorPage<MovieSearchDto.Response>>> movieCursorSearchController(
+        @RequestBody Request searchRequest, @RequestParam(required = false) String cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        @RequestParam(defaultValue = "10") int size) {
+
+        CursorPage<MovieSearchDto.Response> result = movieService.searchMovieByCursor(
+                filterOrderBy(searchRequest), cursor, size)
+            .map(MovieServiceDto::toSearchResponse);
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
+
+    /**
+     * 영화 순위 조회 컨트롤러
+     *
+     * @param rankingType 순위 기준(GRADE, RESERVATION, AUDIENCE)
+     * @param screenType  상영 타입(생략 시 전체)
+     * @param genre       장르(생략 시 전체)
+     * @param size        조회할 순위 수
+     * @return 성공 시 200 코드와 순위 순서대로의 영화 리스트, 실패 시 에러 코드와 에러메시지 반환
+     */
+    @GetMapping("/rankings")
+    public ResponseEntity<GlobalApiResponse<List<MovieSearchDto.Response>>> movieRankingController(
+        @RequestParam RankingType rankingType,
+        @RequestParam(required = false) ScreenType screenType,
+        @RequestParam(required = false) String genre,
+        @Min(value = 1, message = "순위 수는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "순위 수는 100 이하여야 합니다.")
+        @RequestParam(defaultValue = "10") int size) {
+
+        List<MovieSearchDto.Response> result = movieRankingService.getRanking(rankingType,
+                screenType, genre, size).stream()
+            .map(MovieServiceDto::toSearchResponse)
+            .toList();
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+    }
+
+    /**
+     * 정렬이 허용되지 않는 단어로 들어오는 경우 기본 정렬(제목순)로 변경
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @return 정렬 기준이 확인된 검색 정보
+     */
+    private Request filterOrderBy(Request searchRequest) {
+
         List<String> acceptOrderBy = List.of("reservation", "grade", "audience");
         if (StringUtils.hasText(searchRequest.getOrderBy()) && !acceptOrderBy.contains(
-            searchRequest.getOrderBy())) { // 정렬이 허용되지 않는 단어로 들어오는 경우
-            searchRequest = searchRequest.toBuilder()
+            searchRequest.getOrderBy())) {
+            return searchRequest.toBuilder()
                 .orderBy(null)
                 .build();
         }
 
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<MovieServiceDto> movieServiceDtos = movieService.searchMovie(searchRequest, pageable);
-        List<Response> responseList = movieServiceDtos.getContent().stream()
-            .map(MovieServiceDto::toSearchResponse)
-            .toList();
-        Page<MovieSearchDto.Response> result = new PageImpl<>(responseList, pageable,
-            responseList.size());
-
-        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, result));
+        return searchRequest;
     }
 }
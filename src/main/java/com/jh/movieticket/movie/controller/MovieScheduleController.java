@@ -0,0 +1,43 @@
+package com.jh.movieticket.movie.controller;
+
+import com.jh.movieticket.config.GlobalApiResponse;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateDto;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateServiceDto;
+import com.jh.movieticket.movie.service.MovieScheduleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/movies/schedules")
+@RequiredArgsConstructor
+@Validated
+public class MovieScheduleController {
+
+    private final MovieScheduleService movieScheduleService;
+
+    /**
+     * 일주일치 영화 스케줄 일괄 생성 컨트롤러
+     *
+     * @param createRequest 생성할 스케줄 리스트 dto
+     * @return 성공 시 201 코드와 생성 결과(건수, 소요 시간, 초당 생성 row 수), 실패 시 에러코드와 에러메시지
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalApiResponse<MovieScheduleCreateDto.Response>> movieScheduleCreateController(
+        @Valid @RequestBody MovieScheduleCreateDto.Request createRequest) {
+
+        MovieScheduleCreateServiceDto result = movieScheduleService.createWeeklySchedules(
+            createRequest.getScheduleList());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.CREATED, result.toCreateResponse()));
+    }
+}
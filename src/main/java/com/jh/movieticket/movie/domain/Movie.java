@@ -11,11 +11,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +31,13 @@ import org.hibernate.annotations.SQLRestriction;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(toBuilder = true)
-@SQLRestriction("deletedDate IS NULL")
+@Table(indexes = {
+    @Index(name = "idx_movie_screen_type", columnList = "screen_type"),
+    @Index(name = "idx_movie_reservation_rate", columnList = "reservation_rate"),
+    @Index(name = "idx_movie_grade_avg", columnList = "grade_avg"),
+    @Index(name = "idx_movie_total_audience_cnt", columnList = "total_audience_cnt"),
+    @Index(name = "idx_movie_title", columnList = "title")})
+@SQLRestriction("delete_date IS NULL")
 public class Movie extends BaseTimeEntity {
 
     @Id
@@ -110,12 +119,12 @@ public class Movie extends BaseTimeEntity {
         List<String> actorList =
             (movieActorList == null || movieActorList.isEmpty()) ? null : movieActorList.stream()
                 .map(ma -> ma.getActor().getName())
-                .toList();
+                .collect(Collectors.toList()); // redis 캐시 역직렬화를 위해 가변 리스트 사용
 
         List<String> genreList =
             (movieGenreList == null || movieGenreList.isEmpty()) ? null : movieGenreList.stream()
                 .map(mg -> mg.getGenre().getName())
-                .toList();
+                .collect(Collectors.toList());
 
         return MovieServiceDto.builder()
             .id(id)
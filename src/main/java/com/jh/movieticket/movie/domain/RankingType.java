@@ -0,0 +1,18 @@
+package com.jh.movieticket.movie.domain;
+
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import java.util.function.ToDoubleFunction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 영화 순위 기준을 나타내는 enum 클래스
+@Getter
+@AllArgsConstructor
+public enum RankingType {
+    GRADE("grade", MovieServiceDto::getGradeAvg), // 평균 평점순
+    RESERVATION("reservation", MovieServiceDto::getReservationRate), // 예매율순
+    AUDIENCE("audience", MovieServiceDto::getTotalAudienceCnt); // 누적 관객 수순
+
+    private final String name;
+    private final ToDoubleFunction<MovieServiceDto> scoreFunction; // 영화 -> 순위 점수
+}
@@ -7,9 +7,24 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum SeatType {
-    AVAILABLE("AVAILABLE"), // 예약 가능한 상태
-    UNAVAILABLE("UNAVAILABLE"), // 사용 불가
-    BOOKED("BOOKED"); // 예약 완료된 상태
+    AVAILABLE("AVAILABLE", 0), // 예약 가능한 상태
+    UNAVAILABLE("UNAVAILABLE", 2), // 사용 불가
+    BOOKED("BOOKED", 1); // 예약 완료된 상태
 
     private final String name;
+    private final int code; // 좌석 비트맵에 저장되는 2비트 코드
+
+    private static final SeatType[] BY_CODE = new SeatType[4]; // 2비트 코드 -> 좌석 상태
+
+    static {
+        for (SeatType seatType : values()) {
+            BY_CODE[seatType.code] = seatType;
+        }
+    }
+
+    // 2비트 코드를 좌석 상태로 변환, 해당하는 상태가 없으면 null 리턴
+    public static SeatType fromCode(int code) {
+
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
 }
@@ -0,0 +1,64 @@
+package com.jh.movieticket.movie.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 영화 스케줄 일괄 생성 시 dto
+public class MovieScheduleCreateDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotEmpty(message = "등록할 스케줄을 입력해주세요.")
+        private List<@NotNull(message = "등록할 스케줄을 입력해주세요.") @Valid Schedule> scheduleList; // 등록할 스케줄 리스트
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Schedule {
+
+        @NotNull(message = "pk값은 null일 수 없습니다.")
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.")
+        private Long movieId; // 영화 pk
+
+        @NotNull(message = "pk값은 null일 수 없습니다.")
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.")
+        private Long theaterId; // 상영관 pk
+
+        @NotNull(message = "종영 날짜를 입력해주세요.")
+        private LocalDate endDate; // 종영 날짜
+
+        @NotNull(message = "상영 시작 시간을 입력해주세요.")
+        private LocalDateTime startTime; // 시작시간
+
+        @NotNull(message = "상영 끝나는 시간을 입력해주세요.")
+        private LocalDateTime endTime; // 끝나는 시간
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Response {
+
+        private int scheduleCnt; // 생성된 스케줄 수
+        private int seatCnt; // 생성된 스케줄별 좌석 수
+        private long elapsedMillis; // 소요 시간(ms)
+        private long rowsPerSecond; // 초당 생성된 row 수
+    }
+}
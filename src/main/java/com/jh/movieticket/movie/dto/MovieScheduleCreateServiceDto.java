@@ -0,0 +1,44 @@
+package com.jh.movieticket.movie.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 영화 스케줄 일괄 생성 결과 서비스 레이어 dto
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class MovieScheduleCreateServiceDto {
+
+    private int scheduleCnt; // 생성된 스케줄 수
+    private int seatCnt; // 생성된 스케줄별 좌석 수
+    private long elapsedMillis; // 소요 시간(ms)
+
+    /**
+     * 초당 생성된 row 수(스케줄 + 스케줄별 좌석)
+     *
+     * @return 초당 생성된 row 수
+     */
+    public long getRowsPerSecond() {
+
+        return (scheduleCnt + seatCnt) * 1000L / Math.max(elapsedMillis, 1L);
+    }
+
+    /**
+     * ServiceDto -> CreateResponse
+     *
+     * @return CreateResponse
+     */
+    public MovieScheduleCreateDto.Response toCreateResponse() {
+
+        return MovieScheduleCreateDto.Response.builder()
+            .scheduleCnt(scheduleCnt)
+            .seatCnt(seatCnt)
+            .elapsedMillis(elapsedMillis)
+            .rowsPerSecond(getRowsPerSecond())
+            .build();
+    }
+}
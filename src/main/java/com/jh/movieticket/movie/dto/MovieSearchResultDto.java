@@ -0,0 +1,19 @@
+package com.jh.movieticket.movie.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class MovieSearchResultDto implements Serializable { // 영화 검색 결과 캐시용 dto
+
+    private List<MovieServiceDto> content; // 페이지의 영화
+    private long totalElements; // 전체 검색 결과 수
+}
@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 public enum MovieErrorCode {
 
     EXIST_MOVIE_TITLE(HttpStatus.BAD_REQUEST.value(), "이미 등록되어있는 영화입니다."),
-    NOT_FOUND_MOVIE(HttpStatus.BAD_REQUEST.value(), "등록되지 않은 영화입니다.");
+    NOT_FOUND_MOVIE(HttpStatus.BAD_REQUEST.value(), "등록되지 않은 영화입니다."),
+    INVALID_SCHEDULE_TIME(HttpStatus.BAD_REQUEST.value(), "상영 시작 시간은 끝나는 시간보다 이전이어야 합니다."),
+    INVALID_SCHEDULE_PERIOD(HttpStatus.BAD_REQUEST.value(), "한 번에 등록할 수 있는 스케줄은 최대 7일입니다.");
 
     private final int status;
     private final String message;
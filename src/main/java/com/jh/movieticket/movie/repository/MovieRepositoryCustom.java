@@ -1,11 +1,23 @@
 package com.jh.movieticket.movie.repository;
 
 import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.ScreenType;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface MovieRepositoryCustom {
 
     Page<Movie> findBySearchOption(MovieSearchDto.Request searchRequest, Pageable pageable);
+
+    List<Long> findIdsBySearchOptionAfter(MovieSearchDto.Request searchRequest, Long lastId,
+        String lastSortValue, int limit); // 커서 이후의 영화 pk 조회
+
+    List<Movie> findAllWithGenreAndActor(List<Long> movieIdList); // pk 순서대로 영화와 장르, 배우를 함께 조회
+
+    List<Movie> findAllWithGenreAndActorByTitleIn(Collection<String> titles); // 제목으로 영화와 장르, 배우를 함께 조회
+
+    List<String> findTitlesByScreenTypeIn(Collection<ScreenType> screenTypes); // 상영 타입별 영화 제목 조회
 }
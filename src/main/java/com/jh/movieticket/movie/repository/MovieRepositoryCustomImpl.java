@@ -1,45 +1,173 @@
 package com.jh.movieticket.movie.repository;
 
+import static com.jh.movieticket.movie.domain.QActor.actor;
+import static com.jh.movieticket.movie.domain.QGenre.genre;
 import static com.jh.movieticket.movie.domain.QMovie.movie;
 import static com.jh.movieticket.movie.domain.QMovieActor.movieActor;
 import static com.jh.movieticket.movie.domain.QMovieGenre.movieGenre;
 
+import com.jh.movieticket.config.InvalidCursorException;
 import com.jh.movieticket.movie.domain.Movie;
 import com.jh.movieticket.movie.domain.ScreenType;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
 
+    private static final String GRADE = "grade";
+    private static final String RESERVATION = "reservation";
+    private static final String AUDIENCE = "audience";
+
     private final JPAQueryFactory jpaQueryFactory;
 
     public MovieRepositoryCustomImpl(EntityManager entityManager) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
     }
 
+    /**
+     * 영화 동적 검색
+     * 1. 조건에 맞는 영화 pk 만 페이지 크기만큼 조회(장르 조건은 exists 서브쿼리로 걸어 조인으로 인한 행 중복이 없다.)
+     * 2. 조회한 pk 의 영화를 장르, 배우와 함께 한 번에 조회
+     * 전체 개수는 첫 페이지가 페이지 크기보다 작거나 마지막 페이지인 경우 조회하지 않는다.
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @param pageable      페이징 정보
+     * @return 페이징 처리된 영화 리스트
+     */
     @Override
     public Page<Movie> findBySearchOption(MovieSearchDto.Request searchRequest, Pageable pageable) {
 
-        List<Movie> movies = jpaQueryFactory.selectFrom(movie)
-            .leftJoin(movie.movieGenreList, movieGenre)
-            .leftJoin(movie.movieActorList, movieActor)
-            .where(containsTitle(searchRequest.getTitle()),
-                eqScreenType(searchRequest.getScreenType()), eqGenre(searchRequest.getGenre()),
-                movie.deleteDate.isNull())
-            .orderBy(getOrderSpecifier(searchRequest.getOrderBy()))
+        BooleanExpression[] conditions = {containsTitle(searchRequest.getTitle()),
+            eqScreenType(searchRequest.getScreenType()), existsGenre(searchRequest.getGenre()),
+            movie.deleteDate.isNull()};
+
+        List<Long> movieIdList = jpaQueryFactory.select(movie.id)
+            .from(movie)
+            .where(conditions)
+            .orderBy(getOrderSpecifier(searchRequest.getOrderBy()), movie.id.asc())
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        return new PageImpl<>(movies, pageable, movies.size());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(movie.count())
+            .from(movie)
+            .where(conditions);
+
+        return PageableExecutionUtils.getPage(findAllWithGenreAndActor(movieIdList), pageable,
+            countQuery::fetchOne);
+    }
+
+    /**
+     * 영화 커서 검색, 마지막으로 받은 영화의 정렬 기준 값과 pk 이후의 영화 pk 를 조회한다.
+     * offset 없이 정렬 컬럼 인덱스를 타므로 페이지 깊이와 무관하게 limit 만큼만 읽는다.
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @param lastId        마지막으로 받은 영화 pk(첫 페이지라면 null)
+     * @param lastSortValue 마지막으로 받은 영화의 정렬 기준 값
+     * @param limit         조회할 개수
+     * @return 정렬 순서대로의 영화 pk 리스트
+     */
+    @Override
+    public List<Long> findIdsBySearchOptionAfter(MovieSearchDto.Request searchRequest,
+        Long lastId, String lastSortValue, int limit) {
+
+        return jpaQueryFactory.select(movie.id)
+            .from(movie)
+            .where(containsTitle(searchRequest.getTitle()),
+                eqScreenType(searchRequest.getScreenType()), existsGenre(searchRequest.getGenre()),
+                movie.deleteDate.isNull(),
+                afterCursor(searchRequest.getOrderBy(), lastId, lastSortValue))
+            .orderBy(getOrderSpecifier(searchRequest.getOrderBy()), movie.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * pk 순서를 유지하며 영화와 장르, 배우를 함께 조회
+     *
+     * @param movieIdList 영화 pk 리스트
+     * @return 영화 리스트
+     */
+    @Override
+    public List<Movie> findAllWithGenreAndActor(List<Long> movieIdList) {
+
+        if (movieIdList.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Movie> movieMap = fetchWithGenreAndActor(movie.id.in(movieIdList)).stream()
+            .collect(Collectors.toMap(Movie::getId, Function.identity()));
+
+        return movieIdList.stream()
+            .map(movieMap::get)
+            .filter(Objects::nonNull) // 색인 이후 삭제된 영화 제외
+            .toList();
+    }
+
+    /**
+     * 제목으로 영화와 장르, 배우를 함께 조회
+     *
+     * @param titles 영화 제목 리스트
+     * @return 영화 리스트(순서 보장 x)
+     */
+    @Override
+    public List<Movie> findAllWithGenreAndActorByTitleIn(Collection<String> titles) {
+
+        if (titles.isEmpty()) {
+            return List.of();
+        }
+
+        return fetchWithGenreAndActor(movie.title.in(titles));
+    }
+
+    /**
+     * 상영 타입별 영화 제목 조회
+     *
+     * @param screenTypes 조회할 상영 타입 리스트
+     * @return 영화 제목 리스트
+     */
+    @Override
+    public List<String> findTitlesByScreenTypeIn(Collection<ScreenType> screenTypes) {
+
+        return jpaQueryFactory.select(movie.title)
+            .from(movie)
+            .where(movie.screenType.in(screenTypes), movie.deleteDate.isNull())
+            .fetch();
+    }
+
+    // 두 컬렉션을 한 번에 fetch join 할 수 없으므로 장르, 배우를 나누어 조회(같은 영속성 컨텍스트의 영화에 채워진다.)
+    private List<Movie> fetchWithGenreAndActor(BooleanExpression condition) {
+
+        List<Movie> movieList = jpaQueryFactory.selectFrom(movie)
+            .distinct()
+            .leftJoin(movie.movieGenreList, movieGenre).fetchJoin()
+            .leftJoin(movieGenre.genre, genre).fetchJoin()
+            .where(condition)
+            .fetch();
+
+        jpaQueryFactory.selectFrom(movie)
+            .distinct()
+            .leftJoin(movie.movieActorList, movieActor).fetchJoin()
+            .leftJoin(movieActor.actor, actor).fetchJoin()
+            .where(condition)
+            .fetch();
+
+        return movieList;
     }
 
     private BooleanExpression containsTitle(String title) {
@@ -60,20 +188,55 @@ public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
         return movie.screenType.eq(screenType);
     }
 
-    private BooleanExpression eqGenre(String genre) {
+    private BooleanExpression existsGenre(String genreName) {
+
+        if (!StringUtils.hasText(genreName)) {
+            return null;
+        }
+
+        return JPAExpressions.selectOne()
+            .from(movieGenre)
+            .where(movieGenre.movie.id.eq(movie.id), movieGenre.genre.name.eq(genreName))
+            .exists();
+    }
+
+    // 정렬 기준(내림차순) 값이 더 작거나, 같으면서 pk 가 더 큰 영화(제목은 오름차순)
+    private BooleanExpression afterCursor(String orderBy, Long lastId, String lastSortValue) {
 
-        if (!StringUtils.hasText(genre)) {
+        if (lastId == null) {
             return null;
         }
 
-        return movieGenre.genre.name.eq(genre);
+        try {
+            return switch (orderBy == null ? "" : orderBy) {
+                case GRADE -> {
+                    double value = Double.parseDouble(lastSortValue);
+                    yield movie.gradeAvg.lt(value)
+                        .or(movie.gradeAvg.eq(value).and(movie.id.gt(lastId)));
+                }
+                case RESERVATION -> {
+                    double value = Double.parseDouble(lastSortValue);
+                    yield movie.reservationRate.lt(value)
+                        .or(movie.reservationRate.eq(value).and(movie.id.gt(lastId)));
+                }
+                case AUDIENCE -> {
+                    long value = Long.parseLong(lastSortValue);
+                    yield movie.totalAudienceCnt.lt(value)
+                        .or(movie.totalAudienceCnt.eq(value).and(movie.id.gt(lastId)));
+                }
+                default -> movie.title.gt(lastSortValue)
+                    .or(movie.title.eq(lastSortValue).and(movie.id.gt(lastId)));
+            };
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
     }
 
     private OrderSpecifier<?> getOrderSpecifier(String orderBy) {
 
-        final String GRADE = "grade";
-        final String RESERVATION = "reservation";
-        final String AUDIENCE = "audience";
+        if (orderBy == null) {
+            return movie.title.asc();
+        }
 
         return switch (orderBy) {
             case GRADE -> movie.gradeAvg.desc();
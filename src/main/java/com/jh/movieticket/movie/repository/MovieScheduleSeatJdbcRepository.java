@@ -0,0 +1,54 @@
+package com.jh.movieticket.movie.repository;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 영화 스케줄별 좌석 대량 생성을 위한 jdbc 레포지토리
+// IDENTITY 전략에서는 hibernate 가 insert 를 한 건씩 실행하므로 INSERT ... SELECT 로 db 안에서 한 번에 생성한다.
+@Repository
+@RequiredArgsConstructor
+public class MovieScheduleSeatJdbcRepository {
+
+    private static final int IN_CLAUSE_SIZE = 1000; // IN 절에 넣을 최대 스케줄 수
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스케줄 상영관의 삭제되지 않은 좌석으로 스케줄별 좌석 생성
+     *
+     * @param scheduleIdList 영화 스케줄 pk 리스트
+     * @return 생성된 스케줄별 좌석 수
+     */
+    public int insertAllBySchedules(List<Long> scheduleIdList) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < scheduleIdList.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = scheduleIdList.subList(from,
+                Math.min(from + IN_CLAUSE_SIZE, scheduleIdList.size()));
+            String sql = "INSERT INTO movie_schedule_seat "
+                + "(movie_schedule_id, seat_id, status, register_date, change_date) "
+                + "SELECT ms.id, s.id, ?, ?, ? FROM movie_schedule ms "
+                + "JOIN seat s ON s.theater_id = ms.theater_id AND s.delete_date IS NULL "
+                + "WHERE ms.id IN (" + String.join(",", Collections.nCopies(chunk.size(), "?"))
+                + ")";
+
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(SeatType.AVAILABLE.name());
+            args.add(now);
+            args.add(now);
+            args.addAll(chunk);
+
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+
+        return inserted;
+    }
+}
@@ -0,0 +1,15 @@
+package com.jh.movieticket.movie.repository;
+
+import com.jh.movieticket.movie.domain.MovieScheduleSeat;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MovieScheduleSeatRepository extends JpaRepository<MovieScheduleSeat, Long> {
+
+    @Query("SELECT mss FROM MovieScheduleSeat mss JOIN FETCH mss.seat "
+        + "WHERE mss.movieSchedule.id = :scheduleId AND mss.deleteDate IS NULL")
+    List<MovieScheduleSeat> findAllWithSeatBySchedule(Long scheduleId); // 스케줄의 좌석 상태 리스트를 좌석과 함께 조회
+}
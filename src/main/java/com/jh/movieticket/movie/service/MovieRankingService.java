@@ -0,0 +1,298 @@
+package com.jh.movieticket.movie.service;
+
+import com.jh.movieticket.config.AfterCommit;
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.RankingType;
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+// 평점, 예매율, 누적 관객 수 기준 영화 순위를 redis sorted set 으로 유지하는 서비스
+// 순위 기준별로 전체, 상영 타입별, 장르별 sorted set 을 두고 영화가 생성, 수정, 삭제될 때 점수를 갱신하므로
+// 순위 조회 시 db 정렬 없이 상위 영화 pk 를 바로 꺼낸다.
+// 순위 값은 영화 변경 없이도 바뀌므로 주기적으로 전체 순위를 새로 만들어 교체하고(RENAME),
+// 순위가 유실되었다면(생성 완료 표시가 없다면) 다시 생성하며, redis 장애 시 db 정렬로 조회한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieRankingService {
+
+    private static final String KEY_PREFIX = "movieRanking:";
+    private static final String ALL_SCOPE = "all";
+    private static final String SCREEN_TYPE_SCOPE = "screen:";
+    private static final String GENRE_SCOPE = "genre:";
+    private static final String BUILT_KEY = KEY_PREFIX + "built"; // 순위 생성 완료 표시
+    private static final String KEY_SET_KEY = KEY_PREFIX + "keys"; // 영화가 있는 순위 키 목록
+    private static final String BUILDING_SUFFIX = ":building"; // 생성 중인 순위 키 접미사
+    private static final int BUILD_PAGE_SIZE = 500; // 순위 생성 시 한 번에 조회하는 영화 수
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MovieRepository movieRepository;
+
+    private final ReentrantLock buildLock = new ReentrantLock(); // 순위 생성은 한 번에 하나만
+    private List<Runnable> buildChangeList; // 순위 생성 중 반영된 변경(교체 후 다시 반영)
+
+    /**
+     * 전체 영화로 순위를 새로 만들어 교체
+     * 순위 키마다 새 sorted set 을 만든 후 RENAME 으로 교체하여 더 이상 속하지 않는 영화가 남지 않도록 하고,
+     * 영화가 없어진 순위 키는 제거한다. 생성 중 반영된 변경은 교체 후 다시 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movie.ranking.rebuild-interval-ms:600000}",
+        initialDelayString = "${movie.ranking.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void build() {
+
+        buildLock.lock();
+        try {
+            setBuildChangeList(new ArrayList<>());
+
+            Map<String, Map<String, Double>> rankingMap = new HashMap<>(); // 순위 키 -> (영화 pk -> 점수)
+            Page<Movie> moviePage;
+            int page = 0;
+            long cnt = 0;
+            do {
+                moviePage = movieRepository.findAll(PageRequest.of(page++, BUILD_PAGE_SIZE));
+                for (Movie movie : moviePage.getContent()) {
+                    MovieServiceDto dto = movie.toServiceDto();
+                    scopeKeysOf(dto).forEach(key -> rankingMap.computeIfAbsent(key,
+                        k -> new HashMap<>()).put(String.valueOf(dto.getId()), scoreOf(key, dto)));
+                    cnt++;
+                }
+            } while (moviePage.hasNext());
+
+            Set<String> oldKeySet = stringRedisTemplate.opsForSet().members(KEY_SET_KEY);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                rankingMap.forEach((key, scoreMap) -> {
+                    String buildingKey = key + BUILDING_SUFFIX;
+                    stringConnection.del(buildingKey);
+                    scoreMap.forEach(
+                        (member, score) -> stringConnection.zAdd(buildingKey, score, member));
+                    stringConnection.rename(buildingKey, key);
+                });
+                if (oldKeySet != null) { // 영화가 없어진 순위 제거
+                    oldKeySet.stream()
+                        .filter(key -> !rankingMap.containsKey(key))
+                        .forEach(stringConnection::del);
+                }
+                stringConnection.del(KEY_SET_KEY);
+                if (!rankingMap.isEmpty()) {
+                    stringConnection.sAdd(KEY_SET_KEY, rankingMap.keySet().toArray(String[]::new));
+                }
+                stringConnection.set(BUILT_KEY, LocalDateTime.now().toString());
+                return null;
+            });
+
+            List<Runnable> changeList = setBuildChangeList(null);
+            changeList.forEach(Runnable::run);
+
+            log.info("영화 순위 생성 완료 : {}건", cnt);
+        } catch (RuntimeException e) { // redis 장애로 순위를 만들지 못해도 서버는 기동한다.
+            log.error("영화 순위 생성 실패", e);
+        } finally {
+            setBuildChangeList(null);
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 영화 순위 점수 갱신, 수정 전 영화가 있다면 더 이상 속하지 않는 상영 타입, 장르 순위에서 제거한다.
+     * 트랜잭션 안이라면 커밋 후 반영한다.
+     *
+     * @param before 수정 전 영화(새로 생성된 영화라면 null)
+     * @param after  수정 후 영화
+     */
+    public void update(MovieServiceDto before, MovieServiceDto after) {
+
+        afterCommit(() -> {
+            String member = String.valueOf(after.getId());
+            List<String> afterKeyList = scopeKeysOf(after);
+            if (before != null) {
+                scopeKeysOf(before).stream()
+                    .filter(key -> !afterKeyList.contains(key))
+                    .forEach(key -> stringRedisTemplate.opsForZSet().remove(key, member));
+            }
+            afterKeyList.forEach(key -> stringRedisTemplate.opsForZSet()
+                .add(key, member, scoreOf(key, after)));
+            stringRedisTemplate.opsForSet().add(KEY_SET_KEY, afterKeyList.toArray(String[]::new));
+        });
+    }
+
+    /**
+     * 영화를 모든 순위에서 제거, 트랜잭션 안이라면 커밋 후 반영한다.
+     *
+     * @param movieServiceDto 삭제할 영화
+     */
+    public void remove(MovieServiceDto movieServiceDto) {
+
+        afterCommit(() -> {
+            String member = String.valueOf(movieServiceDto.getId());
+            scopeKeysOf(movieServiceDto).forEach(
+                key -> stringRedisTemplate.opsForZSet().remove(key, member));
+        });
+    }
+
+    /**
+     * 순위 조회
+     * 순위가 유실되었다면 다시 생성한 후 조회하고, 다시 생성하지 못했거나 redis 장애 시 db 에서 정렬하여 조회한다.
+     *
+     * @param rankingType 순위 기준
+     * @param screenType  상영 타입(전체라면 null)
+     * @param genre       장르(전체라면 null, 상영 타입보다 우선한다.)
+     * @param size        조회할 순위 수
+     * @return 순위 순서대로의 영화 dto 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<MovieServiceDto> getRanking(RankingType rankingType, ScreenType screenType,
+        String genre, int size) {
+
+        String key = keyOf(rankingType, StringUtils.hasText(genre) ? GENRE_SCOPE + genre
+            : screenType != null ? SCREEN_TYPE_SCOPE + screenType.getName() : ALL_SCOPE);
+        Set<String> memberSet;
+        try {
+            memberSet = stringRedisTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+            if ((memberSet == null || memberSet.isEmpty()) && !isBuilt()) { // 순위가 유실된 경우
+                if (buildLock.tryLock()) { // 다른 요청이 생성 중이라면 기다리지 않는다.
+                    try {
+                        build();
+                    } finally {
+                        buildLock.unlock();
+                    }
+                }
+                if (!isBuilt()) {
+                    return findRankingFromDb(rankingType, screenType, genre, size);
+                }
+                memberSet = stringRedisTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+            }
+        } catch (RuntimeException e) {
+            log.error("영화 순위 조회 실패 - db 에서 조회 key={}", key, e);
+            return findRankingFromDb(rankingType, screenType, genre, size);
+        }
+
+        if (memberSet == null || memberSet.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> movieIdList = memberSet.stream()
+            .map(Long::valueOf)
+            .toList();
+        List<MovieServiceDto> movieServiceDtoList = movieRepository.findAllWithGenreAndActor(
+                movieIdList).stream()
+            .map(Movie::toServiceDto)
+            .toList();
+
+        if (movieServiceDtoList.size() < movieIdList.size()) { // 이미 삭제된 영화가 남아있는 경우 순위에서 제거
+            List<String> staleList = new ArrayList<>(memberSet);
+            movieServiceDtoList.forEach(dto -> staleList.remove(String.valueOf(dto.getId())));
+            stringRedisTemplate.opsForZSet().remove(key, staleList.toArray());
+        }
+
+        return movieServiceDtoList;
+    }
+
+    private boolean isBuilt() {
+
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_KEY));
+    }
+
+    // db 에서 순위 기준으로 정렬하여 조회(장르가 있다면 상영 타입보다 우선한다.)
+    private List<MovieServiceDto> findRankingFromDb(RankingType rankingType,
+        ScreenType screenType, String genre, int size) {
+
+        MovieSearchDto.Request searchRequest = MovieSearchDto.Request.builder()
+            .screenType(StringUtils.hasText(genre) ? null : screenType)
+            .genre(StringUtils.hasText(genre) ? genre : null)
+            .orderBy(rankingType.getName())
+            .build();
+
+        return movieRepository.findBySearchOption(searchRequest, PageRequest.of(0, size))
+            .stream()
+            .map(Movie::toServiceDto)
+            .toList();
+    }
+
+    // 순위 생성 중 여부를 바꾸고 이전 변경 목록 리턴
+    private synchronized List<Runnable> setBuildChangeList(List<Runnable> changeList) {
+
+        List<Runnable> previous = buildChangeList;
+        buildChangeList = changeList;
+
+        return previous;
+    }
+
+    // 순위 생성 중이라면 변경을 기록(생성한 순위로 교체한 후 다시 반영)
+    private synchronized void recordChange(Runnable task) {
+
+        if (buildChangeList != null) {
+            buildChangeList.add(task);
+        }
+    }
+
+    // 영화가 속한 모든 순위 키(순위 기준 x (전체, 상영 타입, 장르))
+    private List<String> scopeKeysOf(MovieServiceDto movieServiceDto) {
+
+        List<String> scopeList = new ArrayList<>();
+        scopeList.add(ALL_SCOPE);
+        if (movieServiceDto.getScreenType() != null) {
+            scopeList.add(SCREEN_TYPE_SCOPE + movieServiceDto.getScreenType().getName());
+        }
+        if (movieServiceDto.getGenreList() != null) {
+            movieServiceDto.getGenreList().forEach(genre -> scopeList.add(GENRE_SCOPE + genre));
+        }
+
+        List<String> keyList = new ArrayList<>();
+        for (RankingType rankingType : RankingType.values()) {
+            scopeList.forEach(scope -> keyList.add(keyOf(rankingType, scope)));
+        }
+
+        return keyList;
+    }
+
+    // 순위 키에 해당하는 기준의 점수
+    private double scoreOf(String key, MovieServiceDto movieServiceDto) {
+
+        for (RankingType rankingType : RankingType.values()) {
+            if (key.startsWith(KEY_PREFIX + rankingType.getName() + ":")) {
+                return rankingType.getScoreFunction().applyAsDouble(movieServiceDto);
+            }
+        }
+
+        throw new IllegalArgumentException("순위 기준이 없는 키 : " + key);
+    }
+
+    private String keyOf(RankingType rankingType, String scope) {
+
+        return KEY_PREFIX + rankingType.getName() + ":" + scope;
+    }
+
+    // 트랜잭션이 있다면 커밋 후, 없다면 즉시 실행(순위 갱신 실패가 영화 생성, 수정, 삭제를 실패시키지 않는다.)
+    private void afterCommit(Runnable task) {
+
+        AfterCommit.run("영화 순위 갱신 실패", () -> {
+            recordChange(task);
+            task.run();
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.jh.movieticket.movie.service;
+
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.MovieSchedule;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateDto;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateServiceDto;
+import com.jh.movieticket.movie.exception.MovieErrorCode;
+import com.jh.movieticket.movie.exception.MovieException;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import com.jh.movieticket.movie.repository.MovieScheduleRepository;
+import com.jh.movieticket.movie.repository.MovieScheduleSeatJdbcRepository;
+import com.jh.movieticket.theater.domain.Theater;
+import com.jh.movieticket.theater.exception.TheaterErrorCode;
+import com.jh.movieticket.theater.exception.TheaterException;
+import com.jh.movieticket.theater.repository.TheaterRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MovieScheduleService {
+
+    private static final Duration MAX_SCHEDULE_PERIOD = Duration.ofDays(7); // 한 번에 등록 가능한 기간
+
+    private final MovieScheduleRepository movieScheduleRepository;
+    private final MovieScheduleSeatJdbcRepository movieScheduleSeatJdbcRepository;
+    private final MovieRepository movieRepository;
+    private final TheaterRepository theaterRepository;
+
+    /**
+     * 최대 일주일치 영화 스케줄과 스케줄별 좌석 일괄 생성
+     * 스케줄별 좌석은 상영관 좌석을 INSERT ... SELECT 로 복사하여 한 번에 생성한다.
+     *
+     * @param scheduleList 생성할 스케줄 리스트
+     * @return 생성 결과 dto
+     */
+    public MovieScheduleCreateServiceDto createWeeklySchedules(
+        List<MovieScheduleCreateDto.Schedule> scheduleList) {
+
+        long start = System.nanoTime();
+
+        validateSchedulePeriod(scheduleList);
+
+        Map<Long, Movie> movieMap = findMovieMap(scheduleList);
+        Map<Long, Theater> theaterMap = findTheaterMap(scheduleList);
+
+        List<MovieSchedule> movieScheduleList = scheduleList.stream()
+            .map(schedule -> MovieSchedule.builder()
+                .movie(movieMap.get(schedule.getMovieId()))
+                .theater(theaterMap.get(schedule.getTheaterId()))
+                .endDate(schedule.getEndDate())
+                .startTime(schedule.getStartTime())
+                .endTime(schedule.getEndTime())
+                .build())
+            .toList();
+        List<Long> scheduleIdList = movieScheduleRepository.saveAll(movieScheduleList).stream()
+            .map(MovieSchedule::getId)
+            .toList();
+
+        int seatCnt = movieScheduleSeatJdbcRepository.insertAllBySchedules(scheduleIdList);
+
+        MovieScheduleCreateServiceDto result = MovieScheduleCreateServiceDto.builder()
+            .scheduleCnt(scheduleIdList.size())
+            .seatCnt(seatCnt)
+            .elapsedMillis(Duration.ofNanos(System.nanoTime() - start).toMillis())
+            .build();
+        log.info("영화 스케줄 일괄 생성 - 스케줄 {}건, 좌석 {}건, {}ms, {} rows/s", result.getScheduleCnt(),
+            result.getSeatCnt(), result.getElapsedMillis(), result.getRowsPerSecond());
+
+        return result;
+    }
+
+    // 상영 시간과 등록 기간 확인
+    private void validateSchedulePeriod(List<MovieScheduleCreateDto.Schedule> scheduleList) {
+
+        if (scheduleList.stream().anyMatch(s -> !s.getStartTime().isBefore(s.getEndTime()))) {
+            throw new MovieException(MovieErrorCode.INVALID_SCHEDULE_TIME);
+        }
+
+        LocalDateTime first = scheduleList.stream()
+            .map(MovieScheduleCreateDto.Schedule::getStartTime)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        LocalDateTime last = scheduleList.stream()
+            .map(MovieScheduleCreateDto.Schedule::getStartTime)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+        if (!last.isBefore(first.plus(MAX_SCHEDULE_PERIOD))) {
+            throw new MovieException(MovieErrorCode.INVALID_SCHEDULE_PERIOD);
+        }
+    }
+
+    // 스케줄에 포함된 영화를 한 번에 조회
+    private Map<Long, Movie> findMovieMap(List<MovieScheduleCreateDto.Schedule> scheduleList) {
+
+        List<Long> movieIdList = scheduleList.stream()
+            .map(MovieScheduleCreateDto.Schedule::getMovieId)
+            .distinct()
+            .toList();
+        Map<Long, Movie> movieMap = movieRepository.findAllById(movieIdList).stream()
+            .filter(movie -> movie.getDeleteDate() == null)
+            .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        if (movieMap.size() != movieIdList.size()) {
+            throw new MovieException(MovieErrorCode.NOT_FOUND_MOVIE);
+        }
+
+        return movieMap;
+    }
+
+    // 스케줄에 포함된 상영관을 한 번에 조회
+    private Map<Long, Theater> findTheaterMap(List<MovieScheduleCreateDto.Schedule> scheduleList) {
+
+        List<Long> theaterIdList = scheduleList.stream()
+            .map(MovieScheduleCreateDto.Schedule::getTheaterId)
+            .distinct()
+            .toList();
+        Map<Long, Theater> theaterMap = theaterRepository.findAllById(theaterIdList).stream()
+            .filter(theater -> theater.getDeleteDate() == null)
+            .collect(Collectors.toMap(Theater::getId, Function.identity()));
+        if (theaterMap.size() != theaterIdList.size()) {
+            throw new TheaterException(TheaterErrorCode.NOT_FOUND_THEATER);
+        }
+
+        return theaterMap;
+    }
+}
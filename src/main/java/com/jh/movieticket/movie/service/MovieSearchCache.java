@@ -0,0 +1,152 @@
+package com.jh.movieticket.movie.service;
+
+import com.jh.movieticket.config.AfterCommit;
+import com.jh.movieticket.config.CacheName;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieSearchResultDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 영화 검색 결과 캐시
+// 검색 조건을 정규화한 문자열 + 페이지를 키로 결과를 저장하고, 상영 타입과 장르 조합별 태그 set 에 키를 등록해 둔다.
+// 영화가 변경되면 그 영화가 포함될 수 있는 조합(조건 없음, 영화의 상영 타입, 영화의 장르)의 태그에 등록된 키만 지운다.
+// 키에는 검색 색인 세대를 포함하여, 변경을 아직 반영하지 못한 서버가 저장한 결과는 변경 이후 조회되지 않는다.
+@Slf4j
+@Component
+public class MovieSearchCache {
+
+    private static final String KEY_PREFIX = CacheName.MOVIE_SEARCH_CACHE_NAME + "::";
+    private static final String TAG_PREFIX = CacheName.MOVIE_SEARCH_CACHE_NAME + "Tag::";
+    private static final String ANY = "*"; // 조건 없음
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl; // 검색 결과 보관 시간
+
+    public MovieSearchCache(RedisTemplate<String, Object> redisTemplate,
+        @Value("${movie.search-cache.ttl-minutes:10}") long ttlMinutes) {
+
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회
+     *
+     * @param generation    검색 색인 세대
+     * @param searchRequest 검색어 및 필터 정보
+     * @param pageable      페이징 정보
+     * @return 캐시된 검색 결과, 없거나 redis 장애 시 null
+     */
+    public MovieSearchResultDto get(long generation, MovieSearchDto.Request searchRequest,
+        Pageable pageable) {
+
+        try {
+            return (MovieSearchResultDto) redisTemplate.opsForValue()
+                .get(keyOf(generation, searchRequest, pageable));
+        } catch (RuntimeException e) {
+            log.error("영화 검색 캐시 조회 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 검색 결과 저장 후 상영 타입, 장르 조합 태그에 등록
+     *
+     * @param generation    검색 색인 세대(이 세대까지의 변경이 반영된 결과만 저장)
+     * @param searchRequest 검색어 및 필터 정보
+     * @param pageable      페이징 정보
+     * @param result        검색 결과
+     */
+    public void put(long generation, MovieSearchDto.Request searchRequest, Pageable pageable,
+        MovieSearchResultDto result) {
+
+        try {
+            String key = keyOf(generation, searchRequest, pageable);
+            String tagKey = tagKeyOf(screenTypeOf(searchRequest), genreOf(searchRequest));
+            redisTemplate.opsForValue().set(key, result, ttl);
+            redisTemplate.opsForSet().add(tagKey, key);
+            redisTemplate.expire(tagKey, ttl);
+        } catch (RuntimeException e) {
+            log.error("영화 검색 캐시 저장 실패", e);
+        }
+    }
+
+    /**
+     * 변경된 영화가 포함될 수 있는 검색 결과 제거, 트랜잭션 안이라면 커밋 후 반영한다.
+     *
+     * @param movieServiceDtos 변경 전, 후 영화(생성이라면 변경 후, 삭제라면 변경 전만 전달)
+     */
+    public void evict(MovieServiceDto... movieServiceDtos) {
+
+        Set<String> screenTypeSet = new LinkedHashSet<>(List.of(ANY));
+        Set<String> genreSet = new LinkedHashSet<>(List.of(ANY));
+        for (MovieServiceDto movieServiceDto : movieServiceDtos) {
+            if (movieServiceDto.getScreenType() != null) {
+                screenTypeSet.add(movieServiceDto.getScreenType().getName());
+            }
+            if (movieServiceDto.getGenreList() != null) {
+                genreSet.addAll(movieServiceDto.getGenreList());
+            }
+        }
+
+        List<String> tagKeyList = new ArrayList<>();
+        screenTypeSet.forEach(
+            screenType -> genreSet.forEach(genre -> tagKeyList.add(tagKeyOf(screenType, genre))));
+
+        AfterCommit.run("영화 검색 캐시 삭제 실패", () -> tagKeyList.forEach(tagKey -> {
+            Set<Object> keySet = redisTemplate.opsForSet().members(tagKey);
+            List<String> deleteKeyList = new ArrayList<>();
+            deleteKeyList.add(tagKey);
+            if (keySet != null) {
+                keySet.stream()
+                    .map(Objects::toString)
+                    .forEach(deleteKeyList::add);
+            }
+            redisTemplate.delete(deleteKeyList);
+        }));
+    }
+
+    // 색인 세대 + 검색 조건 정규화(검색어는 색인과 같은 방식으로 정규화, 정렬 기준이 없으면 제목순)
+    private String keyOf(long generation, MovieSearchDto.Request searchRequest,
+        Pageable pageable) {
+
+        String orderBy = searchRequest.getOrderBy() == null ? "title" : searchRequest.getOrderBy();
+
+        return KEY_PREFIX
+            + "v=" + generation
+            + "|q=" + MovieSearchTokenizer.normalize(searchRequest.getTitle())
+            + "|s=" + screenTypeOf(searchRequest)
+            + "|g=" + genreOf(searchRequest)
+            + "|o=" + orderBy
+            + "|p=" + pageable.getPageNumber()
+            + "|n=" + pageable.getPageSize();
+    }
+
+    private String tagKeyOf(String screenType, String genre) {
+
+        return TAG_PREFIX + "s=" + screenType + "|g=" + genre;
+    }
+
+    private String screenTypeOf(MovieSearchDto.Request searchRequest) {
+
+        return searchRequest.getScreenType() == null ? ANY
+            : searchRequest.getScreenType().getName();
+    }
+
+    private String genreOf(MovieSearchDto.Request searchRequest) {
+
+        return StringUtils.hasText(searchRequest.getGenre()) ? searchRequest.getGenre().trim()
+            : ANY;
+    }
+}
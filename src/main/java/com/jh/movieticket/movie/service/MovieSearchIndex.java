@@ -0,0 +1,430 @@
+package com.jh.movieticket.movie.service;
+
+import com.jh.movieticket.config.AfterCommit;
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+// 영화 제목, 감독, 배우, 장르 이름을 n-gram 으로 색인하는 메모리 역색인
+// 검색 조건, 정렬, 페이징을 메모리에서 처리하고 db 는 최종 페이지의 영화를 조회할 때만 사용한다.
+// 영화가 변경되면 redis pub/sub 으로 다른 서버에 알려 각 서버가 그 영화를 db 에서 다시 읽어 색인에 반영하고,
+// 순위 값(평점, 예매율, 관객 수)처럼 알림 없이 바뀌는 값은 주기적으로 색인을 다시 생성하여 맞춘다.
+// 영화 변경마다 redis 의 세대(generation)를 올리고, 서버마다 빠짐없이 반영한 세대를 관리한다.(검색 결과 캐시 판단용)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSearchIndex implements MessageListener {
+
+    public static final String INDEX_CHANGE_CHANNEL = "movieSearchIndexChanged"; // 색인 변경 알림 채널
+    private static final String SEPARATOR = "|";
+    private static final String GENERATION_KEY = "movieSearchIndex:generation"; // 영화 변경마다 증가하는 색인 세대
+    private static final String TEXT_PREFIX = "t:"; // 일반 n-gram
+    private static final String CHOSUNG_PREFIX = "c:"; // 초성 n-gram
+    private static final int BUILD_PAGE_SIZE = 500; // 색인 생성 시 한 번에 조회하는 영화 수
+
+    private final MovieRepository movieRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 메시지 구분용
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock buildLock = new ReentrantLock(); // 색인 생성은 한 번에 하나만
+    private Map<Long, MovieDocument> documentMap = new HashMap<>(); // 영화 pk -> 색인 문서
+    private Map<String, Set<Long>> postingMap = new HashMap<>(); // n-gram -> 영화 pk 집합
+    private Map<Long, MovieDocument> buildChangeMap; // 색인 생성 중 변경된 영화 pk -> 문서(제거는 null)
+    private volatile boolean ready; // 색인 생성 완료 여부
+    private long appliedGeneration; // 이 서버 색인에 빠짐없이 반영된 세대
+    private final TreeSet<Long> pendingGenerationSet = new TreeSet<>(); // 앞 세대보다 먼저 반영된 세대
+
+    /**
+     * 전체 영화로 색인 생성
+     * 생성 중 변경된 영화는 기록해 두었다가 새 색인으로 교체하기 전에 새 색인에도 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movie.search-index.rebuild-interval-ms:600000}",
+        initialDelayString = "${movie.search-index.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void build() {
+
+        buildLock.lock();
+        try {
+            Long startGeneration = getGeneration(); // 이 세대까지의 변경은 모두 db 에서 읽힌다.
+            setBuildChangeMap(new HashMap<>());
+
+            Map<Long, MovieDocument> newDocumentMap = new HashMap<>();
+            Map<String, Set<Long>> newPostingMap = new HashMap<>();
+
+            Page<Movie> moviePage;
+            int page = 0;
+            do {
+                moviePage = movieRepository.findAll(PageRequest.of(page++, BUILD_PAGE_SIZE));
+                moviePage.getContent().stream()
+                    .map(Movie::toServiceDto)
+                    .map(MovieDocument::new)
+                    .forEach(document -> addDocument(newDocumentMap, newPostingMap, document));
+            } while (moviePage.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                buildChangeMap.forEach((movieId, document) -> {
+                    removeDocument(newDocumentMap, newPostingMap, movieId);
+                    if (document != null) {
+                        addDocument(newDocumentMap, newPostingMap, document);
+                    }
+                });
+                documentMap = newDocumentMap;
+                postingMap = newPostingMap;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (startGeneration != null) {
+                markAppliedUpTo(startGeneration);
+            }
+
+            log.info("영화 검색 색인 생성 완료 : {}건", newDocumentMap.size());
+        } finally {
+            setBuildChangeMap(null);
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 서버에서 변경된 영화를 db 에서 다시 읽어 색인에 반영
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split("\\" + SEPARATOR);
+        if (parts.length != 3 || nodeId.equals(parts[0])) { // 잘못된 메시지이거나 자신이 보낸 메시지인 경우
+            return;
+        }
+
+        try {
+            Long movieId = Long.parseLong(parts[1]);
+            List<Movie> movieList = movieRepository.findAllWithGenreAndActor(List.of(movieId));
+            apply(movieId, movieList.isEmpty() ? null
+                : new MovieDocument(movieList.get(0).toServiceDto())); // 삭제된 영화라면 제거
+            markApplied(Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            log.error("영화 검색 색인 변경 반영 실패 message={}", message, e);
+        }
+    }
+
+    /**
+     * redis 의 현재 색인 세대 조회
+     *
+     * @return 현재 세대(변경이 없었다면 0), redis 장애 시 null
+     */
+    public Long getGeneration() {
+
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+            return generation == null ? 0L : Long.parseLong(generation);
+        } catch (RuntimeException e) {
+            log.error("영화 검색 색인 세대 조회 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 이 서버 색인에 빠짐없이 반영된 세대 조회
+     * 이 세대 이하의 영화 변경은 모두 색인에 반영되어 있다.
+     *
+     * @return 반영된 세대
+     */
+    public synchronized long getAppliedGeneration() {
+
+        return appliedGeneration;
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     *
+     * @return 색인 생성 완료 여부
+     */
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    /**
+     * 영화 색인 추가 또는 갱신, 트랜잭션 안이라면 커밋 후 반영한다.
+     *
+     * @param movieServiceDto 영화 dto
+     */
+    public void put(MovieServiceDto movieServiceDto) {
+
+        MovieDocument document = new MovieDocument(movieServiceDto);
+        AfterCommit.run("영화 검색 색인 갱신 실패", () -> {
+            apply(document.id, document);
+            publishChange(document.id);
+        });
+    }
+
+    /**
+     * 영화 색인 제거, 트랜잭션 안이라면 커밋 후 반영한다.
+     *
+     * @param movieId 영화 pk
+     */
+    public void remove(Long movieId) {
+
+        AfterCommit.run("영화 검색 색인 갱신 실패", () -> {
+            apply(movieId, null);
+            publishChange(movieId);
+        });
+    }
+
+    /**
+     * 색인에서 검색 조건에 맞는 영화 pk 페이지 조회
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @param pageable      페이징 정보
+     * @return 정렬 순서대로 페이징 처리된 영화 pk
+     */
+    public Page<Long> search(MovieSearchDto.Request searchRequest, Pageable pageable) {
+
+        lock.readLock().lock();
+        try {
+            List<MovieDocument> matchedList = findByKeyword(searchRequest.getTitle())
+                .filter(d -> searchRequest.getScreenType() == null
+                    || d.screenType == searchRequest.getScreenType())
+                .filter(d -> !StringUtils.hasText(searchRequest.getGenre())
+                    || d.genreList.contains(searchRequest.getGenre()))
+                .sorted(getComparator(searchRequest.getOrderBy()))
+                .toList();
+
+            List<Long> movieIdList = matchedList.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(d -> d.id)
+                .toList();
+
+            return new PageImpl<>(movieIdList, pageable, matchedList.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 n-gram 을 모두 가진 문서를 찾은 후 실제로 검색어를 포함하는지 확인
+    private Stream<MovieDocument> findByKeyword(String keyword) {
+
+        String query = MovieSearchTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return documentMap.values().stream();
+        }
+
+        boolean chosung = MovieSearchTokenizer.isChosungQuery(query);
+        String prefix = chosung ? CHOSUNG_PREFIX : TEXT_PREFIX;
+
+        List<Set<Long>> postingList = new ArrayList<>();
+        for (String gram : MovieSearchTokenizer.toQueryGrams(query)) {
+            Set<Long> posting = postingMap.get(prefix + gram);
+            if (posting == null) {
+                return Stream.empty();
+            }
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(Set::size)); // 가장 작은 집합부터 교집합
+
+        return postingList.get(0).stream()
+            .filter(id -> postingList.stream().allMatch(posting -> posting.contains(id)))
+            .map(documentMap::get)
+            .filter(d -> (chosung ? d.chosungText : d.text).contains(query));
+    }
+
+    private Comparator<MovieDocument> getComparator(String orderBy) {
+
+        final String GRADE = "grade";
+        final String RESERVATION = "reservation";
+        final String AUDIENCE = "audience";
+
+        Comparator<MovieDocument> comparator;
+        if (orderBy == null) {
+            comparator = Comparator.comparing(d -> d.title);
+        } else {
+            comparator = switch (orderBy) {
+                case GRADE -> Comparator.comparingDouble((MovieDocument d) -> d.gradeAvg).reversed();
+                case RESERVATION ->
+                    Comparator.comparingDouble((MovieDocument d) -> d.reservationRate).reversed();
+                case AUDIENCE ->
+                    Comparator.comparingLong((MovieDocument d) -> d.totalAudienceCnt).reversed();
+                default -> Comparator.comparing(d -> d.title);
+            };
+        }
+
+        return comparator.thenComparingLong(d -> d.id);
+    }
+
+    // 문서와 n-gram 색인 추가
+    private void addDocument(Map<Long, MovieDocument> documentMap,
+        Map<String, Set<Long>> postingMap, MovieDocument document) {
+
+        documentMap.put(document.id, document);
+        document.grams().forEach(
+            gram -> postingMap.computeIfAbsent(gram, k -> new HashSet<>()).add(document.id));
+    }
+
+    // 영화 문서 반영(document 가 null 이라면 제거), 색인 생성 중이라면 새 색인에도 반영하도록 기록
+    private void apply(Long movieId, MovieDocument document) {
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentMap, postingMap, movieId);
+            if (document != null) {
+                addDocument(documentMap, postingMap, document);
+            }
+            if (buildChangeMap != null) {
+                buildChangeMap.put(movieId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setBuildChangeMap(Map<Long, MovieDocument> changeMap) {
+
+        lock.writeLock().lock();
+        try {
+            buildChangeMap = changeMap;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 세대를 올리고 다른 서버에 영화 변경 알림(실패해도 주기적인 색인 재생성으로 맞춰진다.)
+    private void publishChange(Long movieId) {
+
+        try {
+            Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+            markApplied(generation);
+            stringRedisTemplate.convertAndSend(INDEX_CHANGE_CHANNEL,
+                nodeId + SEPARATOR + movieId + SEPARATOR + generation);
+        } catch (RuntimeException e) {
+            log.error("영화 검색 색인 변경 알림 실패 movieId={}", movieId, e);
+        }
+    }
+
+    // 반영한 세대 기록, 앞 세대가 모두 반영된 만큼 반영된 세대를 올린다.
+    private synchronized void markApplied(long generation) {
+
+        if (generation <= appliedGeneration) {
+            return;
+        }
+
+        pendingGenerationSet.add(generation);
+        while (pendingGenerationSet.remove(appliedGeneration + 1)) {
+            appliedGeneration++;
+        }
+    }
+
+    // 색인 재생성으로 반영된 세대까지 반영 처리(알림이 유실된 세대도 재생성으로 반영된다.)
+    private synchronized void markAppliedUpTo(long generation) {
+
+        appliedGeneration = Math.max(appliedGeneration, generation);
+        pendingGenerationSet.headSet(appliedGeneration, true).clear();
+        while (pendingGenerationSet.remove(appliedGeneration + 1)) {
+            appliedGeneration++;
+        }
+    }
+
+    // 문서와 n-gram 색인 제거
+    private void removeDocument(Map<Long, MovieDocument> documentMap,
+        Map<String, Set<Long>> postingMap, Long movieId) {
+
+        MovieDocument document = documentMap.remove(movieId);
+        if (document == null) {
+            return;
+        }
+
+        document.grams().forEach(gram -> {
+            Set<Long> posting = postingMap.get(gram);
+            if (posting != null) {
+                posting.remove(movieId);
+                if (posting.isEmpty()) {
+                    postingMap.remove(gram);
+                }
+            }
+        });
+    }
+
+    // 색인 문서(검색, 필터, 정렬에 필요한 값만 보관)
+    private static class MovieDocument {
+
+        private final Long id; // 영화 pk
+        private final String title; // 영화 제목
+        private final String text; // 정규화된 제목, 감독, 배우, 장르
+        private final String chosungText; // text 의 초성 문자열
+        private final List<String> genreList; // 장르
+        private final ScreenType screenType; // 상영 타입
+        private final double gradeAvg; // 평균 평점
+        private final double reservationRate; // 예매율
+        private final long totalAudienceCnt; // 누적 관객 수
+
+        private MovieDocument(MovieServiceDto movieServiceDto) {
+
+            List<String> actorList = movieServiceDto.getActorList() == null ? List.of()
+                : movieServiceDto.getActorList();
+            this.id = movieServiceDto.getId();
+            this.title = movieServiceDto.getTitle();
+            this.genreList = movieServiceDto.getGenreList() == null ? List.of()
+                : movieServiceDto.getGenreList();
+            this.text = Stream.of(Stream.of(title, movieServiceDto.getDirector()),
+                    actorList.stream(), genreList.stream())
+                .flatMap(s -> s)
+                .map(MovieSearchTokenizer::normalize)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.joining(String.valueOf(MovieSearchTokenizer.FIELD_SEPARATOR)));
+            this.chosungText = MovieSearchTokenizer.toChosung(text);
+            this.screenType = movieServiceDto.getScreenType();
+            this.gradeAvg = movieServiceDto.getGradeAvg();
+            this.reservationRate = movieServiceDto.getReservationRate();
+            this.totalAudienceCnt = movieServiceDto.getTotalAudienceCnt();
+        }
+
+        // 색인할 n-gram(일반 + 초성)
+        private Set<String> grams() {
+
+            Set<String> grams = new HashSet<>();
+            MovieSearchTokenizer.toIndexGrams(text).forEach(g -> grams.add(TEXT_PREFIX + g));
+            MovieSearchTokenizer.toIndexGrams(chosungText)
+                .forEach(g -> grams.add(CHOSUNG_PREFIX + g));
+
+            return grams;
+        }
+    }
+}
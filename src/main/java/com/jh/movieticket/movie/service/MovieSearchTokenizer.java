@@ -0,0 +1,115 @@
+package com.jh.movieticket.movie.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 영화 검색 색인용 문자열 정규화 및 n-gram 분리
+// 한글 음절은 초성 문자열로도 변환하여 "ㅂㅈㄷㅅ" 같은 초성 검색을 지원한다.
+final class MovieSearchTokenizer {
+
+    static final char FIELD_SEPARATOR = '|'; // 필드 경계(정규화된 문자열에는 나오지 않는다.)
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int CHOSUNG_PERIOD = 21 * 28; // 초성 하나가 담당하는 음절 수
+    private static final char[] CHOSUNG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private MovieSearchTokenizer() {
+    }
+
+    /**
+     * 소문자로 바꾸고 글자, 숫자, 한글 자모 외의 문자(공백, 특수문자)를 제거
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열
+     */
+    static String normalize(String text) {
+
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+            .filter(Character::isLetterOrDigit)
+            .forEach(sb::appendCodePoint);
+
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환, 한글 음절이 아닌 문자는 그대로 둔다.
+     *
+     * @param normalized 정규화된 문자열
+     * @return 초성 문자열
+     */
+    static String toChosung(String normalized) {
+
+        char[] chars = normalized.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= HANGUL_BEGIN && chars[i] <= HANGUL_END) {
+                chars[i] = CHOSUNG[(chars[i] - HANGUL_BEGIN) / CHOSUNG_PERIOD];
+            }
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * 초성(호환용 자음)으로만 이루어진 검색어인지 확인
+     *
+     * @param normalized 정규화된 검색어
+     * @return 초성 검색어 여부
+     */
+    static boolean isChosungQuery(String normalized) {
+
+        return !normalized.isEmpty() && normalized.chars()
+            .allMatch(c -> c >= 'ㄱ' && c <= 'ㅎ');
+    }
+
+    /**
+     * 색인할 n-gram 분리(한 글자 + 두 글자), 필드 경계를 넘는 n-gram 은 만들지 않는다.
+     *
+     * @param text 정규화된 필드를 FIELD_SEPARATOR 로 이은 문자열
+     * @return n-gram 집합
+     */
+    static Set<String> toIndexGrams(String text) {
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+
+        return grams;
+    }
+
+    /**
+     * 검색어의 n-gram 분리, 한 글자 검색어는 한 글자 그대로, 그 외는 두 글자씩 나눈다.
+     *
+     * @param query 정규화된 검색어
+     * @return n-gram 집합
+     */
+    static Set<String> toQueryGrams(String query) {
+
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+            return grams;
+        }
+
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+
+        return grams;
+    }
+}
@@ -1,6 +1,8 @@
 package com.jh.movieticket.movie.service;
 
 import com.jh.movieticket.config.CacheName;
+import com.jh.movieticket.config.CursorPage;
+import com.jh.movieticket.config.JitteredTtlFunction;
 import com.jh.movieticket.movie.domain.Actor;
 import com.jh.movieticket.movie.domain.Genre;
 import com.jh.movieticket.movie.domain.Movie;
@@ -9,6 +11,7 @@ import com.jh.movieticket.movie.domain.MovieGenre;
 import com.jh.movieticket.movie.dto.MovieCreateDto;
 import com.jh.movieticket.movie.dto.MovieModifyDto;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieSearchResultDto;
 import com.jh.movieticket.movie.dto.MovieServiceDto;
 import com.jh.movieticket.movie.exception.MovieErrorCode;
 import com.jh.movieticket.movie.exception.MovieException;
@@ -16,9 +19,14 @@ import com.jh.movieticket.movie.repository.MovieRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
@@ -27,10 +35,14 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -39,6 +51,13 @@ public class MovieService {
     private final MovieRepository movieRepository;
     private final PosterService posterService;
     private final CacheManager redisCacheManager;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieRankingService movieRankingService;
+    private final MovieSearchCache movieSearchCache;
+    private final RedisTemplate<String, MovieServiceDto> movieCacheRedisTemplate;
+    private final JitteredTtlFunction cacheTtlFunction;
+
+    private static final String MOVIE_CACHE_KEY_PREFIX = CacheName.MOVIE_CACHE_NAME + "::";
 
     private final String IMAGE_NAME_KEY = "imageName";
     private final String IMAGE_URL_KEY = "imageUrl";
@@ -83,8 +102,12 @@ public class MovieService {
         addMovieGenreList(movie, createRequest.getGenreList());
 
         Movie finSave = movieRepository.save(movie);
+        MovieServiceDto movieServiceDto = finSave.toServiceDto();
+        movieSearchIndex.put(movieServiceDto);
+        movieRankingService.update(null, movieServiceDto);
+        movieSearchCache.evict(movieServiceDto);
 
-        return finSave.toServiceDto();
+        return movieServiceDto;
     }
 
     /**
@@ -104,6 +127,7 @@ public class MovieService {
         String originMovieTitle = modifyRequest.getOriginMovieTitle();
         Movie originMovie = movieRepository.findByTitle(originMovieTitle)
             .orElseThrow(() -> new MovieException(MovieErrorCode.NOT_FOUND_MOVIE));
+        MovieServiceDto originMovieServiceDto = originMovie.toServiceDto(); // 순위 갱신용 수정 전 영화
         if (!originMovie.getTitle().equals(modifyRequest.getTitle())
             && movieRepository.existsByTitle(
             modifyRequest.getTitle())) { // 영화 제목을 변경하고자 하며 변경할 제목이 이미 존재하는 경우
@@ -130,8 +154,12 @@ public class MovieService {
         addMovieGenreList(changedMovie, modifyRequest.getGenreList());
 
         Movie modifiedMovie = movieRepository.save(changedMovie);
+        MovieServiceDto movieServiceDto = modifiedMovie.toServiceDto();
+        movieSearchIndex.put(movieServiceDto);
+        movieRankingService.update(originMovieServiceDto, movieServiceDto);
+        movieSearchCache.evict(originMovieServiceDto, movieServiceDto);
 
-        return modifiedMovie.toServiceDto();
+        return movieServiceDto;
     }
 
     /**
@@ -149,12 +177,17 @@ public class MovieService {
             cache.evict(movie.getTitle()); // redis 캐시 삭제
         }
 
+        MovieServiceDto movieServiceDto = movie.toServiceDto();
+        movieRankingService.remove(movieServiceDto);
+        movieSearchCache.evict(movieServiceDto);
+
         Movie deletedMovie = movie.toBuilder()
             .deleteDate(LocalDateTime.now())
             .movieActorList(new ArrayList<>())
             .movieGenreList(new ArrayList<>())
             .build();
         movieRepository.save(deletedMovie);
+        movieSearchIndex.remove(id);
     }
 
     /**
@@ -164,7 +197,7 @@ public class MovieService {
      * @return 조회된 영화 dto
      */
     @Transactional(readOnly = true)
-    @Cacheable(key = "#movieTitle", value = CacheName.MOVIE_CACHE_NAME)
+    @Cacheable(key = "#movieTitle", value = CacheName.MOVIE_CACHE_NAME, sync = true)
     public MovieServiceDto verifyMovie(String movieTitle) {
 
         Movie movie = movieRepository.findByTitle(movieTitle)
@@ -173,8 +206,78 @@ public class MovieService {
         return movie.toServiceDto();
     }
 
+    /**
+     * 여러 영화 한 번에 조회 서비스
+     * 캐시는 한 번의 MGET 으로 조회하고, 캐시에 없는 영화만 한 번의 IN 쿼리로 조회한 후 파이프라인으로 캐시에 채운다.
+     *
+     * @param movieTitles 조회할 영화 제목 리스트
+     * @return 요청 순서대로의 영화 dto 리스트(없는 영화는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<MovieServiceDto> verifyMovies(Collection<String> movieTitles) {
+
+        List<String> titleList = movieTitles.stream()
+            .distinct()
+            .toList();
+        if (titleList.isEmpty()) {
+            return List.of();
+        }
+
+        List<MovieServiceDto> cachedList = multiGetCache(titleList.stream()
+            .map(title -> MOVIE_CACHE_KEY_PREFIX + title)
+            .toList());
+
+        Map<String, MovieServiceDto> movieServiceDtoMap = new HashMap<>();
+        List<String> missTitleList = new ArrayList<>();
+        for (int i = 0; i < titleList.size(); i++) {
+            MovieServiceDto cached = cachedList.get(i);
+            if (cached != null) {
+                movieServiceDtoMap.put(titleList.get(i), cached);
+            } else {
+                missTitleList.add(titleList.get(i));
+            }
+        }
+
+        if (!missTitleList.isEmpty()) {
+            List<MovieServiceDto> loadedList = movieRepository.findAllWithGenreAndActorByTitleIn(
+                    missTitleList).stream()
+                .map(Movie::toServiceDto)
+                .toList();
+            loadedList.forEach(dto -> movieServiceDtoMap.put(dto.getTitle(), dto));
+            putAllCache(loadedList);
+        }
+
+        return titleList.stream()
+            .map(movieServiceDtoMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 여러 영화 pk 로 한 번에 조회 서비스
+     * 한 번의 IN 쿼리로 조회한 후 제목 캐시를 파이프라인으로 채운다.
+     *
+     * @param movieIds 조회할 영화 pk 리스트
+     * @return 요청 순서대로의 영화 dto 리스트(없는 영화는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<MovieServiceDto> verifyMoviesByIds(Collection<Long> movieIds) {
+
+        List<MovieServiceDto> movieServiceDtoList = movieRepository.findAllWithGenreAndActor(
+                movieIds.stream().distinct().toList()).stream()
+            .map(Movie::toServiceDto)
+            .toList();
+        putAllCache(movieServiceDtoList);
+
+        return movieServiceDtoList;
+    }
+
     /**
      * 영화 검색 서비스
+     * 같은 색인 세대, 검색 조건, 페이지의 결과가 캐시되어 있다면 그대로 반환한다.
+     * 검색 색인에서 페이지에 해당하는 영화 pk 를 찾고 db 에서는 그 영화만 조회한다.
+     * 색인이 아직 생성되지 않았다면 db 에서 검색한다.
+     * 이 서버 색인이 조회한 세대까지의 변경을 반영하지 못했다면 결과를 캐시하지 않는다.
      *
      * @param searchRequest 검색어 및 필어 정보
      * @param pageable      페이징 정보
@@ -184,12 +287,62 @@ public class MovieService {
     public Page<MovieServiceDto> searchMovie(MovieSearchDto.Request searchRequest,
         Pageable pageable) {
 
-        Page<Movie> searchResult = movieRepository.findBySearchOption(searchRequest, pageable);
-        List<MovieServiceDto> movieServiceDtoList = searchResult.getContent().stream()
+        Long generation = movieSearchIndex.getGeneration(); // redis 장애 시 null(캐시 사용 x)
+        if (generation != null) {
+            MovieSearchResultDto cached = movieSearchCache.get(generation, searchRequest,
+                pageable);
+            if (cached != null) {
+                return new PageImpl<>(cached.getContent(), pageable, cached.getTotalElements());
+            }
+        }
+
+        Page<MovieServiceDto> result;
+        boolean cacheable = generation != null;
+        if (!movieSearchIndex.isReady()) {
+            result = movieRepository.findBySearchOption(searchRequest, pageable)
+                .map(Movie::toServiceDto);
+        } else {
+            cacheable = cacheable && movieSearchIndex.getAppliedGeneration() >= generation;
+            Page<Long> movieIdPage = movieSearchIndex.search(searchRequest, pageable);
+            List<MovieServiceDto> movieServiceDtoList = movieRepository.findAllWithGenreAndActor(
+                    movieIdPage.getContent()).stream()
+                .map(Movie::toServiceDto)
+                .toList();
+            result = new PageImpl<>(movieServiceDtoList, pageable, movieIdPage.getTotalElements());
+        }
+
+        if (cacheable) {
+            movieSearchCache.put(generation, searchRequest, pageable,
+                MovieSearchResultDto.builder()
+                    .content(new ArrayList<>(result.getContent()))
+                    .totalElements(result.getTotalElements())
+                    .build());
+        }
+
+        return result;
+    }
+
+    /**
+     * 영화 커서 검색 서비스
+     *
+     * @param searchRequest 검색어 및 필터 정보
+     * @param cursor        이전 페이지의 다음 커서(첫 페이지라면 null)
+     * @param size          페이지 크기
+     * @return 커서 페이징 처리된 영화 서비스 dto
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MovieServiceDto> searchMovieByCursor(MovieSearchDto.Request searchRequest,
+        String cursor, int size) {
+
+        List<Long> movieIdList = movieRepository.findIdsBySearchOptionAfter(searchRequest,
+            CursorPage.decodeCursorId(cursor), CursorPage.decodeCursorSortValue(cursor), size + 1);
+        List<MovieServiceDto> movieServiceDtoList = movieRepository.findAllWithGenreAndActor(
+                movieIdList).stream()
             .map(Movie::toServiceDto)
             .toList();
 
-        return new PageImpl<>(movieServiceDtoList, pageable, movieServiceDtoList.size());
+        return CursorPage.of(movieServiceDtoList, size, dto -> CursorPage.encodeCursor(dto.getId(),
+            getCursorSortValue(dto, searchRequest.getOrderBy())));
     }
 
     /**
@@ -248,4 +401,74 @@ public class MovieService {
 
         return LocalDate.of(year, month, day);
     }
+
+    /**
+     * 커서에 담을 정렬 기준 값
+     *
+     * @param movieServiceDto 영화 dto
+     * @param orderBy         정렬 기준
+     * @return 정렬 기준 값
+     */
+    private Object getCursorSortValue(MovieServiceDto movieServiceDto, String orderBy) {
+
+        if (orderBy == null) {
+            return movieServiceDto.getTitle();
+        }
+
+        return switch (orderBy) {
+            case "grade" -> movieServiceDto.getGradeAvg();
+            case "reservation" -> movieServiceDto.getReservationRate();
+            case "audience" -> movieServiceDto.getTotalAudienceCnt();
+            default -> movieServiceDto.getTitle();
+        };
+    }
+
+    /**
+     * 영화 캐시 MGET, redis 장애 시 전부 캐시에 없는 것으로 처리
+     *
+     * @param keyList 캐시 키 리스트
+     * @return 키 순서대로의 캐시 값(없으면 null)
+     */
+    private List<MovieServiceDto> multiGetCache(List<String> keyList) {
+
+        try {
+            List<MovieServiceDto> cachedList = movieCacheRedisTemplate.opsForValue()
+                .multiGet(keyList);
+            if (cachedList != null) {
+                return cachedList;
+            }
+        } catch (RuntimeException e) {
+            log.error("영화 캐시 조회 실패", e);
+        }
+
+        return Arrays.asList(new MovieServiceDto[keyList.size()]);
+    }
+
+    /**
+     * 조회한 영화들을 파이프라인으로 한 번에 캐시에 저장
+     *
+     * @param movieServiceDtoList 저장할 영화 dto 리스트
+     */
+    @SuppressWarnings("unchecked")
+    private void putAllCache(List<MovieServiceDto> movieServiceDtoList) {
+
+        if (movieServiceDtoList.isEmpty()) {
+            return;
+        }
+
+        try {
+            movieCacheRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, MovieServiceDto> movieOperations =
+                        (RedisOperations<String, MovieServiceDto>) operations;
+                    movieServiceDtoList.forEach(dto -> movieOperations.opsForValue()
+                        .set(MOVIE_CACHE_KEY_PREFIX + dto.getTitle(), dto, cacheTtlFunction.next()));
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("영화 캐시 저장 실패", e);
+        }
+    }
 }
@@ -0,0 +1,173 @@
+package com.jh.movieticket.reservation.controller;
+
+import com.jh.movieticket.config.GlobalApiResponse;
+import com.jh.movieticket.reservation.dto.ReservationCreateDto;
+import com.jh.movieticket.reservation.dto.ReservationServiceDto;
+import com.jh.movieticket.reservation.dto.SeatHoldDto;
+import com.jh.movieticket.reservation.dto.SeatHoldServiceDto;
+import com.jh.movieticket.reservation.dto.SeatMapCompactDto;
+import com.jh.movieticket.reservation.dto.SeatMapCompactServiceDto;
+import com.jh.movieticket.reservation.dto.SeatMapServiceDto;
+import com.jh.movieticket.reservation.dto.SeatMapVerifyDto;
+import com.jh.movieticket.reservation.dto.SeatStatusModifyDto;
+import com.jh.movieticket.reservation.service.IdempotencyStore;
+import com.jh.movieticket.reservation.service.ReservationService;
+import com.jh.movieticket.reservation.service.SeatInventoryService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reservations")
+@RequiredArgsConstructor
+@Validated
+public class ReservationController {
+
+    private final SeatInventoryService seatInventoryService;
+    private final ReservationService reservationService;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * 좌석 선점 컨트롤러
+     *
+     * @param holdRequest 선점 정보 dto
+     * @return 성공 시 200 코드와 선점 만료 시간, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @PostMapping("/hold")
+    public ResponseEntity<GlobalApiResponse<SeatHoldDto.Response>> seatHoldController(
+        @Valid @RequestBody SeatHoldDto.Request holdRequest) {
+
+        SeatHoldServiceDto seatHold = reservationService.holdSeats(holdRequest.getUserId(),
+            holdRequest.getScheduleId(), holdRequest.getSeatNoList());
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, seatHold.toHoldResponse()));
+    }
+
+    /**
+     * 좌석 선점 해제 컨트롤러
+     *
+     * @param releaseRequest 해제 정보 dto
+     * @return 성공 시 200 코드, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @PostMapping("/hold/release")
+    public ResponseEntity<GlobalApiResponse<?>> seatHoldReleaseController(
+        @Valid @RequestBody SeatHoldDto.Request releaseRequest) {
+
+        reservationService.releaseHold(releaseRequest.getUserId(), releaseRequest.getScheduleId(),
+            releaseRequest.getSeatNoList());
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, null));
+    }
+
+    /**
+     * 좌석 예매 컨트롤러
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 예매하지 않고 처음 예매 결과를 응답한다.
+     * 같은 키로 다른 스케줄, 좌석을 요청하면 거절한다.
+     *
+     * @param idempotencyKey 멱등키
+     * @param createRequest  예매 정보 dto
+     * @return 성공 시 200 코드와 좌석별 예매 내역, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @PostMapping("/reservation")
+    public ResponseEntity<GlobalApiResponse<List<ReservationCreateDto.Response>>> reservationCreateController(
+        @Size(max = 100, message = "멱등키는 100자를 넘을 수 없습니다.") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @Valid @RequestBody ReservationCreateDto.Request createRequest) {
+
+        List<ReservationServiceDto> reservationList;
+        if (idempotencyKey == null) {
+            reservationList = reservationService.reserve(createRequest.getUserId(),
+                createRequest.getScheduleId(), createRequest.getSeatNoList());
+        } else { // redis 에 타입 정보와 함께 저장되도록 ArrayList 로 보관
+            reservationList = idempotencyStore.execute(
+                "reservation:" + createRequest.getUserId() + ":" + idempotencyKey,
+                createRequest.getScheduleId() + ":" + createRequest.getSeatNoList(),
+                () -> new ArrayList<>(reservationService.reserve(createRequest.getUserId(),
+                    createRequest.getScheduleId(), createRequest.getSeatNoList())));
+        }
+        List<ReservationCreateDto.Response> response = reservationList.stream()
+            .map(ReservationServiceDto::toCreateResponse)
+            .toList();
+
+        return ResponseEntity.ok(GlobalApiResponse.toGlobalResponse(HttpStatus.OK, response));
+    }
+
+    /**
+     * 상영 스케줄 좌석 현황 조회 컨트롤러
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 성공 시 200 코드와 좌석 현황, 실패 시 에러코드와 에러메시지
+     */
+    @GetMapping("/schedules/{scheduleId}/seats")
+    public ResponseEntity<GlobalApiResponse<SeatMapVerifyDto.Response>> seatMapVerifyController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long scheduleId) {
+
+        SeatMapServiceDto seatMap = seatInventoryService.getSeatMap(scheduleId);
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, seatMap.toVerifyResponse()));
+    }
+
+    /**
+     * 상영 스케줄 압축 좌석 현황 조회 컨트롤러
+     * epoch 와 sinceVersion 을 보내면 그 이후 변경된 좌석만 응답하며, 변경분을 알 수 없다면 전체 좌석 상태를 응답한다.
+     *
+     * @param scheduleId   영화 스케줄 pk
+     * @param epoch        클라이언트가 알고 있는 버전의 비트맵 식별값
+     * @param sinceVersion 클라이언트가 알고 있는 좌석 상태 버전
+     * @return 성공 시 200 코드와 압축된 좌석 현황, 실패 시 에러코드와 에러메시지
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/compact")
+    public ResponseEntity<GlobalApiResponse<SeatMapCompactDto.Response>> seatMapCompactVerifyController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long scheduleId,
+        @RequestParam(required = false) String epoch,
+        @PositiveOrZero(message = "버전은 음수일 수 없습니다.") @RequestParam(required = false) Long sinceVersion) {
+
+        SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(scheduleId,
+            epoch, sinceVersion);
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, seatMap.toCompactResponse()));
+    }
+
+    /**
+     * 상영 스케줄 좌석 상태 변경 컨트롤러(고장 좌석 사용 불가 처리 등)
+     *
+     * @param scheduleId    영화 스케줄 pk
+     * @param modifyRequest 변경할 좌석 정보 dto
+     * @return 성공 시 200 코드와 변경된 좌석 현황, 실패 시 에러코드와 에러메시지
+     */
+    @PutMapping("/schedules/{scheduleId}/seats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalApiResponse<SeatMapVerifyDto.Response>> seatStatusModifyController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long scheduleId,
+        @Valid @RequestBody SeatStatusModifyDto.Request modifyRequest) {
+
+        seatInventoryService.changeSeatStatus(scheduleId, modifyRequest.getSeatNoList(),
+            modifyRequest.getStatus());
+        SeatMapServiceDto seatMap = seatInventoryService.getSeatMap(scheduleId);
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, seatMap.toVerifyResponse()));
+    }
+}
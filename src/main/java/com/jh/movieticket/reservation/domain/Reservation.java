@@ -3,22 +3,30 @@ package com.jh.movieticket.reservation.domain;
 import com.jh.movieticket.config.BaseTimeEntity;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.movie.domain.MovieSchedule;
+import com.jh.movieticket.reservation.dto.ReservationServiceDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import java.time.LocalDateTime;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 예매는 소프트딜리트하지 않고 항상 실제로 삭제한다.(회원 탈퇴 시 deleteReservationByMember)
+// 따라서 남아있는 행은 모두 유효한 예매이며, 스케줄 + 좌석 번호 유니크 제약이 같은 좌석의 중복 예매를 막는다.
 @Entity
+@Table(indexes = @Index(name = "idx_reservation_number", columnList = "reservation_number"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_reservation_schedule_seat",
+        columnNames = {"movie_schedule_id", "seat_no"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -43,6 +51,19 @@ public class Reservation extends BaseTimeEntity {
     @Column
     private int seatNo; // 좌석 번호
 
-    @Column
-    private LocalDateTime deleteDate; // 삭제날짜
+    /**
+     * Entity -> ServiceDto
+     *
+     * @return ServiceDto
+     */
+    public ReservationServiceDto toServiceDto() {
+
+        return ReservationServiceDto.builder()
+            .id(id)
+            .reservationNumber(reservationNumber)
+            .userId(member.getUserId())
+            .scheduleId(movieSchedule.getId())
+            .seatNo(seatNo)
+            .build();
+    }
 }
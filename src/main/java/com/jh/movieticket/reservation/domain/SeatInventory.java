@@ -0,0 +1,282 @@
+package com.jh.movieticket.reservation.domain;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.reservation.exception.ReservationErrorCode;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+
+// 영화 스케줄별 좌석 상태를 좌석당 2비트로 압축하여 메모리에 보관하는 클래스
+// 버전은 비트맵마다 따로 증가하므로 비트맵을 만들 때마다 새로 정하는 epoch 와 함께 써야 서버 간, 재적재 전후의 버전을 구분할 수 있다.
+public class SeatInventory {
+
+    private static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_WORD = Long.SIZE / BITS_PER_SEAT; // long 하나에 32좌석
+    private static final long SEAT_MASK = 0b11L;
+    private static final long LOW_BIT_MASK = 0x5555555555555555L; // 좌석별 하위 비트만 남기는 마스크
+    private static final int CHANGE_LOG_SIZE = 1024; // 보관하는 최근 변경 개수(2의 거듭제곱)
+    private static final int CHANGE_SEAT_BITS = 24; // 변경 로그에서 좌석 번호가 차지하는 비트 수
+    private static final long CHANGE_SEAT_MASK = (1L << CHANGE_SEAT_BITS) - 1;
+
+    @Getter
+    private final Long scheduleId; // 영화 스케줄 pk
+    @Getter
+    private final int seatCnt; // 총 좌석 수
+    @Getter
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong()); // 비트맵 식별값(버전의 기준)
+    private final AtomicLongArray seatBitmap; // 좌석 상태 비트맵(좌석 번호 1번이 0번째 슬롯)
+    private final AtomicLong version = new AtomicLong(); // 좌석 상태가 변경될 때마다 증가하는 버전
+    private final AtomicLongArray changeLog = new AtomicLongArray(CHANGE_LOG_SIZE); // 버전별 변경 좌석(버전 << 24 | 좌석 번호) 링 버퍼
+
+    public SeatInventory(Long scheduleId, int seatCnt) {
+
+        this.scheduleId = scheduleId;
+        this.seatCnt = seatCnt;
+        this.seatBitmap = new AtomicLongArray((seatCnt + SEATS_PER_WORD - 1) / SEATS_PER_WORD);
+    }
+
+    /**
+     * 현재 좌석 상태 버전 조회
+     *
+     * @return 좌석 상태 버전
+     */
+    public long getVersion() {
+
+        return version.get();
+    }
+
+    /**
+     * 좌석 상태 조회
+     *
+     * @param seatNo 좌석 번호
+     * @return 좌석 상태
+     */
+    public SeatType getStatus(int seatNo) {
+
+        int index = toIndex(seatNo);
+        long word = seatBitmap.get(index / SEATS_PER_WORD);
+
+        return SeatType.fromCode((int) ((word >>> shiftOf(index)) & SEAT_MASK));
+    }
+
+    /**
+     * 좌석 상태 변경
+     *
+     * @param seatNo 좌석 번호
+     * @param status 변경할 상태
+     * @return 변경 전 좌석 상태
+     */
+    public SeatType setStatus(int seatNo, SeatType status) {
+
+        int index = toIndex(seatNo);
+        int wordIndex = index / SEATS_PER_WORD;
+        int shift = shiftOf(index);
+
+        long prev;
+        long next;
+        do {
+            prev = seatBitmap.get(wordIndex);
+            next = (prev & ~(SEAT_MASK << shift)) | ((long) status.getCode() << shift);
+        } while (!seatBitmap.compareAndSet(wordIndex, prev, next));
+
+        if (prev != next) {
+            appendChange(index);
+        }
+
+        return SeatType.fromCode((int) ((prev >>> shift) & SEAT_MASK));
+    }
+
+    /**
+     * 예약 가능한 좌석들을 한 번에 선점, 하나라도 선점할 수 없다면 전부 선점하지 않는다.
+     * 좌석이 속한 long 단위로 compare-and-set 하며 항상 낮은 번호의 long 부터 시도하여 경합 시 진행이 보장된다.
+     *
+     * @param seatNoList 선점할 좌석 번호 리스트
+     * @param status     선점 후 좌석 상태
+     * @return 선점 성공 여부
+     */
+    public boolean claim(List<Integer> seatNoList, SeatType status) {
+
+        int[] indexes = seatNoList.stream()
+            .mapToInt(this::toIndex)
+            .sorted()
+            .toArray();
+
+        // 같은 long 에 속한 좌석끼리 묶어 마스크 생성
+        int[] wordIndexes = new int[indexes.length];
+        long[] masks = new long[indexes.length];
+        long[] values = new long[indexes.length];
+        int wordCnt = 0;
+        for (int index : indexes) {
+            int wordIndex = index / SEATS_PER_WORD;
+            long seatMask = SEAT_MASK << shiftOf(index);
+            if (wordCnt == 0 || wordIndexes[wordCnt - 1] != wordIndex) {
+                wordIndexes[wordCnt++] = wordIndex;
+            }
+            if ((masks[wordCnt - 1] & seatMask) != 0) { // 같은 좌석이 중복으로 들어온 경우
+                throw new ReservationException(ReservationErrorCode.DUPLICATED_SEAT_NO);
+            }
+            masks[wordCnt - 1] |= seatMask;
+            values[wordCnt - 1] |= (long) status.getCode() << shiftOf(index);
+        }
+
+        for (int i = 0; i < wordCnt; i++) {
+            long prev;
+            do {
+                prev = seatBitmap.get(wordIndexes[i]);
+                if ((prev & masks[i]) != 0) { // AVAILABLE(00)이 아닌 좌석이 포함된 경우 앞서 선점한 좌석 원복
+                    rollback(wordIndexes, masks, i);
+                    for (int index : indexes) { // 원복 전 잠시 변경되었던 좌석도 변경 로그에 남긴다.
+                        if (index / SEATS_PER_WORD >= wordIndexes[i]) {
+                            break;
+                        }
+                        appendChange(index);
+                    }
+                    return false;
+                }
+            } while (!seatBitmap.compareAndSet(wordIndexes[i], prev, prev | values[i]));
+        }
+
+        for (int index : indexes) {
+            appendChange(index);
+        }
+
+        return true;
+    }
+
+    /**
+     * 선점한 좌석들을 예약 가능 상태로 되돌린다.
+     *
+     * @param seatNoList 되돌릴 좌석 번호 리스트
+     */
+    public void release(List<Integer> seatNoList) {
+
+        seatNoList.forEach(seatNo -> setStatus(seatNo, SeatType.AVAILABLE));
+    }
+
+    /**
+     * 예약 가능한 남은 좌석 수 조회
+     *
+     * @return 남은 좌석 수
+     */
+    public int getRemainSeatCnt() {
+
+        int remain = 0;
+        for (int i = 0; i < seatBitmap.length(); i++) {
+            long word = seatBitmap.get(i);
+            long occupied = (word | (word >>> 1)) & LOW_BIT_MASK; // 두 비트 중 하나라도 켜진 좌석(AVAILABLE 이 아닌 좌석)
+            int seatsInWord = Math.min(SEATS_PER_WORD, seatCnt - i * SEATS_PER_WORD);
+            remain += seatsInWord - Long.bitCount(occupied);
+        }
+
+        return remain;
+    }
+
+    /**
+     * 좌석 번호 순서대로 정렬된 전체 좌석 상태 조회
+     *
+     * @return 좌석 상태 리스트
+     */
+    public List<SeatType> getSeatStatusList() {
+
+        List<SeatType> seatStatusList = new ArrayList<>(seatCnt);
+        for (int i = 0; i < seatBitmap.length(); i++) {
+            long word = seatBitmap.get(i);
+            int seatsInWord = Math.min(SEATS_PER_WORD, seatCnt - i * SEATS_PER_WORD);
+            for (int j = 0; j < seatsInWord; j++) {
+                seatStatusList.add(SeatType.fromCode((int) ((word >>> (j * BITS_PER_SEAT)) & SEAT_MASK)));
+            }
+        }
+
+        return seatStatusList;
+    }
+
+    /**
+     * 전체 좌석 상태를 좌석당 2비트로 압축한 바이트 배열 조회
+     * 한 바이트에 좌석 4개를 담으며 좌석 번호가 작은 좌석이 하위 비트에 위치한다.
+     * (00: AVAILABLE, 01: BOOKED, 10: UNAVAILABLE)
+     *
+     * @return 압축된 좌석 상태
+     */
+    public byte[] toPackedBytes() {
+
+        byte[] packed = new byte[(seatCnt + 3) / 4];
+        for (int i = 0; i < packed.length; i++) {
+            long word = seatBitmap.get(i / Long.BYTES);
+            packed[i] = (byte) (word >>> ((i % Long.BYTES) * Byte.SIZE));
+        }
+
+        return packed;
+    }
+
+    /**
+     * sinceVersion 이후 untilVersion 까지 상태가 변경된 좌석 번호 조회
+     *
+     * @param sinceVersion 이미 알고 있는 버전
+     * @param untilVersion 조회할 마지막 버전
+     * @return 변경된 좌석 번호 리스트(중복 제거, 오름차순), 변경 로그가 이미 덮어써져 알 수 없다면 null
+     */
+    public List<Integer> getChangedSeatNoList(long sinceVersion, long untilVersion) {
+
+        if (sinceVersion < 0 || sinceVersion > untilVersion
+            || untilVersion - sinceVersion > CHANGE_LOG_SIZE) {
+            return null;
+        }
+
+        boolean[] changed = new boolean[seatCnt];
+        for (long v = sinceVersion + 1; v <= untilVersion; v++) {
+            long entry = changeLog.get((int) (v & (CHANGE_LOG_SIZE - 1)));
+            long entryVersion = entry >>> CHANGE_SEAT_BITS;
+            if (entryVersion != v) { // 이후 변경이 덮어썼거나 버전만 오르고 아직 기록되지 않은 경우
+                return null;
+            }
+            changed[(int) (entry & CHANGE_SEAT_MASK)] = true;
+        }
+
+        List<Integer> changedSeatNoList = new ArrayList<>();
+        for (int i = 0; i < seatCnt; i++) {
+            if (changed[i]) {
+                changedSeatNoList.add(i + 1);
+            }
+        }
+
+        return changedSeatNoList;
+    }
+
+    // 좌석 상태 변경 후 버전을 올리고 변경 로그에 기록
+    private void appendChange(int index) {
+
+        long v = version.incrementAndGet();
+        changeLog.set((int) (v & (CHANGE_LOG_SIZE - 1)), (v << CHANGE_SEAT_BITS) | index);
+    }
+
+    // 앞에서부터 cnt 개의 long 에서 선점했던 좌석을 AVAILABLE(00)로 되돌림
+    private void rollback(int[] wordIndexes, long[] masks, int cnt) {
+
+        for (int i = 0; i < cnt; i++) {
+            long prev;
+            do {
+                prev = seatBitmap.get(wordIndexes[i]);
+            } while (!seatBitmap.compareAndSet(wordIndexes[i], prev, prev & ~masks[i]));
+        }
+    }
+
+    // 좌석 번호 -> 비트맵 슬롯 번호
+    private int toIndex(int seatNo) {
+
+        if (seatNo < 1 || seatNo > seatCnt) {
+            throw new ReservationException(ReservationErrorCode.INVALID_SEAT_NO);
+        }
+
+        return seatNo - 1;
+    }
+
+    // 슬롯이 위치한 long 내부의 비트 위치
+    private int shiftOf(int index) {
+
+        return (index % SEATS_PER_WORD) * BITS_PER_SEAT;
+    }
+}
@@ -0,0 +1,45 @@
+package com.jh.movieticket.reservation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 예매 시 dto
+public class ReservationCreateDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotBlank(message = "예매하는 회원 아이디를 입력해주세요.")
+        private String userId; // 예매하는 회원 아이디
+
+        @NotNull(message = "pk값은 null일 수 없습니다.")
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.")
+        private Long scheduleId; // 영화 스케줄 pk
+
+        @NotEmpty(message = "예매할 좌석 번호를 입력해주세요.")
+        private List<@NotNull(message = "예매할 좌석 번호를 입력해주세요.") @Positive(message = "좌석 번호는 0 또는 음수일 수 없습니다.") Integer> seatNoList; // 예매할 좌석 번호
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Response {
+
+        private String reservationNumber; // 예약 번호
+        private String userId; // 예약한 회원 아이디
+        private Long scheduleId; // 예약한 영화 스케줄 pk
+        private int seatNo; // 좌석 번호
+    }
+}
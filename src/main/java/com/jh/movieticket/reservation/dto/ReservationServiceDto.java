@@ -0,0 +1,37 @@
+package com.jh.movieticket.reservation.dto;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 예매 서비스 레이어 dto
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class ReservationServiceDto implements Serializable {
+
+    private Long id; // pk
+    private String reservationNumber; // 예약 번호
+    private String userId; // 예약한 회원 아이디
+    private Long scheduleId; // 예약한 영화 스케줄 pk
+    private int seatNo; // 좌석 번호
+
+    /**
+     * ServiceDto -> CreateResponse
+     *
+     * @return CreateResponse
+     */
+    public ReservationCreateDto.Response toCreateResponse() {
+
+        return ReservationCreateDto.Response.builder()
+            .reservationNumber(reservationNumber)
+            .userId(userId)
+            .scheduleId(scheduleId)
+            .seatNo(seatNo)
+            .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jh.movieticket.reservation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 선점, 선점 해제 시 dto
+public class SeatHoldDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotBlank(message = "좌석을 선점하는 회원 아이디를 입력해주세요.")
+        private String userId; // 선점하는 회원 아이디
+
+        @NotNull(message = "pk값은 null일 수 없습니다.")
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.")
+        private Long scheduleId; // 영화 스케줄 pk
+
+        @NotEmpty(message = "선점할 좌석 번호를 입력해주세요.")
+        private List<@NotNull(message = "선점할 좌석 번호를 입력해주세요.") @Positive(message = "좌석 번호는 0 또는 음수일 수 없습니다.") Integer> seatNoList; // 선점할 좌석 번호
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Response {
+
+        private Long scheduleId; // 영화 스케줄 pk
+        private List<Integer> seatNoList; // 선점한 좌석 번호
+        private LocalDateTime expireDate; // 선점 만료 시간
+    }
+}
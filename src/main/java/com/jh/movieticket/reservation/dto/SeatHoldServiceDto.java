@@ -0,0 +1,35 @@
+package com.jh.movieticket.reservation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 선점 서비스 레이어 dto
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class SeatHoldServiceDto {
+
+    private Long scheduleId; // 영화 스케줄 pk
+    private List<Integer> seatNoList; // 선점한 좌석 번호
+    private LocalDateTime expireDate; // 선점 만료 시간
+
+    /**
+     * ServiceDto -> HoldResponse
+     *
+     * @return HoldResponse
+     */
+    public SeatHoldDto.Response toHoldResponse() {
+
+        return SeatHoldDto.Response.builder()
+            .scheduleId(scheduleId)
+            .seatNoList(seatNoList)
+            .expireDate(expireDate)
+            .build();
+    }
+}
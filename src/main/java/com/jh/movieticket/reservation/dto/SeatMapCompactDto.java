@@ -0,0 +1,29 @@
+package com.jh.movieticket.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 압축된 좌석 현황 조회 시 dto
+public class SeatMapCompactDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Response {
+
+        private Long scheduleId; // 영화 스케줄 pk
+        private String epoch; // 좌석 상태 버전의 기준이 되는 비트맵 식별값
+        private Long sinceVersion; // 변경분의 기준 버전(전체 조회 시 null)
+        private long version; // 좌석 상태 버전
+        private int seatCnt; // 총 좌석 수
+        private String seats; // 전체 조회 시 좌석당 2비트로 압축한 좌석 상태(base64)
+        private List<Integer> changes; // 변경분 조회 시 변경된 좌석(좌석 번호 * 4 + 좌석 상태 코드)
+    }
+}
@@ -0,0 +1,43 @@
+package com.jh.movieticket.reservation.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 압축된 좌석 현황 서비스 레이어 dto
+// 변경분을 알 수 없는 경우 changeList 대신 전체 좌석 상태(seats)를 담는다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class SeatMapCompactServiceDto {
+
+    private Long scheduleId; // 영화 스케줄 pk
+    private String epoch; // 좌석 상태 버전의 기준이 되는 비트맵 식별값
+    private Long sinceVersion; // 변경분의 기준 버전(전체 조회 시 null)
+    private long version; // 좌석 상태 버전
+    private int seatCnt; // 총 좌석 수
+    private String seats; // 좌석당 2비트로 압축한 좌석 상태(base64)
+    private List<Integer> changeList; // 변경된 좌석(좌석 번호 * 4 + 좌석 상태 코드)
+
+    /**
+     * ServiceDto -> CompactResponse
+     *
+     * @return CompactResponse
+     */
+    public SeatMapCompactDto.Response toCompactResponse() {
+
+        return SeatMapCompactDto.Response.builder()
+            .scheduleId(scheduleId)
+            .epoch(epoch)
+            .sinceVersion(sinceVersion)
+            .version(version)
+            .seatCnt(seatCnt)
+            .seats(seats)
+            .changes(changeList)
+            .build();
+    }
+}
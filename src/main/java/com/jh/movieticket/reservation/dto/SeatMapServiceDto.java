@@ -0,0 +1,37 @@
+package com.jh.movieticket.reservation.dto;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 현황 서비스 레이어 dto
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class SeatMapServiceDto {
+
+    private Long scheduleId; // 영화 스케줄 pk
+    private int seatCnt; // 총 좌석 수
+    private int remainSeatCnt; // 남은 좌석 수
+    private List<SeatType> seatStatusList; // 좌석 번호 순서대로 정렬된 좌석 상태
+
+    /**
+     * ServiceDto -> VerifyResponse
+     *
+     * @return VerifyResponse
+     */
+    public SeatMapVerifyDto.Response toVerifyResponse() {
+
+        return SeatMapVerifyDto.Response.builder()
+            .scheduleId(scheduleId)
+            .seatCnt(seatCnt)
+            .remainSeatCnt(remainSeatCnt)
+            .seatStatusList(seatStatusList)
+            .build();
+    }
+}
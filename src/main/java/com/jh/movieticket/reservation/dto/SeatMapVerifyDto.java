@@ -0,0 +1,25 @@
+package com.jh.movieticket.reservation.dto;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 현황 조회 시 dto
+public class SeatMapVerifyDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Response {
+
+        private Long scheduleId; // 영화 스케줄 pk
+        private int seatCnt; // 총 좌석 수
+        private int remainSeatCnt; // 남은 좌석 수
+        private List<SeatType> seatStatusList; // 좌석 번호 순서대로 정렬된 좌석 상태
+    }
+}
@@ -0,0 +1,30 @@
+package com.jh.movieticket.reservation.dto;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.validation.IsEnum;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 상태 변경 시 dto
+public class SeatStatusModifyDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotEmpty(message = "변경할 좌석 번호를 입력해주세요.")
+        private List<@NotNull(message = "변경할 좌석 번호를 입력해주세요.") @Positive(message = "좌석 번호는 0 또는 음수일 수 없습니다.") Integer> seatNoList; // 변경할 좌석 번호
+
+        @IsEnum(message = "올바른 좌석 상태를 입력하세요. (ex. AVAILABLE, UNAVAILABLE)")
+        private SeatType status; // 변경할 좌석 상태
+    }
+}
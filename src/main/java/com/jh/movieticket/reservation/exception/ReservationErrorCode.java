@@ -0,0 +1,21 @@
+package com.jh.movieticket.reservation.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum ReservationErrorCode {
+
+    NOT_FOUND_SCHEDULE(HttpStatus.BAD_REQUEST.value(), "등록되지 않은 상영 스케줄입니다."),
+    NOT_FOUND_SCHEDULE_SEAT(HttpStatus.BAD_REQUEST.value(), "좌석 정보가 등록되지 않은 상영 스케줄입니다."),
+    INVALID_SEAT_NO(HttpStatus.BAD_REQUEST.value(), "존재하지 않는 좌석 번호입니다."),
+    DUPLICATED_SEAT_NO(HttpStatus.BAD_REQUEST.value(), "중복된 좌석 번호가 포함되어 있습니다."),
+    ALREADY_RESERVED_SEAT(HttpStatus.BAD_REQUEST.value(), "이미 예약되었거나 예약할 수 없는 좌석이 포함되어 있습니다."),
+    REQUEST_IN_PROGRESS(HttpStatus.BAD_REQUEST.value(), "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.BAD_REQUEST.value(), "같은 멱등키로 다른 내용의 요청을 보낼 수 없습니다.");
+
+    private final int status;
+    private final String message;
+}
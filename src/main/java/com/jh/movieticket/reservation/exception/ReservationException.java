@@ -0,0 +1,15 @@
+package com.jh.movieticket.reservation.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ReservationException extends RuntimeException {
+
+    private final ReservationErrorCode reservationErrorCode;
+
+    public ReservationException(ReservationErrorCode reservationErrorCode) {
+
+        super(reservationErrorCode.getMessage());
+        this.reservationErrorCode = reservationErrorCode;
+    }
+}
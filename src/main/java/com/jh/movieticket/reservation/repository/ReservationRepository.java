@@ -1,6 +1,7 @@
 package com.jh.movieticket.reservation.repository;
 
 import com.jh.movieticket.reservation.domain.Reservation;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +13,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Modifying
     @Query("DELETE Reservation r WHERE r.member.id = :parentId")
     void deleteReservationByMember(Long parentId); // 회원 소프트딜리트로 인한 예매 엔티티 삭제 메소드
+
+    @Query("SELECT MAX(r.reservationNumber) FROM Reservation r WHERE r.reservationNumber BETWEEN :from AND :to")
+    Optional<String> findMaxReservationNumber(String from, String to); // 예약 번호 범위 안의 가장 큰 예약 번호 조회
 }
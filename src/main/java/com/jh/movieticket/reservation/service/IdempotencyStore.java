@@ -0,0 +1,180 @@
+package com.jh.movieticket.reservation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jh.movieticket.reservation.exception.ReservationErrorCode;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 멱등키별 처리 결과 저장소
+// 완료된 결과는 로컬(caffeine)과 redis 에 보관하여 같은 멱등키로 재시도한 요청은 다시 처리하지 않고 저장된 결과를 리턴한다.
+// 처리 중인 요청은 redis 에 표시하여 다른 서버로 들어온 재시도도 중복 처리되지 않게 하며, 처리가 길어지면 표시를 연장한다.
+// 멱등키마다 처음 요청의 내용 해시를 함께 보관하여 같은 멱등키로 다른 내용을 요청하면 거절한다.
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String REQUEST_KEY_SUFFIX = ":request"; // 요청 내용 해시 key 접미사
+    private static final String IN_PROGRESS = "IN_PROGRESS"; // 처리 중 표시
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TaskScheduler taskScheduler;
+    private final Cache<String, StoredResult> localCache; // 완료된 결과만 보관
+    private final Duration resultTtl; // 결과 보관 시간
+    private final Duration inProgressTtl; // 처리 중 표시 유지 시간
+
+    public IdempotencyStore(RedisTemplate<String, Object> redisTemplate,
+        TaskScheduler taskScheduler,
+        @Value("${reservation.idempotency.ttl-minutes:60}") long resultTtlMinutes,
+        @Value("${reservation.idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds,
+        @Value("${reservation.idempotency.local-max-size:10000}") long localMaxSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.taskScheduler = taskScheduler;
+        this.resultTtl = Duration.ofMinutes(resultTtlMinutes);
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(resultTtl)
+            .build();
+    }
+
+    /**
+     * 멱등키로 처리된 결과가 있다면 리턴하고, 없다면 처리 후 결과 저장
+     * 처리 결과 저장에 실패해도 이미 처리된 작업이므로 결과는 그대로 리턴한다.
+     *
+     * @param key     멱등키(요청자 범위를 포함한 키)
+     * @param request 요청 내용(같은 멱등키로 다른 내용을 요청했는지 확인하는 용도)
+     * @param action  처리할 작업
+     * @return 처리 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String request, Supplier<T> action) {
+
+        String redisKey = KEY_PREFIX + key;
+        String requestKey = redisKey + REQUEST_KEY_SUFFIX;
+        String requestHash = DigestUtils.md5DigestAsHex(request.getBytes(StandardCharsets.UTF_8));
+
+        StoredResult cached = localCache.getIfPresent(redisKey);
+        if (cached != null) {
+            validateRequest(cached.requestHash, requestHash);
+            return (T) cached.result;
+        }
+
+        if (!Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(redisKey, IN_PROGRESS, inProgressTtl))) {
+            validateRequest((String) redisTemplate.opsForValue().get(requestKey), requestHash);
+
+            Object stored = redisTemplate.opsForValue().get(redisKey);
+            if (stored == null || IN_PROGRESS.equals(stored)) { // 다른 요청이 처리 중인 경우
+                throw new ReservationException(ReservationErrorCode.REQUEST_IN_PROGRESS);
+            }
+
+            localCache.put(redisKey, new StoredResult(requestHash, stored));
+            return (T) stored;
+        }
+
+        T result;
+        InProgressExtender extender = new InProgressExtender(redisKey);
+        try {
+            redisTemplate.opsForValue().set(requestKey, requestHash, resultTtl);
+            extender.start();
+            result = action.get();
+        } catch (RuntimeException e) { // 실패한 요청은 재시도할 수 있도록 처리 중 표시 삭제
+            extender.stop();
+            deleteQuietly(redisKey, requestKey);
+            throw e;
+        }
+        extender.stop();
+
+        localCache.put(redisKey, new StoredResult(requestHash, result));
+        try {
+            redisTemplate.opsForValue().set(redisKey, result, resultTtl);
+        } catch (RuntimeException e) { // 처리 중 표시가 만료될 때까지는 다른 서버의 재시도도 거절된다.
+            log.error("멱등 처리 결과 저장 실패 key={}", redisKey, e);
+        }
+
+        return result;
+    }
+
+    // 같은 멱등키로 처음과 다른 내용을 요청한 경우 거절
+    private void validateRequest(String storedRequestHash, String requestHash) {
+
+        if (storedRequestHash != null && !storedRequestHash.equals(requestHash)) {
+            throw new ReservationException(ReservationErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private void deleteQuietly(String redisKey, String requestKey) {
+
+        try {
+            redisTemplate.delete(redisKey);
+            redisTemplate.delete(requestKey);
+        } catch (RuntimeException e) {
+            log.error("멱등 처리 중 표시 삭제 실패 key={}", redisKey, e);
+        }
+    }
+
+    // 처리하는 동안 처리 중 표시 유지 시간의 1/3 마다 표시를 연장
+    // 연장과 종료를 같은 락으로 묶어 종료 후 저장한 결과의 보관 시간을 연장이 덮어쓰지 않게 한다.
+    private class InProgressExtender {
+
+        private final String redisKey;
+        private ScheduledFuture<?> future;
+        private boolean stopped;
+
+        private InProgressExtender(String redisKey) {
+
+            this.redisKey = redisKey;
+        }
+
+        private void start() {
+
+            future = taskScheduler.scheduleAtFixedRate(this::extend, inProgressTtl.dividedBy(3));
+        }
+
+        private synchronized void extend() {
+
+            if (stopped) {
+                return;
+            }
+
+            try {
+                redisTemplate.expire(redisKey, inProgressTtl);
+            } catch (RuntimeException e) {
+                log.error("멱등 처리 중 표시 연장 실패 key={}", redisKey, e);
+            }
+        }
+
+        private synchronized void stop() {
+
+            stopped = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    // 로컬에 보관하는 처리 결과
+    private static class StoredResult {
+
+        private final String requestHash; // 요청 내용 해시
+        private final Object result; // 처리 결과
+
+        private StoredResult(String requestHash, Object result) {
+
+            this.requestHash = requestHash;
+            this.result = result;
+        }
+    }
+}
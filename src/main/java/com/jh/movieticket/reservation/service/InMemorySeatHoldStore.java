@@ -0,0 +1,137 @@
+package com.jh.movieticket.reservation.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 서버, 테스트용 좌석 선점 저장소
+// redis 스크립트와 같은 규칙으로 스케줄 단위로 동기화하여 동작한다.
+@Component
+@ConditionalOnProperty(name = "reservation.seat-hold.store", havingValue = "memory")
+public class InMemorySeatHoldStore implements SeatHoldStore {
+
+    private static final String CONFIRMED_PREFIX = "C:";
+
+    private final Map<Long, Map<Integer, Hold>> holdMap = new ConcurrentHashMap<>(); // 스케줄 pk -> (좌석 번호 -> 선점 정보)
+    private final Duration holdTtl; // 선점 유지 시간
+    private final Duration confirmedTtl; // 상영 종료 후 확정 좌석 보관 시간
+    private final Clock clock;
+
+    @Autowired
+    public InMemorySeatHoldStore(
+        @Value("${reservation.seat-hold.ttl-minutes:10}") long holdTtlMinutes,
+        @Value("${reservation.seat-hold.confirmed-ttl-hours:24}") long confirmedTtlHours) {
+
+        this(Duration.ofMinutes(holdTtlMinutes), Duration.ofHours(confirmedTtlHours),
+            Clock.systemDefaultZone());
+    }
+
+    InMemorySeatHoldStore(Duration holdTtl, Duration confirmedTtl, Clock clock) {
+
+        this.holdTtl = holdTtl;
+        this.confirmedTtl = confirmedTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean hold(Long scheduleId, List<Integer> seatNoList, String holderId) {
+
+        return put(scheduleId, seatNoList, holderId, holderId, holdTtl);
+    }
+
+    @Override
+    public boolean confirm(Long scheduleId, List<Integer> seatNoList, String holderId,
+        LocalDateTime endTime) {
+
+        Duration ttl = confirmedTtl;
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (endTime != null && endTime.isAfter(now)) { // 상영이 끝날 때까지 확정 좌석 유지
+            ttl = ttl.plus(Duration.between(now, endTime));
+        }
+
+        return put(scheduleId, seatNoList, holderId, CONFIRMED_PREFIX + holderId, ttl);
+    }
+
+    @Override
+    public void release(Long scheduleId, List<Integer> seatNoList, String holderId) {
+
+        Map<Integer, Hold> seatHoldMap = getSeatHoldMap(scheduleId);
+        synchronized (seatHoldMap) {
+            long now = clock.millis();
+            for (Integer seatNo : seatNoList) {
+                String value = getValue(seatHoldMap, seatNo, now);
+                if (holderId.equals(value) || (CONFIRMED_PREFIX + holderId).equals(value)) {
+                    seatHoldMap.remove(seatNo);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Duration getHoldTtl() {
+
+        return holdTtl;
+    }
+
+    // 모든 좌석이 비어있거나 holderId 가 선점한 경우에만 value 로 저장
+    private boolean put(Long scheduleId, List<Integer> seatNoList, String holderId, String value,
+        Duration ttl) {
+
+        Map<Integer, Hold> seatHoldMap = getSeatHoldMap(scheduleId);
+        synchronized (seatHoldMap) {
+            long now = clock.millis();
+            for (Integer seatNo : seatNoList) {
+                String holder = getValue(seatHoldMap, seatNo, now);
+                if (holder != null && !holder.equals(holderId)) {
+                    return false;
+                }
+            }
+
+            Hold hold = new Hold(value, now + ttl.toMillis());
+            seatNoList.forEach(seatNo -> seatHoldMap.put(seatNo, hold));
+
+            return true;
+        }
+    }
+
+    // 만료되지 않은 좌석 선점 값 조회
+    private String getValue(Map<Integer, Hold> seatHoldMap, Integer seatNo, long now) {
+
+        Hold hold = seatHoldMap.get(seatNo);
+        if (hold == null) {
+            return null;
+        }
+        if (hold.expireAt <= now) { // 만료된 선점 정리
+            seatHoldMap.remove(seatNo);
+            return null;
+        }
+
+        return hold.value;
+    }
+
+    private Map<Integer, Hold> getSeatHoldMap(Long scheduleId) {
+
+        return holdMap.computeIfAbsent(scheduleId, id -> new HashMap<>());
+    }
+
+    // 좌석 선점 정보
+    private static class Hold {
+
+        private final String value; // 선점한 회원 아이디, 확정된 경우 "C:" 접두사
+        private final long expireAt; // 만료 시각(epoch ms)
+
+        private Hold(String value, long expireAt) {
+
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
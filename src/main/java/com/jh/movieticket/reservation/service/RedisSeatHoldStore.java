@@ -0,0 +1,90 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.config.RedisScripts;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+// redis 좌석 선점 저장소
+// 좌석 묶음의 확인과 변경을 lua 스크립트 하나로 처리하여 서버 간 경합을 한 번의 왕복으로 해결한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.seat-hold.store", havingValue = "redis", matchIfMissing = true)
+public class RedisSeatHoldStore implements SeatHoldStore {
+
+    private static final String KEY_PREFIX = "seatHold:";
+
+    private static final DefaultRedisScript<Long> HOLD_SCRIPT = RedisScripts.load(
+        "scripts/seat-hold.lua");
+    private static final DefaultRedisScript<Long> CONFIRM_SCRIPT = RedisScripts.load(
+        "scripts/seat-confirm.lua");
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = RedisScripts.load(
+        "scripts/seat-release.lua");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration holdTtl; // 선점 유지 시간
+    private final Duration confirmedTtl; // 상영 종료 후 확정 좌석 보관 시간
+
+    public RedisSeatHoldStore(StringRedisTemplate stringRedisTemplate,
+        @Value("${reservation.seat-hold.ttl-minutes:10}") long holdTtlMinutes,
+        @Value("${reservation.seat-hold.confirmed-ttl-hours:24}") long confirmedTtlHours) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.holdTtl = Duration.ofMinutes(holdTtlMinutes);
+        this.confirmedTtl = Duration.ofHours(confirmedTtlHours);
+    }
+
+    @Override
+    public boolean hold(Long scheduleId, List<Integer> seatNoList, String holderId) {
+
+        Long result = stringRedisTemplate.execute(HOLD_SCRIPT, toKeys(scheduleId, seatNoList),
+            holderId, String.valueOf(holdTtl.toMillis()));
+
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public boolean confirm(Long scheduleId, List<Integer> seatNoList, String holderId,
+        LocalDateTime endTime) {
+
+        Duration ttl = confirmedTtl;
+        if (endTime != null && endTime.isAfter(LocalDateTime.now())) { // 상영이 끝날 때까지 확정 좌석 유지
+            ttl = ttl.plus(Duration.between(LocalDateTime.now(), endTime));
+        }
+
+        Long result = stringRedisTemplate.execute(CONFIRM_SCRIPT, toKeys(scheduleId, seatNoList),
+            holderId, String.valueOf(ttl.toMillis()));
+
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void release(Long scheduleId, List<Integer> seatNoList, String holderId) {
+
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT,
+            toKeys(scheduleId, seatNoList), holderId);
+
+        log.debug("좌석 선점 해제 scheduleId={}, 요청={}, 해제={}", scheduleId, seatNoList.size(),
+            released);
+    }
+
+    @Override
+    public Duration getHoldTtl() {
+
+        return holdTtl;
+    }
+
+    // 좌석별 redis key 생성, 같은 스케줄의 좌석은 해시태그로 같은 슬롯에 저장하여 클러스터에서도 스크립트를 실행할 수 있게 한다.
+    private List<String> toKeys(Long scheduleId, List<Integer> seatNoList) {
+
+        return seatNoList.stream()
+            .map(seatNo -> KEY_PREFIX + "{" + scheduleId + "}:" + seatNo)
+            .toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.config.RedisScripts;
+import com.jh.movieticket.reservation.repository.ReservationRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+// 예약 번호 생성기(예매 날짜 8자리 + 날짜별 시퀀스 10자리)
+// redis INCRBY 로 날짜별 시퀀스를 블록 단위로 미리 할당받아 메모리에서 발급하므로
+// 예약 번호마다 db 중복 확인이나 redis 왕복 없이 서버 간 충돌 없는 번호를 만든다.
+// redis 의 시퀀스 키가 사라진 경우 db에 저장된 그 날짜의 마지막 예약 번호부터 이어서 할당한다.
+@Component
+public class ReservationNumberGenerator {
+
+    private static final String KEY_PREFIX = "reservationNumber:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration KEY_TTL = Duration.ofDays(2); // 날짜가 지난 시퀀스 키 정리
+    private static final int SEQUENCE_LENGTH = 10; // 날짜별 시퀀스 자릿수
+
+    private static final DefaultRedisScript<Long> ALLOCATE_SCRIPT = RedisScripts.load(
+        "scripts/reservation-number-allocate.lua");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReservationRepository reservationRepository;
+    private final int blockSize; // 한 번에 할당받는 시퀀스 수
+    private final Clock clock;
+
+    private String date; // 현재 블록의 날짜
+    private long next; // 다음에 발급할 시퀀스
+    private long end; // 현재 블록의 마지막 시퀀스
+
+    @Autowired
+    public ReservationNumberGenerator(StringRedisTemplate stringRedisTemplate,
+        ReservationRepository reservationRepository,
+        @Value("${reservation.number.block-size:1000}") int blockSize) {
+
+        this(stringRedisTemplate, reservationRepository, blockSize, Clock.systemDefaultZone());
+    }
+
+    ReservationNumberGenerator(StringRedisTemplate stringRedisTemplate,
+        ReservationRepository reservationRepository, int blockSize, Clock clock) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.reservationRepository = reservationRepository;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 예약 번호 발급
+     *
+     * @return 예약 번호
+     */
+    public synchronized String generate() {
+
+        String today = LocalDate.now(clock).format(DATE_FORMAT);
+        if (!today.equals(date) || next > end) { // 날짜가 바뀌었거나 블록을 다 쓴 경우 새 블록 할당
+            allocateBlock(today);
+        }
+
+        return today + String.format("%0" + SEQUENCE_LENGTH + "d", next++);
+    }
+
+    // redis 에서 날짜별 시퀀스 블록 할당, 시퀀스 키가 없다면 db의 마지막 시퀀스부터 이어서 할당
+    private void allocateBlock(String today) {
+
+        List<String> keys = List.of(KEY_PREFIX + today);
+        String ttl = String.valueOf(KEY_TTL.toMillis());
+        Long blockEnd = stringRedisTemplate.execute(ALLOCATE_SCRIPT, keys,
+            String.valueOf(blockSize), "", ttl);
+        if (blockEnd != null && blockEnd == -1L) {
+            blockEnd = stringRedisTemplate.execute(ALLOCATE_SCRIPT, keys,
+                String.valueOf(blockSize), String.valueOf(findLastSequence(today)), ttl);
+        }
+        if (blockEnd == null || blockEnd < blockSize) {
+            throw new IllegalStateException("예약 번호 시퀀스 할당 실패");
+        }
+
+        date = today;
+        next = blockEnd - blockSize + 1;
+        end = blockEnd;
+    }
+
+    // db에 저장된 날짜의 마지막 예약 번호 시퀀스, 없다면 0
+    private long findLastSequence(String today) {
+
+        String zeros = "0".repeat(SEQUENCE_LENGTH);
+        String nines = "9".repeat(SEQUENCE_LENGTH);
+
+        return reservationRepository.findMaxReservationNumber(today + zeros, today + nines)
+            .map(reservationNumber -> Long.parseLong(reservationNumber.substring(today.length())))
+            .orElse(0L);
+    }
+}
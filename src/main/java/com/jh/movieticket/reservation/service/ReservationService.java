@@ -0,0 +1,179 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.member.domain.Member;
+import com.jh.movieticket.member.exception.MemberErrorCode;
+import com.jh.movieticket.member.exception.MemberException;
+import com.jh.movieticket.member.repository.MemberRepository;
+import com.jh.movieticket.movie.domain.MovieSchedule;
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.movie.repository.MovieScheduleRepository;
+import com.jh.movieticket.reservation.domain.Reservation;
+import com.jh.movieticket.reservation.dto.ReservationServiceDto;
+import com.jh.movieticket.reservation.dto.SeatHoldServiceDto;
+import com.jh.movieticket.reservation.exception.ReservationErrorCode;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import com.jh.movieticket.reservation.repository.ReservationRepository;
+import com.jh.movieticket.waiting.service.WaitingQueueService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final MemberRepository memberRepository;
+    private final MovieScheduleRepository movieScheduleRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatHoldStore seatHoldStore;
+    private final WaitingQueueService waitingQueueService;
+    private final ReservationNumberGenerator reservationNumberGenerator;
+
+    /**
+     * 좌석 선점
+     * 선점 유지 시간 안에 예매하지 않으면 자동으로 해제된다.
+     * 이미 예약되었거나 예약할 수 없는 좌석은 선점할 수 없다.
+     *
+     * @param userId     선점하는 회원 아이디
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 선점할 좌석 번호 리스트
+     * @return 좌석 선점 dto
+     */
+    public SeatHoldServiceDto holdSeats(String userId, Long scheduleId, List<Integer> seatNoList) {
+
+        waitingQueueService.validateAdmitted(scheduleId, userId);
+        validateSeatNoList(scheduleId, seatNoList);
+
+        if (!seatInventoryService.isAvailable(scheduleId, seatNoList)
+            || !seatHoldStore.hold(scheduleId, seatNoList, userId)) {
+            throw new ReservationException(ReservationErrorCode.ALREADY_RESERVED_SEAT);
+        }
+
+        return SeatHoldServiceDto.builder()
+            .scheduleId(scheduleId)
+            .seatNoList(seatNoList)
+            .expireDate(LocalDateTime.now().plus(seatHoldStore.getHoldTtl()))
+            .build();
+    }
+
+    /**
+     * 좌석 선점 해제
+     *
+     * @param userId     선점했던 회원 아이디
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 해제할 좌석 번호 리스트
+     */
+    public void releaseHold(String userId, Long scheduleId, List<Integer> seatNoList) {
+
+        seatHoldStore.release(scheduleId, seatNoList, userId);
+    }
+
+    /**
+     * 좌석 예매
+     * 서버 간 경합은 좌석 선점 저장소에서 확정하며 해결하고, 서버 내부에서는 메모리의 좌석 비트맵에서
+     * compare-and-set 으로 좌석을 선점하므로 db 락 없이 중복 예매를 막는다.
+     * 좌석 상태는 예매와 같은 트랜잭션에서 db에 반영하고, 커밋되면 다른 서버에 알리며 롤백되면 선점한 좌석을 되돌린다.
+     *
+     * @param userId     예매하는 회원 아이디
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 예매할 좌석 번호 리스트
+     * @return 예매 내역 dto 리스트
+     */
+    public List<ReservationServiceDto> reserve(String userId, Long scheduleId,
+        List<Integer> seatNoList) {
+
+        waitingQueueService.validateAdmitted(scheduleId, userId);
+
+        Member member = memberRepository.findByUserIdAndDeleteDate(userId, null)
+            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+
+        MovieSchedule movieSchedule = movieScheduleRepository.findById(scheduleId)
+            .filter(schedule -> schedule.getDeleteDate() == null)
+            .orElseThrow(() -> new ReservationException(ReservationErrorCode.NOT_FOUND_SCHEDULE));
+
+        validateSeatNoList(scheduleId, seatNoList);
+
+        if (!seatHoldStore.confirm(scheduleId, seatNoList, userId,
+            movieSchedule.getEndTime())) { // 다른 회원이 선점했거나 예약된 좌석
+            throw new ReservationException(ReservationErrorCode.ALREADY_RESERVED_SEAT);
+        }
+        if (!seatInventoryService.claimSeats(scheduleId, seatNoList)) {
+            seatHoldStore.release(scheduleId, seatNoList, userId);
+            throw new ReservationException(ReservationErrorCode.ALREADY_RESERVED_SEAT);
+        }
+
+        boolean synchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
+        if (synchronizationActive) {
+            registerSeatSync(userId, scheduleId, seatNoList);
+        }
+
+        try {
+            String reservationNumber = reservationNumberGenerator.generate();
+            List<Reservation> reservationList = seatNoList.stream()
+                .map(seatNo -> Reservation.builder()
+                    .reservationNumber(reservationNumber)
+                    .member(member)
+                    .movieSchedule(movieSchedule)
+                    .seatNo(seatNo)
+                    .build())
+                .toList();
+            List<Reservation> savedList = reservationRepository.saveAll(reservationList);
+            seatInventoryService.persistSeatStatus(scheduleId, seatNoList, SeatType.BOOKED);
+
+            if (!synchronizationActive) { // 트랜잭션 밖에서 호출된 경우 바로 다른 서버에 알림
+                seatInventoryService.notifySeatStatus(scheduleId, seatNoList, SeatType.BOOKED);
+            }
+
+            return savedList.stream()
+                .map(Reservation::toServiceDto)
+                .toList();
+        } catch (RuntimeException e) {
+            if (!synchronizationActive) { // 트랜잭션이 없다면 직접 선점한 좌석 원복
+                seatInventoryService.releaseSeats(scheduleId, seatNoList);
+                seatHoldStore.release(scheduleId, seatNoList, userId);
+            }
+            if (e instanceof DataIntegrityViolationException) { // db에 이미 예약된 좌석(좌석 번호 유니크 제약)
+                throw new ReservationException(ReservationErrorCode.ALREADY_RESERVED_SEAT);
+            }
+            throw e;
+        }
+    }
+
+    // 트랜잭션 결과에 따라 다른 서버에 좌석 상태를 알리거나 선점한 좌석을 메모리에서 되돌림
+    private void registerSeatSync(String userId, Long scheduleId, List<Integer> seatNoList) {
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    seatInventoryService.notifySeatStatus(scheduleId, seatNoList,
+                        SeatType.BOOKED);
+                    return;
+                }
+
+                seatInventoryService.releaseSeats(scheduleId, seatNoList);
+                seatHoldStore.release(scheduleId, seatNoList, userId);
+            }
+        });
+    }
+
+    // 좌석 번호 중복, 범위 확인
+    private void validateSeatNoList(Long scheduleId, List<Integer> seatNoList) {
+
+        if (seatNoList.stream().distinct().count() != seatNoList.size()) {
+            throw new ReservationException(ReservationErrorCode.DUPLICATED_SEAT_NO);
+        }
+
+        int seatCnt = seatInventoryService.getInventory(scheduleId).getSeatCnt();
+        if (seatNoList.stream().anyMatch(seatNo -> seatNo < 1 || seatNo > seatCnt)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_SEAT_NO);
+        }
+    }
+}
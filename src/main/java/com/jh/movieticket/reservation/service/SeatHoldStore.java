@@ -0,0 +1,50 @@
+package com.jh.movieticket.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 여러 서버에서 공유하는 좌석 선점 저장소
+// 좌석 묶음 단위로 전부 성공하거나 전부 실패한다.
+public interface SeatHoldStore {
+
+    /**
+     * 좌석 선점, 선점 유지 시간이 지나면 자동으로 해제된다.
+     * 본인이 이미 선점한 좌석은 선점 유지 시간이 연장된다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 선점할 좌석 번호 리스트
+     * @param holderId   선점하는 회원 아이디
+     * @return 선점 성공 여부
+     */
+    boolean hold(Long scheduleId, List<Integer> seatNoList, String holderId);
+
+    /**
+     * 좌석 예약 확정, 비어있거나 본인이 선점한 좌석만 확정할 수 있다.
+     * 확정된 좌석은 상영이 끝난 뒤 확정 좌석 보관 시간이 지날 때까지 다른 회원이 선점할 수 없다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 확정할 좌석 번호 리스트
+     * @param holderId   예약하는 회원 아이디
+     * @param endTime    상영 종료 시간
+     * @return 확정 성공 여부
+     */
+    boolean confirm(Long scheduleId, List<Integer> seatNoList, String holderId,
+        LocalDateTime endTime);
+
+    /**
+     * 본인이 선점했거나 확정한 좌석 해제
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 해제할 좌석 번호 리스트
+     * @param holderId   선점했던 회원 아이디
+     */
+    void release(Long scheduleId, List<Integer> seatNoList, String holderId);
+
+    /**
+     * 좌석 선점 유지 시간 조회
+     *
+     * @return 선점 유지 시간
+     */
+    Duration getHoldTtl();
+}
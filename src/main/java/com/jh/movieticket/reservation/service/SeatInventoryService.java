@@ -0,0 +1,379 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.movie.domain.MovieScheduleSeat;
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.movie.repository.MovieScheduleSeatRepository;
+import com.jh.movieticket.reservation.domain.SeatInventory;
+import com.jh.movieticket.reservation.dto.SeatMapCompactServiceDto;
+import com.jh.movieticket.reservation.dto.SeatMapServiceDto;
+import com.jh.movieticket.reservation.exception.ReservationErrorCode;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 영화 스케줄별 좌석 상태를 메모리에서 관리하는 서비스
+// 최초 조회 시에만 db에서 좌석 상태를 불러오고 이후 조회는 메모리의 비트맵으로 응답한다.
+// 확정된 좌석 상태 변경은 redis pub/sub 으로 다른 서버에 알려 각 서버의 비트맵에 반영하고,
+// 알림을 놓친 경우를 대비해 주기적으로 db와 비교하여 비트맵을 맞춘다.
+// 메시지 형식 : 보낸 서버|스케줄 pk|좌석 상태 코드|좌석 번호,좌석 번호...
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatInventoryService implements MessageListener {
+
+    public static final String SEAT_STATUS_CHANNEL = "seatStatusChanged"; // 좌석 상태 변경 알림 채널
+    private static final String SEPARATOR = "|";
+
+    private final MovieScheduleSeatRepository movieScheduleSeatRepository;
+    private final SeatStatusWriter seatStatusWriter;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<Long, SeatInventory> inventoryMap = new ConcurrentHashMap<>(); // 스케줄 pk -> 좌석 비트맵
+    private final Map<Long, Map<Integer, SeatType>> mismatchMap = new ConcurrentHashMap<>(); // 이전 비교에서 db와 달랐던 좌석(스케줄 pk -> (좌석 번호 -> db 상태))
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 메시지 구분용
+
+    /**
+     * 좌석 현황 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 좌석 현황 dto
+     */
+    public SeatMapServiceDto getSeatMap(Long scheduleId) {
+
+        SeatInventory inventory = getInventory(scheduleId);
+
+        return SeatMapServiceDto.builder()
+            .scheduleId(scheduleId)
+            .seatCnt(inventory.getSeatCnt())
+            .remainSeatCnt(inventory.getRemainSeatCnt())
+            .seatStatusList(inventory.getSeatStatusList())
+            .build();
+    }
+
+    /**
+     * 압축된 좌석 현황 조회
+     * sinceVersion 이 있다면 그 이후 변경된 좌석만 담고, 없거나 변경분을 알 수 없다면 전체 좌석 상태를 담는다.
+     * 버전은 비트맵마다 다르므로 epoch 가 현재 비트맵과 다르다면(다른 서버, 재적재 전의 버전) 전체 좌석 상태를 담는다.
+     *
+     * @param scheduleId   영화 스케줄 pk
+     * @param epoch        클라이언트가 알고 있는 버전의 비트맵 식별값
+     * @param sinceVersion 클라이언트가 알고 있는 좌석 상태 버전
+     * @return 압축된 좌석 현황 dto
+     */
+    public SeatMapCompactServiceDto getCompactSeatMap(Long scheduleId, String epoch,
+        Long sinceVersion) {
+
+        SeatInventory inventory = getInventory(scheduleId);
+        long version = inventory.getVersion(); // 좌석 상태보다 버전을 먼저 읽어야 버전 이하의 변경이 모두 포함된다.
+
+        List<Integer> changedSeatNoList = sinceVersion == null
+            || !inventory.getEpoch().equals(epoch) ? null
+            : inventory.getChangedSeatNoList(sinceVersion, version);
+        if (changedSeatNoList == null) {
+            return SeatMapCompactServiceDto.builder()
+                .scheduleId(scheduleId)
+                .epoch(inventory.getEpoch())
+                .version(version)
+                .seatCnt(inventory.getSeatCnt())
+                .seats(Base64.getEncoder().encodeToString(inventory.toPackedBytes()))
+                .build();
+        }
+
+        List<Integer> changeList = changedSeatNoList.stream()
+            .map(seatNo -> seatNo * 4 + inventory.getStatus(seatNo).getCode())
+            .toList();
+
+        return SeatMapCompactServiceDto.builder()
+            .scheduleId(scheduleId)
+            .epoch(inventory.getEpoch())
+            .sinceVersion(sinceVersion)
+            .version(version)
+            .seatCnt(inventory.getSeatCnt())
+            .changeList(changeList)
+            .build();
+    }
+
+    /**
+     * 남은 좌석 수 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 남은 좌석 수
+     */
+    public int getRemainSeatCnt(Long scheduleId) {
+
+        return getInventory(scheduleId).getRemainSeatCnt();
+    }
+
+    /**
+     * 좌석 상태 변경 후 db에 모아서 반영
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 변경할 좌석 번호 리스트
+     * @param status     변경할 좌석 상태
+     */
+    public void changeSeatStatus(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        SeatInventory inventory = getInventory(scheduleId);
+        seatNoList.forEach(seatNo -> inventory.setStatus(seatNo, status));
+
+        seatStatusWriter.write(scheduleId, seatNoList, status);
+        publishStatus(scheduleId, seatNoList, status);
+    }
+
+    /**
+     * 좌석들이 모두 예약 가능한 상태인지 확인
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 확인할 좌석 번호 리스트
+     * @return 모두 예약 가능하다면 true
+     */
+    public boolean isAvailable(Long scheduleId, List<Integer> seatNoList) {
+
+        SeatInventory inventory = getInventory(scheduleId);
+
+        return seatNoList.stream()
+            .allMatch(seatNo -> inventory.getStatus(seatNo) == SeatType.AVAILABLE);
+    }
+
+    /**
+     * 예약 가능한 좌석들을 메모리에서 한 번에 예약 상태로 선점
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 선점할 좌석 번호 리스트
+     * @return 선점 성공 여부
+     */
+    public boolean claimSeats(Long scheduleId, List<Integer> seatNoList) {
+
+        return getInventory(scheduleId).claim(seatNoList, SeatType.BOOKED);
+    }
+
+    /**
+     * 메모리에서 선점했던 좌석들을 예약 가능 상태로 되돌림
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 되돌릴 좌석 번호 리스트
+     */
+    public void releaseSeats(Long scheduleId, List<Integer> seatNoList) {
+
+        getInventory(scheduleId).release(seatNoList);
+    }
+
+    /**
+     * 메모리의 좌석 상태 변경 내역을 호출한 트랜잭션 안에서 db에 반영
+     * 커밋된 후에는 notifySeatStatus 로 다른 서버에 알려야 한다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 변경된 좌석 번호 리스트
+     * @param status     변경된 좌석 상태
+     */
+    public void persistSeatStatus(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        seatStatusWriter.writeNow(scheduleId, seatNoList, status);
+    }
+
+    /**
+     * 확정된 좌석 상태 변경을 다른 서버에 알림
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 변경된 좌석 번호 리스트
+     * @param status     변경된 좌석 상태
+     */
+    public void notifySeatStatus(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        publishStatus(scheduleId, seatNoList, status);
+    }
+
+    /**
+     * 스케줄의 좌석 비트맵 조회, 메모리에 없다면 db에서 불러온다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 좌석 비트맵
+     */
+    public SeatInventory getInventory(Long scheduleId) {
+
+        return inventoryMap.computeIfAbsent(scheduleId, this::loadInventory);
+    }
+
+    /**
+     * 메모리에 올라간 전체 스케줄의 좌석 비트맵 조회
+     *
+     * @return 좌석 비트맵 리스트
+     */
+    public Collection<SeatInventory> getLoadedInventoryList() {
+
+        return inventoryMap.values();
+    }
+
+    /**
+     * 메모리에 올라간 스케줄의 좌석 비트맵 제거
+     *
+     * @param scheduleId 영화 스케줄 pk
+     */
+    public void evictInventory(Long scheduleId) {
+
+        inventoryMap.remove(scheduleId);
+        mismatchMap.remove(scheduleId);
+    }
+
+    /**
+     * 다른 서버의 좌석 상태 변경을 메모리에 올라간 비트맵에 반영, 자신이 보낸 메시지는 무시
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split("\\" + SEPARATOR);
+        if (parts.length != 4 || nodeId.equals(parts[0])) { // 잘못된 메시지이거나 자신이 보낸 메시지인 경우
+            return;
+        }
+
+        try {
+            SeatInventory inventory = inventoryMap.get(Long.valueOf(parts[1]));
+            SeatType status = SeatType.fromCode(Integer.parseInt(parts[2]));
+            if (inventory == null || status == null) { // 이 서버에서 조회한 적 없는 스케줄은 처음 조회할 때 db에서 불러온다.
+                return;
+            }
+
+            Arrays.stream(parts[3].split(","))
+                .map(Integer::valueOf)
+                .filter(seatNo -> seatNo >= 1 && seatNo <= inventory.getSeatCnt())
+                .forEach(seatNo -> inventory.setStatus(seatNo, status));
+        } catch (RuntimeException e) {
+            log.error("다른 서버의 좌석 상태 변경 반영 실패 message={}", parts, e);
+        }
+    }
+
+    /**
+     * 메모리에 올라간 좌석 비트맵을 db와 비교하여 맞춤
+     * 다른 서버의 변경은 db 반영까지 시간이 걸리므로 연속 두 번의 비교에서 같은 상태로 다른 좌석만 db 상태로 바꾼다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat-sync.reload-interval-ms:60000}")
+    public void reloadInventory() {
+
+        for (SeatInventory inventory : inventoryMap.values()) {
+            try {
+                reloadInventory(inventory);
+            } catch (RuntimeException e) {
+                log.error("좌석 비트맵 db 비교 실패 scheduleId={}", inventory.getScheduleId(), e);
+            }
+        }
+    }
+
+    // db 좌석 상태와 비트맵을 비교하여 이전 비교에서도 같은 상태로 달랐던 좌석 반영
+    private void reloadInventory(SeatInventory inventory) {
+
+        Long scheduleId = inventory.getScheduleId();
+        Map<Integer, SeatType> dbStatusMap = getDbStatusMap(scheduleId, inventory.getSeatCnt());
+
+        Map<Integer, SeatType> mismatchStatusMap = new HashMap<>();
+        dbStatusMap.forEach((seatNo, status) -> {
+            if (inventory.getStatus(seatNo) != status) {
+                mismatchStatusMap.put(seatNo, status);
+            }
+        });
+
+        Map<Integer, SeatType> prevMismatchStatusMap = mismatchMap.getOrDefault(scheduleId,
+            Map.of());
+        mismatchStatusMap.forEach((seatNo, status) -> {
+            if (status == prevMismatchStatusMap.get(seatNo)) {
+                inventory.setStatus(seatNo, status);
+            }
+        });
+
+        if (mismatchStatusMap.isEmpty()) {
+            mismatchMap.remove(scheduleId);
+        } else {
+            mismatchMap.put(scheduleId, mismatchStatusMap);
+        }
+    }
+
+    // db의 MovieScheduleSeat 로 좌석 비트맵 생성
+    private SeatInventory loadInventory(Long scheduleId) {
+
+        List<MovieScheduleSeat> scheduleSeatList = findScheduleSeatList(scheduleId);
+
+        int seatCnt = scheduleSeatList.stream()
+            .mapToInt(mss -> mss.getSeat().getSeatNo())
+            .max()
+            .orElse(0);
+
+        SeatInventory inventory = new SeatInventory(scheduleId, seatCnt);
+        toDbStatusMap(scheduleSeatList, seatCnt).forEach((seatNo, status) -> {
+            if (status != SeatType.AVAILABLE) {
+                inventory.setStatus(seatNo, status);
+            }
+        });
+        seatStatusWriter.getPendingStatus(scheduleId) // 아직 db에 반영되지 않은 변경 적용
+            .forEach(inventory::setStatus);
+
+        return inventory;
+    }
+
+    // db 좌석 상태에 이 서버에서 아직 db에 반영하지 않은 변경을 덮어쓴 좌석 상태 조회
+    private Map<Integer, SeatType> getDbStatusMap(Long scheduleId, int seatCnt) {
+
+        Map<Integer, SeatType> statusMap = toDbStatusMap(findScheduleSeatList(scheduleId),
+            seatCnt);
+        seatStatusWriter.getPendingStatus(scheduleId).forEach((seatNo, status) -> {
+            if (statusMap.containsKey(seatNo)) {
+                statusMap.put(seatNo, status);
+            }
+        });
+
+        return statusMap;
+    }
+
+    // 좌석 번호 -> db 좌석 상태, 좌석 번호 사이에 등록되지 않은 번호는 사용 불가 좌석으로 본다.
+    private Map<Integer, SeatType> toDbStatusMap(List<MovieScheduleSeat> scheduleSeatList,
+        int seatCnt) {
+
+        Map<Integer, SeatType> statusMap = scheduleSeatList.stream()
+            .filter(mss -> mss.getSeat().getSeatNo() <= seatCnt)
+            .collect(Collectors.toMap(mss -> mss.getSeat().getSeatNo(),
+                MovieScheduleSeat::getStatus, (a, b) -> a, HashMap::new));
+        for (int seatNo = 1; seatNo <= seatCnt; seatNo++) {
+            statusMap.putIfAbsent(seatNo, SeatType.UNAVAILABLE);
+        }
+
+        return statusMap;
+    }
+
+    private List<MovieScheduleSeat> findScheduleSeatList(Long scheduleId) {
+
+        List<MovieScheduleSeat> scheduleSeatList = movieScheduleSeatRepository.findAllWithSeatBySchedule(
+            scheduleId);
+        if (scheduleSeatList.isEmpty()) { // 좌석 정보가 생성되지 않은 스케줄인 경우
+            throw new ReservationException(ReservationErrorCode.NOT_FOUND_SCHEDULE_SEAT);
+        }
+
+        return scheduleSeatList;
+    }
+
+    // 다른 서버에 좌석 상태 변경 알림, 실패해도 db에는 반영되므로 로그만 남기고 주기적인 db 비교로 맞춘다.
+    private void publishStatus(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        String message = nodeId + SEPARATOR + scheduleId + SEPARATOR + status.getCode() + SEPARATOR
+            + seatNoList.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            stringRedisTemplate.convertAndSend(SEAT_STATUS_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("좌석 상태 변경 알림 실패 scheduleId={}, seatNoList={}", scheduleId, seatNoList,
+                e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.reservation.domain.SeatInventory;
+import com.jh.movieticket.reservation.dto.SeatMapCompactServiceDto;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 좌석 상태 변경분을 stomp 로 발송
+// 주기마다 스케줄별 좌석 상태 버전을 확인하여 바뀐 스케줄만 마지막 발송 이후의 변경분을 한 번에 발송하므로
+// 좌석이 아무리 자주 바뀌어도 스케줄당 주기마다 최대 한 번만 발송된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapPublisher {
+
+    private static final String SEAT_TOPIC = "/sub/schedule/%d/seats";
+
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final SeatInventoryService seatInventoryService;
+
+    private final Map<SeatInventory, Long> sentVersionMap = new ConcurrentHashMap<>(); // 좌석 비트맵 -> 마지막으로 발송한 버전
+
+    /**
+     * 마지막 발송 이후 좌석 상태가 바뀐 스케줄의 변경분 발송
+     * 처음 확인하는 비트맵은 현재 버전만 기록하며, 클라이언트는 좌석 현황 조회로 받은 epoch, 버전과
+     * 발송된 변경분의 epoch, sinceVersion 을 비교하여 다르거나 빠진 변경이 있다면 다시 조회해야 한다.
+     * 버전은 비트맵마다 다르므로 재적재된 스케줄은 새 비트맵으로 보고 다시 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat-push.interval-ms:100}")
+    public void publish() {
+
+        Set<SeatInventory> loadedInventorySet = new HashSet<>();
+        for (SeatInventory inventory : seatInventoryService.getLoadedInventoryList()) {
+            Long scheduleId = inventory.getScheduleId();
+            loadedInventorySet.add(inventory);
+
+            long version = inventory.getVersion();
+            Long sentVersion = sentVersionMap.putIfAbsent(inventory, version);
+            if (sentVersion == null || sentVersion == version) {
+                continue;
+            }
+
+            try {
+                SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(
+                    scheduleId, inventory.getEpoch(), sentVersion);
+                simpMessageSendingOperations.convertAndSend(
+                    String.format(SEAT_TOPIC, scheduleId), seatMap.toCompactResponse());
+                sentVersionMap.put(inventory, seatMap.getVersion());
+            } catch (RuntimeException e) {
+                log.error("좌석 상태 변경분 발송 실패 - scheduleId = {}", scheduleId, e);
+            }
+        }
+
+        sentVersionMap.keySet().retainAll(loadedInventorySet); // 메모리에서 내려간 비트맵 정리
+    }
+}
@@ -0,0 +1,269 @@
+package com.jh.movieticket.reservation.service;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메모리 좌석 상태 변경을 MovieScheduleSeat 테이블에 모아서 반영(write-behind)
+// 같은 좌석의 변경은 마지막 상태만 남기고, 주기적으로 또는 변경이 일정 개수 쌓이면 jdbc batch update 로 반영한다.
+// 종료 시 반영하지 못한 변경은 저널 파일에 기록하고 다음 기동 시 다시 반영한다.
+// 예매처럼 유실되면 안 되는 변경은 호출한 트랜잭션 안에서 바로 반영하며,
+// 모아서 반영하는 변경이 나중에 도착하더라도 예약이 있는 좌석을 예약 가능 상태로 되돌리지 않는다.
+@Slf4j
+@Component
+public class SeatStatusWriter {
+
+    private static final String UPDATE_SQL = "UPDATE movie_schedule_seat SET status = ?, change_date = ? "
+        + "WHERE movie_schedule_id = ? AND delete_date IS NULL "
+        + "AND seat_id IN (SELECT s.id FROM seat s WHERE s.seat_no = ?) "
+        + "AND NOT (? = 'AVAILABLE' AND EXISTS (SELECT 1 FROM reservation r "
+        + "WHERE r.movie_schedule_id = ? AND r.seat_no = ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor flushExecutor;
+    private final int batchSize; // 즉시 반영을 시작하는 변경 개수
+    private final Path journalPath; // 종료 시 반영하지 못한 변경을 기록할 파일
+
+    private final Map<Long, Map<Integer, SeatType>> pendingMap = new ConcurrentHashMap<>(); // 스케줄 pk -> (좌석 번호 -> 마지막 상태)
+    private final AtomicInteger pendingCnt = new AtomicInteger(); // 반영 대기 중인 변경 개수(대략적인 값)
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SeatStatusWriter(JdbcTemplate jdbcTemplate,
+        @Qualifier("applicationTaskExecutor") Executor flushExecutor,
+        @Value("${reservation.seat-write.batch-size:500}") int batchSize,
+        @Value("${reservation.seat-write.journal-path:seat-status.journal}") String journalPath) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushExecutor = flushExecutor;
+        this.batchSize = batchSize;
+        this.journalPath = Paths.get(journalPath);
+    }
+
+    /**
+     * 좌석 상태 변경 내역을 반영 대기열에 추가
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 변경된 좌석 번호 리스트
+     * @param status     변경된 좌석 상태
+     */
+    public void write(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        AtomicInteger added = new AtomicInteger();
+        pendingMap.compute(scheduleId, (id, seatStatusMap) -> { // 반영 후 빈 대기열 정리와 겹치지 않도록 스케줄 단위로 원자적으로 추가
+            Map<Integer, SeatType> statusMap = seatStatusMap == null ? new ConcurrentHashMap<>()
+                : seatStatusMap;
+            for (Integer seatNo : seatNoList) {
+                if (statusMap.put(seatNo, status) == null) {
+                    added.incrementAndGet();
+                }
+            }
+            return statusMap;
+        });
+
+        if (pendingCnt.addAndGet(added.get()) >= batchSize
+            && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 좌석 상태 변경을 호출한 트랜잭션 안에서 바로 db에 반영
+     * 트랜잭션과 함께 커밋되므로 서버가 비정상 종료되어도 유실되지 않는다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param seatNoList 변경된 좌석 번호 리스트
+     * @param status     변경된 좌석 상태
+     */
+    public void writeNow(Long scheduleId, List<Integer> seatNoList, SeatType status) {
+
+        List<PendingSeat> seatList = seatNoList.stream()
+            .map(seatNo -> new PendingSeat(scheduleId, seatNo, status))
+            .toList();
+
+        batchUpdate(seatList);
+    }
+
+    /**
+     * 반영 대기 중인 스케줄 수 조회
+     *
+     * @return 반영 대기 중인 스케줄 수
+     */
+    public int getPendingScheduleCnt() {
+
+        return pendingMap.size();
+    }
+
+    /**
+     * 반영 대기 중인 스케줄의 좌석 상태 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 좌석 번호 -> 반영 대기 중인 좌석 상태
+     */
+    public Map<Integer, SeatType> getPendingStatus(Long scheduleId) {
+
+        Map<Integer, SeatType> seatStatusMap = pendingMap.get(scheduleId);
+
+        return seatStatusMap == null ? Map.of() : new HashMap<>(seatStatusMap);
+    }
+
+    /**
+     * 반영 대기 중인 변경을 db에 batch update 로 반영
+     * 반영에 실패한 변경은 대기열에 남아 다음 반영 때 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat-write.flush-interval-ms:50}")
+    public void flush() {
+
+        if (!flushLock.tryLock()) { // 다른 쓰레드가 반영 중인 경우
+            return;
+        }
+
+        try {
+            List<PendingSeat> pendingList = snapshot();
+            if (pendingList.isEmpty()) {
+                return;
+            }
+
+            batchUpdate(pendingList);
+
+            pendingList.forEach(this::removeIfUnchanged);
+            pendingList.stream() // 비워진 스케줄 대기열 정리
+                .map(pendingSeat -> pendingSeat.scheduleId)
+                .distinct()
+                .forEach(scheduleId -> pendingMap.computeIfPresent(scheduleId,
+                    (id, seatStatusMap) -> seatStatusMap.isEmpty() ? null : seatStatusMap));
+        } catch (RuntimeException e) {
+            log.error("좌석 상태 반영 실패 - 다음 반영 때 재시도", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경을 반영하고, 실패하면 저널 파일에 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+
+        flush();
+
+        List<PendingSeat> pendingList = snapshot();
+        if (pendingList.isEmpty()) {
+            return;
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8)) {
+            for (PendingSeat pendingSeat : pendingList) {
+                writer.write(pendingSeat.scheduleId + "," + pendingSeat.seatNo + ","
+                    + pendingSeat.status.name());
+                writer.newLine();
+            }
+            log.warn("반영하지 못한 좌석 상태 {}건을 저널에 기록 - {}", pendingList.size(), journalPath);
+        } catch (IOException e) {
+            log.error("좌석 상태 저널 기록 실패 - 유실 {}건", pendingList.size(), e);
+        }
+    }
+
+    /**
+     * 기동 시 저널 파일에 남은 변경을 대기열에 추가하고 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] tokens = line.split(",");
+                write(Long.parseLong(tokens[0]), List.of(Integer.parseInt(tokens[1])),
+                    SeatType.valueOf(tokens[2]));
+            }
+            Files.delete(journalPath);
+            log.info("좌석 상태 저널 {}건 복구", lines.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("좌석 상태 저널 복구 실패 - {}", journalPath, e);
+            return;
+        }
+
+        flush();
+    }
+
+    // 좌석 상태 변경을 jdbc batch update 로 반영, 예약이 있는 좌석은 예약 가능 상태로 바꾸지 않는다.
+    private void batchUpdate(List<PendingSeat> seatList) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, seatList, batchSize, (ps, pendingSeat) -> {
+            ps.setString(1, pendingSeat.status.name());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, pendingSeat.scheduleId);
+            ps.setInt(4, pendingSeat.seatNo);
+            ps.setString(5, pendingSeat.status.name());
+            ps.setLong(6, pendingSeat.scheduleId);
+            ps.setInt(7, pendingSeat.seatNo);
+        });
+    }
+
+    // 반영 대기 중인 변경 복사
+    private List<PendingSeat> snapshot() {
+
+        List<PendingSeat> pendingList = new ArrayList<>();
+        pendingMap.forEach((scheduleId, seatStatusMap) -> seatStatusMap.forEach(
+            (seatNo, status) -> pendingList.add(new PendingSeat(scheduleId, seatNo, status))));
+
+        return pendingList;
+    }
+
+    // 반영하는 동안 같은 좌석이 다시 변경되지 않았다면 대기열에서 제거
+    private void removeIfUnchanged(PendingSeat pendingSeat) {
+
+        Map<Integer, SeatType> seatStatusMap = pendingMap.get(pendingSeat.scheduleId);
+        if (seatStatusMap != null && seatStatusMap.remove(pendingSeat.seatNo, pendingSeat.status)) {
+            pendingCnt.decrementAndGet();
+        }
+    }
+
+    // 반영 대기 중인 좌석 상태 변경
+    private static class PendingSeat {
+
+        private final Long scheduleId; // 영화 스케줄 pk
+        private final int seatNo; // 좌석 번호
+        private final SeatType status; // 변경할 좌석 상태
+
+        private PendingSeat(Long scheduleId, int seatNo, SeatType status) {
+
+            this.scheduleId = scheduleId;
+            this.seatNo = seatNo;
+            this.status = status;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.jh.movieticket.theater.repository;
 
 import com.jh.movieticket.theater.domain.Theater;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,4 +20,6 @@ public interface TheaterRepository extends JpaRepository<Theater, Long> {
         LocalDateTime deleteDate); // 상영관 이름으로 상영관 조회
 
     Page<Theater> findAllByDeleteDateIsNull(Pageable pageable);
+
+    List<Theater> findAllByDeleteDateIsNull(); // 삭제되지 않은 전체 상영관 조회
 }
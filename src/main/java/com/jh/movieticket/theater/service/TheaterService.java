@@ -129,7 +129,7 @@ public class TheaterService {
      * @param name 조회할 상영관 이름
      * @return 조회된 상영관
      */
-    @Cacheable(key = "#name", value = CacheName.THEATER_CACHE_NAME)
+    @Cacheable(key = "#name", value = CacheName.THEATER_CACHE_NAME, sync = true)
     @Transactional(readOnly = true)
     public TheaterServiceDto verify(String name) {
 
@@ -155,4 +155,17 @@ public class TheaterService {
 
         return new PageImpl<>(theaterServiceDtoList, pageable, theaterServiceDtoList.size());
     }
+
+    /**
+     * 삭제되지 않은 전체 상영관 조회 서비스(캐시 예열용)
+     *
+     * @return 전체 상영관 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<TheaterServiceDto> verifyAll() {
+
+        return theaterRepository.findAllByDeleteDateIsNull().stream()
+            .map(Theater::toServiceDto)
+            .toList();
+    }
 }
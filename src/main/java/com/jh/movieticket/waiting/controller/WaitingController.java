@@ -0,0 +1,70 @@
+package com.jh.movieticket.waiting.controller;
+
+import com.jh.movieticket.config.GlobalApiResponse;
+import com.jh.movieticket.waiting.dto.WaitingEnterDto;
+import com.jh.movieticket.waiting.dto.WaitingServiceDto;
+import com.jh.movieticket.waiting.dto.WaitingVerifyDto;
+import com.jh.movieticket.waiting.service.WaitingQueueService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/waiting")
+@RequiredArgsConstructor
+@Validated
+public class WaitingController {
+
+    private final WaitingQueueService waitingQueueService;
+
+    /**
+     * 예매 대기열 등록 컨트롤러
+     * 등록 후 대기 진행 상황은 /sub/waiting/{scheduleId} 구독으로 받을 수 있다.
+     *
+     * @param scheduleId   영화 스케줄 pk
+     * @param enterRequest 등록할 회원 정보 dto
+     * @return 성공 시 200 코드와 번호표, 대기 순서, 예상 대기 시간, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @PostMapping("/schedules/{scheduleId}")
+    public ResponseEntity<GlobalApiResponse<WaitingVerifyDto.Response>> waitingEnterController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long scheduleId,
+        @Valid @RequestBody WaitingEnterDto.Request enterRequest) {
+
+        WaitingServiceDto status = waitingQueueService.enter(scheduleId, enterRequest.getUserId());
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, status.toVerifyResponse()));
+    }
+
+    /**
+     * 대기 순서 조회 컨트롤러
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 성공 시 200 코드와 대기 순서, 예상 대기 시간, 입장 여부, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping("/schedules/{scheduleId}")
+    public ResponseEntity<GlobalApiResponse<WaitingVerifyDto.Response>> waitingVerifyController(
+        @Positive(message = "pk값은 0 또는 음수일 수 없습니다.") @PathVariable Long scheduleId,
+        @NotBlank(message = "회원 아이디를 입력해주세요.") @RequestParam String userId) {
+
+        WaitingServiceDto status = waitingQueueService.getStatus(scheduleId, userId);
+
+        return ResponseEntity.ok(
+            GlobalApiResponse.toGlobalResponse(HttpStatus.OK, status.toVerifyResponse()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.jh.movieticket.waiting.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대기열 등록 시 dto
+public class WaitingEnterDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @NotBlank(message = "대기열에 등록할 회원 아이디를 입력해주세요.")
+        private String userId; // 대기열에 등록할 회원 아이디
+    }
+}
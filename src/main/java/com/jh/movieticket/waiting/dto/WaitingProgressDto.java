@@ -0,0 +1,22 @@
+package com.jh.movieticket.waiting.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대기열 진행 상황 발송 dto
+// 클라이언트는 내 번호표 - lastAdmittedTicket 으로 대략적인 대기 순서를 계산한다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class WaitingProgressDto {
+
+    private Long scheduleId; // 영화 스케줄 pk
+    private long lastAdmittedTicket; // 마지막으로 입장한 번호표
+    private long waitingCnt; // 대기 인원
+    private int admitCnt; // 주기마다 입장하는 인원
+    private long intervalMillis; // 입장 주기(ms)
+}
@@ -0,0 +1,37 @@
+package com.jh.movieticket.waiting.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대기열 서비스 레이어 dto
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(toBuilder = true)
+public class WaitingServiceDto {
+
+    private Long scheduleId; // 영화 스케줄 pk
+    private long ticket; // 번호표(입장한 경우 0)
+    private long position; // 내 앞의 대기 인원
+    private long etaSeconds; // 예상 대기 시간(초)
+    private boolean admitted; // 입장 여부
+
+    /**
+     * ServiceDto -> VerifyResponse
+     *
+     * @return VerifyResponse
+     */
+    public WaitingVerifyDto.Response toVerifyResponse() {
+
+        return WaitingVerifyDto.Response.builder()
+            .scheduleId(scheduleId)
+            .ticket(ticket)
+            .position(position)
+            .etaSeconds(etaSeconds)
+            .admitted(admitted)
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.jh.movieticket.waiting.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대기 순서 조회 시 dto
+public class WaitingVerifyDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Response {
+
+        private Long scheduleId; // 영화 스케줄 pk
+        private long ticket; // 번호표(입장한 경우 0)
+        private long position; // 내 앞의 대기 인원
+        private long etaSeconds; // 예상 대기 시간(초)
+        private boolean admitted; // 입장 여부
+    }
+}
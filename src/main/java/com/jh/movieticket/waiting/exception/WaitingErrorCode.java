@@ -0,0 +1,16 @@
+package com.jh.movieticket.waiting.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum WaitingErrorCode {
+
+    NOT_IN_QUEUE(HttpStatus.BAD_REQUEST.value(), "대기열에 등록되지 않은 회원입니다."),
+    NOT_ADMITTED(HttpStatus.BAD_REQUEST.value(), "대기열 입장 순서가 아닙니다. 대기열에 등록 후 순서를 기다려주세요.");
+
+    private final int status;
+    private final String message;
+}
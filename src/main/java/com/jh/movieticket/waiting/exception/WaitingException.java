@@ -0,0 +1,15 @@
+package com.jh.movieticket.waiting.exception;
+
+import lombok.Getter;
+
+@Getter
+public class WaitingException extends RuntimeException {
+
+    private final WaitingErrorCode waitingErrorCode;
+
+    public WaitingException(WaitingErrorCode waitingErrorCode) {
+
+        super(waitingErrorCode.getMessage());
+        this.waitingErrorCode = waitingErrorCode;
+    }
+}
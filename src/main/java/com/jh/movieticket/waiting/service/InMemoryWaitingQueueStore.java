@@ -0,0 +1,221 @@
+package com.jh.movieticket.waiting.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 서버, 테스트용 대기열 저장소
+@Component
+@ConditionalOnProperty(name = "waiting.queue.store", havingValue = "memory")
+public class InMemoryWaitingQueueStore implements WaitingQueueStore {
+
+    private final Map<Long, Queue> queueMap = new ConcurrentHashMap<>(); // 스케줄 pk -> 대기열
+    private final Duration admitInterval; // 입장 주기
+    private final Duration admittedTtl; // 입장 유지 시간
+    private final Clock clock;
+
+    @Autowired
+    public InMemoryWaitingQueueStore(@Value("${waiting.queue.interval-ms:1000}") long intervalMillis,
+        @Value("${waiting.queue.admitted-ttl-minutes:10}") long admittedTtlMinutes) {
+
+        this(Duration.ofMillis(intervalMillis), Duration.ofMinutes(admittedTtlMinutes),
+            Clock.systemUTC());
+    }
+
+    InMemoryWaitingQueueStore(Duration admitInterval, Duration admittedTtl, Clock clock) {
+
+        this.admitInterval = admitInterval;
+        this.admittedTtl = admittedTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public long enter(Long scheduleId, String userId) {
+
+        Queue queue = queueMap.computeIfAbsent(scheduleId, id -> new Queue());
+        synchronized (queue) {
+            if (queueMap.get(scheduleId) != queue) { // 운영 종료로 제거된 대기열인 경우 새 대기열에 등록
+                return enter(scheduleId, userId);
+            }
+            queue.active = true;
+            Long ticket = queue.ticketMap.get(userId);
+            if (ticket != null) {
+                return ticket;
+            }
+
+            ticket = ++queue.seq;
+            queue.ticketMap.put(userId, ticket);
+            queue.waitingMap.put(ticket, userId);
+
+            return ticket;
+        }
+    }
+
+    @Override
+    public Long getRank(Long scheduleId, String userId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return null;
+        }
+
+        synchronized (queue) {
+            Long ticket = queue.ticketMap.get(userId);
+
+            return ticket == null ? null : (long) queue.waitingMap.headMap(ticket).size();
+        }
+    }
+
+    @Override
+    public Long getTicket(Long scheduleId, String userId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return null;
+        }
+
+        synchronized (queue) {
+            return queue.ticketMap.get(userId);
+        }
+    }
+
+    @Override
+    public boolean isAdmitted(Long scheduleId, String userId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return false;
+        }
+
+        synchronized (queue) {
+            Long expireAt = queue.admittedMap.get(userId);
+
+            return expireAt != null && expireAt > clock.millis();
+        }
+    }
+
+    @Override
+    public int admit(Long scheduleId, int count) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return 0;
+        }
+
+        synchronized (queue) {
+            long now = clock.millis();
+            if (now < queue.nextAdmitAt) { // 이번 주기에 이미 입장시킨 경우
+                return -1;
+            }
+            queue.nextAdmitAt = now + admitInterval.toMillis();
+            queue.admittedMap.values().removeIf(expireAt -> expireAt <= now);
+
+            int admitted = 0;
+            while (admitted < count && !queue.waitingMap.isEmpty()) {
+                Map.Entry<Long, String> first = queue.waitingMap.pollFirstEntry();
+                queue.ticketMap.remove(first.getValue());
+                queue.admittedMap.put(first.getValue(), now + admittedTtl.toMillis());
+                queue.lastAdmittedTicket = first.getKey();
+                admitted++;
+            }
+
+            return admitted;
+        }
+    }
+
+    @Override
+    public long getLastAdmittedTicket(Long scheduleId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return 0L;
+        }
+
+        synchronized (queue) {
+            return queue.lastAdmittedTicket;
+        }
+    }
+
+    @Override
+    public long getWaitingCnt(Long scheduleId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return 0L;
+        }
+
+        synchronized (queue) {
+            return queue.waitingMap.size();
+        }
+    }
+
+    @Override
+    public Set<Long> getActiveScheduleIds() {
+
+        Set<Long> activeScheduleIds = new HashSet<>();
+        queueMap.forEach((scheduleId, queue) -> {
+            synchronized (queue) {
+                if (queue.active) {
+                    activeScheduleIds.add(scheduleId);
+                }
+            }
+        });
+
+        return activeScheduleIds;
+    }
+
+    @Override
+    public boolean isActive(Long scheduleId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return false;
+        }
+
+        synchronized (queue) {
+            return queue.active;
+        }
+    }
+
+    // 운영을 종료한 대기열은 메모리에서 제거한다.
+    @Override
+    public boolean deactivate(Long scheduleId) {
+
+        Queue queue = queueMap.get(scheduleId);
+        if (queue == null) {
+            return true;
+        }
+
+        synchronized (queue) {
+            if (!queue.waitingMap.isEmpty()) {
+                return false;
+            }
+
+            queue.active = false;
+            queueMap.remove(scheduleId, queue);
+
+            return true;
+        }
+    }
+
+    // 스케줄별 대기열
+    private static class Queue {
+
+        private final TreeMap<Long, String> waitingMap = new TreeMap<>(); // 번호표 -> 회원 아이디
+        private final Map<String, Long> ticketMap = new HashMap<>(); // 회원 아이디 -> 번호표
+        private final Map<String, Long> admittedMap = new HashMap<>(); // 입장 회원 아이디 -> 입장 만료 시각(epoch ms)
+        private long seq; // 번호표 시퀀스
+        private long lastAdmittedTicket; // 마지막으로 입장한 번호표
+        private long nextAdmitAt; // 다음 입장 가능 시각(epoch ms)
+        private boolean active; // 대기열 운영 여부
+    }
+}
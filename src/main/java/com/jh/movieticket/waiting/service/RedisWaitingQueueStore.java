@@ -0,0 +1,147 @@
+package com.jh.movieticket.waiting.service;
+
+import com.jh.movieticket.config.RedisScripts;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+// redis sorted set 대기열 저장소
+// 스케줄별 키는 해시태그로 같은 슬롯에 저장하여 클러스터에서도 스크립트를 실행할 수 있게 한다.
+@Component
+@ConditionalOnProperty(name = "waiting.queue.store", havingValue = "redis", matchIfMissing = true)
+public class RedisWaitingQueueStore implements WaitingQueueStore {
+
+    private static final String ACTIVE_KEY = "waiting:schedules"; // 대기열 운영 중인 스케줄 set
+
+    private static final DefaultRedisScript<Long> ENTER_SCRIPT = RedisScripts.load(
+        "scripts/waiting-enter.lua");
+    private static final DefaultRedisScript<Long> ADMIT_SCRIPT = RedisScripts.load(
+        "scripts/waiting-admit.lua");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration admitInterval; // 입장 주기
+    private final Duration admittedTtl; // 입장 유지 시간
+
+    public RedisWaitingQueueStore(StringRedisTemplate stringRedisTemplate,
+        @Value("${waiting.queue.interval-ms:1000}") long intervalMillis,
+        @Value("${waiting.queue.admitted-ttl-minutes:10}") long admittedTtlMinutes) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.admitInterval = Duration.ofMillis(intervalMillis);
+        this.admittedTtl = Duration.ofMinutes(admittedTtlMinutes);
+    }
+
+    @Override
+    public long enter(Long scheduleId, String userId) {
+
+        Long ticket = stringRedisTemplate.execute(ENTER_SCRIPT,
+            List.of(queueKey(scheduleId), key(scheduleId, "seq")), userId);
+        stringRedisTemplate.opsForSet().add(ACTIVE_KEY, String.valueOf(scheduleId));
+
+        return ticket == null ? 0L : ticket;
+    }
+
+    @Override
+    public Long getRank(Long scheduleId, String userId) {
+
+        return stringRedisTemplate.opsForZSet().rank(queueKey(scheduleId), userId);
+    }
+
+    @Override
+    public Long getTicket(Long scheduleId, String userId) {
+
+        Double score = stringRedisTemplate.opsForZSet().score(queueKey(scheduleId), userId);
+
+        return score == null ? null : score.longValue();
+    }
+
+    @Override
+    public boolean isAdmitted(Long scheduleId, String userId) {
+
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.hasKey(admittedKeyPrefix(scheduleId) + userId));
+    }
+
+    @Override
+    public int admit(Long scheduleId, int count) {
+
+        Long admitted = stringRedisTemplate.execute(ADMIT_SCRIPT,
+            List.of(queueKey(scheduleId), key(scheduleId, "tick"), key(scheduleId, "last")),
+            String.valueOf(count), String.valueOf(admitInterval.toMillis()),
+            admittedKeyPrefix(scheduleId), String.valueOf(admittedTtl.toMillis()));
+
+        return admitted == null ? -1 : admitted.intValue();
+    }
+
+    @Override
+    public long getLastAdmittedTicket(Long scheduleId) {
+
+        String last = stringRedisTemplate.opsForValue().get(key(scheduleId, "last"));
+
+        return last == null ? 0L : Long.parseLong(last);
+    }
+
+    @Override
+    public long getWaitingCnt(Long scheduleId) {
+
+        Long size = stringRedisTemplate.opsForZSet().zCard(queueKey(scheduleId));
+
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public Set<Long> getActiveScheduleIds() {
+
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+
+        return members.stream()
+            .map(Long::valueOf)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean isActive(Long scheduleId) {
+
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.opsForSet().isMember(ACTIVE_KEY, String.valueOf(scheduleId)));
+    }
+
+    // 운영 중인 스케줄 set 은 슬롯이 달라 스크립트로 묶을 수 없으므로 먼저 제거한 후 대기 인원을 확인하고,
+    // 그 사이 등록된 회원이 있다면 다시 추가하여 대기 중인 회원이 있는 대기열이 종료되지 않게 한다.
+    @Override
+    public boolean deactivate(Long scheduleId) {
+
+        String member = String.valueOf(scheduleId);
+        stringRedisTemplate.opsForSet().remove(ACTIVE_KEY, member);
+        if (getWaitingCnt(scheduleId) > 0) {
+            stringRedisTemplate.opsForSet().add(ACTIVE_KEY, member);
+            return false;
+        }
+
+        return true;
+    }
+
+    private String queueKey(Long scheduleId) {
+
+        return key(scheduleId, "queue");
+    }
+
+    private String admittedKeyPrefix(Long scheduleId) {
+
+        return key(scheduleId, "admitted:");
+    }
+
+    private String key(Long scheduleId, String suffix) {
+
+        return "waiting:{" + scheduleId + "}:" + suffix;
+    }
+}
@@ -0,0 +1,168 @@
+package com.jh.movieticket.waiting.service;
+
+import com.jh.movieticket.config.MessageBroadcaster;
+import com.jh.movieticket.waiting.dto.WaitingProgressDto;
+import com.jh.movieticket.waiting.dto.WaitingServiceDto;
+import com.jh.movieticket.waiting.exception.WaitingErrorCode;
+import com.jh.movieticket.waiting.exception.WaitingException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 인기 상영 스케줄 예매 대기열 서비스
+// 대기열이 운영 중인 스케줄은 주기마다 정해진 인원만 입장시켜 예매 요청 수를 일정하게 유지한다.
+// 대기열 운영 여부는 서버 간 공유하는 저장소로 판단하며, 대기 인원이 없어져도 유지 시간 동안은
+// 운영을 이어가 대기열을 거치지 않고 예매하는 요청이 몰리지 않게 한다.
+@Slf4j
+@Service
+public class WaitingQueueService {
+
+    private static final String PROGRESS_TOPIC = "/sub/waiting/%d";
+
+    private final WaitingQueueStore waitingQueueStore;
+    private final MessageBroadcaster messageBroadcaster; // 입장시킨 서버와 다른 서버의 구독자에게도 진행 상황 발송
+    private final boolean enabled; // 예매 시 대기열 입장 여부 확인 여부
+    private final int admitCnt; // 주기마다 입장시키는 인원
+    private final long intervalMillis; // 입장 주기(ms)
+    private final long idleMillis; // 대기 인원이 없어도 대기열 운영을 유지하는 시간(ms)
+
+    private final Map<Long, Long> idleSinceMap = new ConcurrentHashMap<>(); // 스케줄 pk -> 대기 인원이 없어진 시각(epoch ms)
+
+    public WaitingQueueService(WaitingQueueStore waitingQueueStore,
+        MessageBroadcaster messageBroadcaster,
+        @Value("${waiting.queue.enabled:false}") boolean enabled,
+        @Value("${waiting.queue.admit-count:100}") int admitCnt,
+        @Value("${waiting.queue.interval-ms:1000}") long intervalMillis,
+        @Value("${waiting.queue.idle-minutes:10}") long idleMinutes) {
+
+        this.waitingQueueStore = waitingQueueStore;
+        this.messageBroadcaster = messageBroadcaster;
+        this.enabled = enabled;
+        this.admitCnt = admitCnt;
+        this.intervalMillis = intervalMillis;
+        this.idleMillis = idleMinutes * 60 * 1000;
+    }
+
+    /**
+     * 대기열 등록, 이미 입장한 회원이라면 입장 상태를 리턴
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 대기 상태 dto
+     */
+    public WaitingServiceDto enter(Long scheduleId, String userId) {
+
+        if (!waitingQueueStore.isAdmitted(scheduleId, userId)) {
+            waitingQueueStore.enter(scheduleId, userId);
+        }
+
+        return getStatus(scheduleId, userId);
+    }
+
+    /**
+     * 대기 순서, 예상 대기 시간 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 대기 상태 dto
+     */
+    public WaitingServiceDto getStatus(Long scheduleId, String userId) {
+
+        if (waitingQueueStore.isAdmitted(scheduleId, userId)) {
+            return WaitingServiceDto.builder()
+                .scheduleId(scheduleId)
+                .admitted(true)
+                .build();
+        }
+
+        Long rank = waitingQueueStore.getRank(scheduleId, userId);
+        Long ticket = waitingQueueStore.getTicket(scheduleId, userId);
+        if (rank == null || ticket == null) {
+            throw new WaitingException(WaitingErrorCode.NOT_IN_QUEUE);
+        }
+
+        return WaitingServiceDto.builder()
+            .scheduleId(scheduleId)
+            .ticket(ticket)
+            .position(rank)
+            .etaSeconds(toEtaSeconds(rank))
+            .admitted(false)
+            .build();
+    }
+
+    /**
+     * 예매 가능 여부 확인, 대기열이 운영 중인 스케줄은 입장한 회원만 예매할 수 있다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     */
+    public void validateAdmitted(Long scheduleId, String userId) {
+
+        if (!enabled || !waitingQueueStore.isActive(scheduleId)) {
+            return;
+        }
+
+        if (!waitingQueueStore.isAdmitted(scheduleId, userId)) {
+            throw new WaitingException(WaitingErrorCode.NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 대기열이 운영 중인 스케줄마다 대기 순서대로 입장시키고 진행 상황 발송
+     * 대기 인원이 없는 상태가 유지 시간 동안 이어진 스케줄은 대기열 운영을 종료한다.
+     */
+    @Scheduled(fixedDelayString = "${waiting.queue.interval-ms:1000}")
+    public void admit() {
+
+        Set<Long> scheduleIds = waitingQueueStore.getActiveScheduleIds();
+        long now = System.currentTimeMillis();
+        for (Long scheduleId : scheduleIds) {
+            try {
+                int admitted = waitingQueueStore.admit(scheduleId, admitCnt);
+                long waitingCnt = waitingQueueStore.getWaitingCnt(scheduleId);
+                if (admitted > 0) {
+                    publishProgress(scheduleId, waitingCnt);
+                }
+                if (waitingCnt > 0) {
+                    idleSinceMap.remove(scheduleId);
+                    continue;
+                }
+
+                long idleSince = idleSinceMap.computeIfAbsent(scheduleId, id -> now);
+                if (now - idleSince >= idleMillis && waitingQueueStore.deactivate(scheduleId)) {
+                    idleSinceMap.remove(scheduleId);
+                }
+            } catch (RuntimeException e) {
+                log.error("대기열 입장 실패 - scheduleId = {}", scheduleId, e);
+            }
+        }
+
+        idleSinceMap.keySet().retainAll(scheduleIds); // 다른 서버가 운영 종료한 스케줄 정리
+    }
+
+    // 대기열 진행 상황 발송
+    private void publishProgress(Long scheduleId, long waitingCnt) {
+
+        WaitingProgressDto progress = WaitingProgressDto.builder()
+            .scheduleId(scheduleId)
+            .lastAdmittedTicket(waitingQueueStore.getLastAdmittedTicket(scheduleId))
+            .waitingCnt(waitingCnt)
+            .admitCnt(admitCnt)
+            .intervalMillis(intervalMillis)
+            .build();
+
+        messageBroadcaster.broadcast(String.format(PROGRESS_TOPIC, scheduleId), progress);
+    }
+
+    // 대기 순서 -> 예상 대기 시간(초)
+    private long toEtaSeconds(long rank) {
+
+        long remainIntervals = rank / admitCnt + 1;
+
+        return (remainIntervals * intervalMillis + 999) / 1000;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jh.movieticket.waiting.service;
+
+import java.util.Set;
+
+// 영화 스케줄별 예매 대기열 저장소
+// 대기 순서는 등록 시 발급하는 번호표 순서이며, 입장한 회원은 입장 유지 시간 동안 예매할 수 있다.
+public interface WaitingQueueStore {
+
+    /**
+     * 대기열 등록, 이미 등록된 회원이라면 기존 번호표를 리턴
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 번호표
+     */
+    long enter(Long scheduleId, String userId);
+
+    /**
+     * 대기 순서 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 0부터 시작하는 대기 순서, 대기 중이 아니라면 null
+     */
+    Long getRank(Long scheduleId, String userId);
+
+    /**
+     * 번호표 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 번호표, 대기 중이 아니라면 null
+     */
+    Long getTicket(Long scheduleId, String userId);
+
+    /**
+     * 입장 여부 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param userId     회원 아이디
+     * @return 입장 유지 시간 안의 입장 회원인지 여부
+     */
+    boolean isAdmitted(Long scheduleId, String userId);
+
+    /**
+     * 대기 순서대로 입장, 여러 서버에서 호출해도 입장 주기마다 한 번만 입장시킨다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @param count      입장시킬 인원
+     * @return 입장시킨 인원, 이번 주기에 이미 입장시켰다면 -1
+     */
+    int admit(Long scheduleId, int count);
+
+    /**
+     * 마지막으로 입장한 번호표 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 마지막으로 입장한 번호표, 없다면 0
+     */
+    long getLastAdmittedTicket(Long scheduleId);
+
+    /**
+     * 대기 인원 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 대기 인원
+     */
+    long getWaitingCnt(Long scheduleId);
+
+    /**
+     * 대기열이 운영 중인 스케줄 조회
+     *
+     * @return 영화 스케줄 pk set
+     */
+    Set<Long> getActiveScheduleIds();
+
+    /**
+     * 대기열 운영 여부 조회
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 대기열이 운영 중이라면 true
+     */
+    boolean isActive(Long scheduleId);
+
+    /**
+     * 대기열 운영 종료, 대기 인원이 남아있다면 종료하지 않는다.
+     *
+     * @param scheduleId 영화 스케줄 pk
+     * @return 운영 종료 여부
+     */
+    boolean deactivate(Long scheduleId);
+}
@@ -0,0 +1,10 @@
+-- 안읽은 메시지 수 증가
+-- KEYS[1]: 회원별 안읽은 메시지 수 hash, ARGV[1]: 채팅방 pk, ARGV[2]: 증가시킬 수
+-- 이미 세고 있는(필드가 있는) 채팅방만 증가시킨 값을 리턴하고, 아직 세지 않는 채팅방이라면 -1 리턴(다음 조회 시 db 로 센다.)
+-- 세지 않는 채팅방은 버전({채팅방 pk}:version)을 올려 db 로 세는 중인 조회가 센 값을 저장하지 않도록 한다.
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+    return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+end
+
+redis.call('HINCRBY', KEYS[1], ARGV[1] .. ':version', 1)
+return -1
@@ -0,0 +1,14 @@
+-- db 로 센 안읽은 메시지 수 저장
+-- KEYS[1]: 회원별 안읽은 메시지 수 hash, ARGV: (채팅방 pk, db 로 센 수, 세기 전에 조회한 버전) 반복
+-- 필드가 없고 세는 동안 버전이 그대로인 채팅방만 저장하고, 저장한 채팅방 수 리턴
+-- 세는 동안 증가 요청이 있었다면 센 값에 포함되었는지 알 수 없으므로 저장하지 않는다.(다음 조회 시 다시 센다.)
+local saved = 0
+for i = 1, #ARGV, 3 do
+    local version = tonumber(redis.call('HGET', KEYS[1], ARGV[i] .. ':version') or '0')
+    if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 0 and version == tonumber(ARGV[i + 2]) then
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+        saved = saved + 1
+    end
+end
+
+return saved
@@ -0,0 +1,11 @@
+-- 예약 번호 시퀀스 블록 할당
+-- KEYS[1]: 날짜별 시퀀스 키, ARGV[1]: 블록 크기, ARGV[2]: 키가 없을 때 이어서 시작할 시퀀스(db의 마지막 시퀀스, 모르면 빈 문자열), ARGV[3]: 키 유지 시간(ms)
+-- 키가 없는데 이어서 시작할 시퀀스를 모른다면 -1 리턴, 아니면 할당한 블록의 마지막 시퀀스 리턴
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    if ARGV[2] == '' then
+        return -1
+    end
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+end
+
+return redis.call('INCRBY', KEYS[1], ARGV[1])
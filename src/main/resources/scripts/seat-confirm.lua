@@ -0,0 +1,15 @@
+-- 좌석 예약 확정
+-- KEYS: 확정할 좌석 키 리스트, ARGV[1]: 예약하는 회원 아이디, ARGV[2]: 확정 좌석 유지 시간(ms, 상영 종료까지 남은 시간 + 보관 시간)
+-- 비어있거나 본인이 선점한 좌석만 확정할 수 있으며 하나라도 확정할 수 없다면 0 리턴
+for i = 1, #KEYS do
+    local holder = redis.call('GET', KEYS[i])
+    if holder and holder ~= ARGV[1] then
+        return 0
+    end
+end
+
+for i = 1, #KEYS do
+    redis.call('SET', KEYS[i], 'C:' .. ARGV[1], 'PX', ARGV[2])
+end
+
+return 1
@@ -0,0 +1,15 @@
+-- 좌석 선점
+-- KEYS: 선점할 좌석 키 리스트, ARGV[1]: 선점하는 회원 아이디, ARGV[2]: 선점 유지 시간(ms)
+-- 하나라도 다른 회원이 선점했거나 예약된 좌석이라면 아무것도 선점하지 않고 0 리턴
+for i = 1, #KEYS do
+    local holder = redis.call('GET', KEYS[i])
+    if holder and holder ~= ARGV[1] then
+        return 0
+    end
+end
+
+for i = 1, #KEYS do
+    redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+end
+
+return 1
@@ -0,0 +1,12 @@
+-- 좌석 선점 해제
+-- KEYS: 해제할 좌석 키 리스트, ARGV[1]: 선점했던 회원 아이디
+-- 본인이 선점했거나 확정한 좌석만 해제하며 해제한 좌석 수 리턴
+local released = 0
+for i = 1, #KEYS do
+    local holder = redis.call('GET', KEYS[i])
+    if holder == ARGV[1] or holder == 'C:' .. ARGV[1] then
+        released = released + redis.call('DEL', KEYS[i])
+    end
+end
+
+return released
@@ -0,0 +1,17 @@
+-- 대기열 입장
+-- KEYS[1]: 대기열(sorted set), KEYS[2]: 입장 주기 키, KEYS[3]: 마지막 입장 번호표
+-- ARGV[1]: 입장시킬 인원, ARGV[2]: 입장 주기(ms), ARGV[3]: 입장 회원 키 접두사, ARGV[4]: 입장 유지 시간(ms)
+-- 여러 서버 중 주기마다 한 서버만 입장시키며, 이번 주기에 다른 서버가 이미 입장시켰다면 -1 리턴
+if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then
+    return -1
+end
+
+local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+for i = 1, #popped, 2 do
+    redis.call('SET', ARGV[3] .. popped[i], popped[i + 1], 'PX', ARGV[4])
+end
+if #popped > 0 then
+    redis.call('SET', KEYS[3], popped[#popped])
+end
+
+return #popped / 2
@@ -0,0 +1,12 @@
+-- 대기열 등록
+-- KEYS[1]: 대기열(sorted set), KEYS[2]: 번호표 시퀀스, ARGV[1]: 회원 아이디
+-- 이미 등록된 회원이라면 기존 번호표를, 아니라면 새 번호표를 발급하여 리턴
+local ticket = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if ticket then
+    return tonumber(ticket)
+end
+
+ticket = redis.call('INCR', KEYS[2])
+redis.call('ZADD', KEYS[1], ticket, ARGV[1])
+
+return ticket
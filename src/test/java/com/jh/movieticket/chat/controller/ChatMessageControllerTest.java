@@ -1,6 +1,8 @@
 package com.jh.movieticket.chat.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -13,6 +15,7 @@ import com.jh.movieticket.auth.SecurityConfiguration;
 import com.jh.movieticket.auth.TokenProvider;
 import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.service.ChatMessageService;
+import com.jh.movieticket.config.CursorPage;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -101,4 +104,29 @@ class ChatMessageControllerTest {
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$[0].status").value(400));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("채팅방의 채팅 메시지 내역 커서 페이징 조회 컨트롤러")
+    void chatMessageVerifyHistoryController() throws Exception {
+
+        when(chatMessageService.chatMessageVerifyHistory(eq(1L), any(), anyInt())).thenReturn(
+            CursorPage.of(chatMessageServiceDtoList, 30, m -> null));
+
+        mockMvc.perform(get("/chatmessages/1/history"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(200))
+            .andExpect(jsonPath("$.data.content").isArray())
+            .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("채팅방의 채팅 메시지 내역 커서 페이징 조회 컨트롤러 실패 - 페이지 크기 초과")
+    void chatMessageVerifyHistoryControllerFail1() throws Exception {
+
+        mockMvc.perform(get("/chatmessages/1/history").param("size", "101"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$[0].status").value(400));
+    }
+}
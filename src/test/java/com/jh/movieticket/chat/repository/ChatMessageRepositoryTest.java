@@ -3,6 +3,7 @@ package com.jh.movieticket.chat.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.jh.movieticket.chat.domain.ChatMessage;
+import com.jh.movieticket.chat.domain.ChatReadCursor;
 import com.jh.movieticket.chat.domain.ChatRoom;
 import com.jh.movieticket.config.JpaAuditingConfig;
 import com.jh.movieticket.member.domain.Member;
@@ -29,6 +30,9 @@ class ChatMessageRepositoryTest {
     @Autowired
     ChatRoomRepository chatRoomRepository;
 
+    @Autowired
+    ChatReadCursorRepository chatReadCursorRepository;
+
     @BeforeEach
     void before() {
 
@@ -96,4 +100,45 @@ class ChatMessageRepositoryTest {
             assertThat(chatMessageList.size()).isEqualTo(2);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("읽은 위치 이후 상대방이 보낸 메시지 수 조회")
+    void countNotReadMessage() {
+
+        ChatRoom chatRoom = chatRoomRepository.findAll().get(0);
+        Member admin = memberRepository.findByUserIdAndDeleteDate("admin", null)
+            .orElseThrow();
+        List<ChatMessage> chatMessageList = chatMessageRepository.findAllByChatRoom(chatRoom);
+        Long firstMessageId = chatMessageList.get(0).getId();
+
+        assertThat(chatMessageRepository.countNotReadMessage(chatRoom, "admin")).isEqualTo(2);
+        assertThat(chatMessageRepository.countNotReadMessage(chatRoom, "test")).isEqualTo(0);
+        assertThat(chatMessageRepository.findLastMessageId(chatRoom)).isEqualTo(
+            chatMessageList.get(1).getId());
+
+        chatReadCursorRepository.save(ChatReadCursor.builder()
+            .chatRoom(chatRoom)
+            .member(admin)
+            .lastReadMessageId(firstMessageId)
+            .build());
+
+        assertThat(chatMessageRepository.countNotReadMessage(chatRoom, "admin")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽은 위치 이후 메시지 수 조회 - 함께 접속 중에 보낸(읽은) 메시지는 제외")
+    void countNotReadMessageExceptRead() {
+
+        ChatRoom chatRoom = chatRoomRepository.findAll().get(0);
+        Member member = memberRepository.findByUserIdAndDeleteDate("test", null)
+            .orElseThrow();
+        chatMessageRepository.save(ChatMessage.builder()
+            .message("bye")
+            .chatRoom(chatRoom)
+            .sender(member)
+            .notReadCount(0)
+            .build());
+
+        assertThat(chatMessageRepository.countNotReadMessage(chatRoom, "admin")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,121 @@
+package com.jh.movieticket.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ChatHistoryCacheTest {
+
+    @MockBean
+    RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+
+    ChatHistoryCache chatHistoryCache;
+    ListOperations<String, ChatMessageServiceDto> listOperations;
+    ChatMessageServiceDto message;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        chatHistoryCache = new ChatHistoryCache(chatMessageRedisTemplate, 3, 60);
+        listOperations = mock(ListOperations.class);
+        when(chatMessageRedisTemplate.opsForList()).thenReturn(listOperations);
+
+        message = ChatMessageServiceDto.builder()
+            .id(1L)
+            .senderId("test")
+            .message("hello")
+            .build();
+    }
+
+    @Test
+    @DisplayName("최근 메시지 조회 - 캐시가 없다면 null")
+    void getMiss() {
+
+        when(listOperations.range("chatHistory::1", 0, -1)).thenReturn(List.of());
+
+        assertThat(chatHistoryCache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("최근 메시지 조회 - 읽을 수 없는 메시지가 섞인 경우 캐시 삭제 후 null")
+    void getUnreadable() {
+
+        when(listOperations.range("chatHistory::1", 0, -1))
+            .thenReturn(Arrays.asList(message, null));
+
+        assertThat(chatHistoryCache.get(1L)).isNull();
+        verify(chatMessageRedisTemplate).delete("chatHistory::1");
+    }
+
+    @Test
+    @DisplayName("최근 메시지 조회 - redis 장애 시 null")
+    void getRedisFail() {
+
+        when(listOperations.range(anyString(), anyLong(), anyLong()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(chatHistoryCache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("보관 개수보다 적게 캐시된 경우만 전체 메시지로 판단")
+    void isComplete() {
+
+        assertThat(chatHistoryCache.isComplete(List.of(message, message))).isTrue();
+        assertThat(chatHistoryCache.isComplete(List.of(message, message, message))).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 메시지 추가 - 캐시가 있는 경우만 추가하고 보관 개수만큼 잘라냄")
+    @SuppressWarnings("unchecked")
+    void append() {
+
+        chatHistoryCache.append(1L, message);
+
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(
+            SessionCallback.class);
+        verify(chatMessageRedisTemplate).executePipelined(captor.capture());
+
+        RedisOperations<String, ChatMessageServiceDto> operations = mock(RedisOperations.class);
+        when(operations.opsForList()).thenReturn(listOperations);
+        captor.getValue().execute(operations);
+
+        verify(listOperations).rightPushIfPresent("chatHistory::1", message);
+        verify(listOperations).trim("chatHistory::1", -3, -1);
+        verify(operations).expire("chatHistory::1", Duration.ofMinutes(60));
+        verify(listOperations, never()).rightPush(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 채우기 - 빈 리스트는 저장하지 않음")
+    void fillEmpty() {
+
+        chatHistoryCache.fill(1L, List.of());
+
+        verify(chatMessageRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+}
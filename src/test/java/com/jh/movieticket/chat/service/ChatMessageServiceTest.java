@@ -3,6 +3,8 @@ package com.jh.movieticket.chat.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,21 +14,26 @@ import com.jh.movieticket.chat.domain.ChatRoom;
 import com.jh.movieticket.chat.dto.ChatMessageSendDto;
 import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.exception.ChatRoomException;
+import com.jh.movieticket.chat.repository.ChatMessageJdbcRepository;
 import com.jh.movieticket.chat.repository.ChatMessageRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.member.domain.Role;
 import com.jh.movieticket.member.exception.MemberException;
 import com.jh.movieticket.member.repository.MemberRepository;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.redis.core.ListOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -35,6 +42,9 @@ class ChatMessageServiceTest {
     @MockBean
     ChatMessageRepository chatMessageRepository;
 
+    @MockBean
+    ChatMessageJdbcRepository chatMessageJdbcRepository;
+
     @MockBean
     ChatRoomRepository chatRoomRepository;
 
@@ -42,10 +52,10 @@ class ChatMessageServiceTest {
     MemberRepository memberRepository;
 
     @MockBean
-    RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+    ChatUnreadCounter chatUnreadCounter;
 
     @MockBean
-    ListOperations<String, ChatMessageServiceDto> listOperations;
+    ChatHistoryCache chatHistoryCache;
 
     ChatMessageService chatMessageService;
     ChatMessageSendDto chatMessageSendDto;
@@ -57,10 +67,14 @@ class ChatMessageServiceTest {
     @BeforeEach
     void before() {
 
-        chatMessageService = new ChatMessageService(chatMessageRepository, chatRoomRepository,
-            memberRepository, chatMessageRedisTemplate);
+        chatMessageService = new ChatMessageService(chatMessageRepository, chatMessageJdbcRepository,
+            chatRoomRepository,
+            memberRepository, chatUnreadCounter, chatHistoryCache);
 
-        when(chatMessageRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(chatHistoryCache.get(any())).thenReturn(null);
+        when(chatHistoryCache.getCacheSize()).thenReturn(3);
+        when(chatHistoryCache.isComplete(any())).thenAnswer(
+            invocation -> invocation.<List<?>>getArgument(0).size() < 3);
 
         chatMessageSendDto = ChatMessageSendDto.builder()
             .message("hello")
@@ -111,6 +125,25 @@ class ChatMessageServiceTest {
         chatMessageService.chatMessageSave(chatMessageSendDto);
 
         verify(chatMessageRepository, times(1)).save(any());
+        verify(chatUnreadCounter, never()).increment(any(), any());
+        verify(chatHistoryCache, times(1)).append(any(), any());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 서비스 - 받는 사람이 입장하지 않은 경우 안읽은 메시지 수 증가")
+    void chatMessageSaveServiceIncrementUnread() {
+
+        ChatMessage notReadChatMessage = chatMessage.toBuilder()
+            .notReadCount(1)
+            .build();
+        when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(chatMessageRepository.save(any())).thenReturn(notReadChatMessage);
+
+        chatMessageService.chatMessageSave(chatMessageSendDto);
+
+        verify(chatUnreadCounter, times(1)).increment("admin", chatRoom.getId());
     }
 
     @Test
@@ -136,6 +169,45 @@ class ChatMessageServiceTest {
             MemberException.class);
     }
 
+    @Test
+    @DisplayName("채팅 메시지 여러 건 저장 서비스 - 한 번에 조회, 저장하고 채팅방별로 모아서 redis 반영")
+    @SuppressWarnings("unchecked")
+    void chatMessageSaveAllService() {
+
+        chatRoom = chatRoom.toBuilder()
+            .id(1L)
+            .build();
+        ChatMessageSendDto adminMessage = chatMessageSendDto.toBuilder()
+            .sender("admin")
+            .build();
+        ChatMessageSendDto notFoundRoomMessage = chatMessageSendDto.toBuilder()
+            .roomId(2L)
+            .build();
+
+        when(chatRoomRepository.findAllById(any())).thenReturn(List.of(chatRoom));
+        when(memberRepository.findAllByUserIdInAndDeleteDateIsNull(any())).thenReturn(
+            List.of(member, chatRoom.getAdmin()));
+        when(chatMessageJdbcRepository.insertAll(any())).thenAnswer(invocation -> {
+            List<ChatMessage> chatMessageList = invocation.getArgument(0);
+            return IntStream.range(0, chatMessageList.size())
+                .mapToObj(i -> chatMessageList.get(i).toBuilder().id(i + 1L).build())
+                .toList();
+        });
+
+        int savedCnt = chatMessageService.chatMessageSaveAll(
+            List.of(chatMessageSendDto, chatMessageSendDto, adminMessage, notFoundRoomMessage));
+
+        assertThat(savedCnt).isEqualTo(3);
+        ArgumentCaptor<Map<Long, List<ChatMessageServiceDto>>> captor = ArgumentCaptor.forClass(
+            Map.class);
+        verify(chatHistoryCache, times(1)).appendAll(captor.capture());
+        assertThat(captor.getValue().get(1L)).extracting(ChatMessageServiceDto::getId)
+            .containsExactly(1L, 2L, 3L);
+        verify(chatUnreadCounter, times(1)).increment("admin", 1L, 2L);
+        verify(chatUnreadCounter, times(1)).increment("test", 1L, 1L);
+        verify(chatMessageRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("채팅방의 전체 채팅 메시지 리스트 조회 서비스")
     void chatMessageVerifyAllService() {
@@ -159,4 +231,81 @@ class ChatMessageServiceTest {
             () -> chatMessageService.chatMessageSave(chatMessageSendDto)).isInstanceOf(
             ChatRoomException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("채팅 메시지 내역 조회 서비스 - 캐시만으로 한 페이지를 채우는 경우 db 조회 안함")
+    void chatMessageVerifyHistoryFromCache() {
+
+        when(chatHistoryCache.get(1L)).thenReturn(messagesOf(3, 4, 5));
+
+        CursorPage<ChatMessageServiceDto> result = chatMessageService.chatMessageVerifyHistory(1L,
+            null, 2);
+
+        assertThat(result.getContent()).extracting(ChatMessageServiceDto::getId)
+            .containsExactly(5L, 4L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(CursorPage.encodeCursor(4L, null));
+        verify(chatRoomRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 내역 조회 서비스 - 캐시보다 오래된 메시지는 db 에서 조회")
+    void chatMessageVerifyHistoryFromDb() {
+
+        when(chatHistoryCache.get(1L)).thenReturn(messagesOf(3, 4, 5));
+        when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findAllByChatRoomAndIdLessThanOrderByIdDesc(chatRoom, 4L,
+            Limit.of(3))).thenReturn(List.of(chatMessage.toBuilder().id(3L).build(),
+            chatMessage.toBuilder().id(2L).build(), chatMessage.toBuilder().id(1L).build()));
+
+        CursorPage<ChatMessageServiceDto> result = chatMessageService.chatMessageVerifyHistory(1L,
+            CursorPage.encodeCursor(4L, null), 2);
+
+        assertThat(result.getContent()).extracting(ChatMessageServiceDto::getId)
+            .containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 내역 조회 서비스 - 캐시가 없다면 최근 메시지로 캐시 채움")
+    void chatMessageVerifyHistoryFillCache() {
+
+        when(chatRoomRepository.findById(1L)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findAllByChatRoomAndIdLessThanOrderByIdDesc(chatRoom,
+            Long.MAX_VALUE, Limit.of(3))).thenReturn(
+            List.of(chatMessage.toBuilder().id(2L).build(), chatMessage.toBuilder().id(1L).build()));
+        when(chatMessageRepository.findLastMessageId(chatRoom)).thenReturn(2L);
+
+        CursorPage<ChatMessageServiceDto> result = chatMessageService.chatMessageVerifyHistory(1L,
+            null, 10);
+
+        assertThat(result.getContent()).extracting(ChatMessageServiceDto::getId)
+            .containsExactly(2L, 1L);
+        assertThat(result.isHasNext()).isFalse();
+        verify(chatHistoryCache, times(1)).fill(eq(1L), any());
+        verify(chatHistoryCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 내역 조회 서비스 실패 - 없는 채팅방")
+    void chatMessageVerifyHistoryFail() {
+
+        when(chatRoomRepository.findById(any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(
+            () -> chatMessageService.chatMessageVerifyHistory(1L, null, 10)).isInstanceOf(
+            ChatRoomException.class);
+    }
+
+    // 오래된 순의 pk 를 가진 메시지 리스트
+    private List<ChatMessageServiceDto> messagesOf(long... ids) {
+
+        return Arrays.stream(ids)
+            .mapToObj(id -> ChatMessageServiceDto.builder()
+                .id(id)
+                .senderId("test")
+                .message("hello")
+                .build())
+            .toList();
+    }
+}
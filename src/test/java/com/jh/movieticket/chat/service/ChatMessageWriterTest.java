@@ -0,0 +1,173 @@
+package com.jh.movieticket.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.chat.dto.ChatMessageSendDto;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ChatMessageWriterTest {
+
+    @MockBean
+    ChatMessageService chatMessageService;
+
+    @TempDir
+    Path tempDir;
+
+    ChatMessageWriter chatMessageWriter;
+    Path journalPath;
+
+    @BeforeEach
+    void before() {
+
+        journalPath = tempDir.resolve("chat-message.journal");
+        chatMessageWriter = new ChatMessageWriter(chatMessageService, Runnable::run, 100, 3, 0,
+            journalPath.toString());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 - batch-size 개씩 나누어 저장")
+    @SuppressWarnings("unchecked")
+    void flushInBatches() {
+
+        chatMessageWriter = new ChatMessageWriter(chatMessageService, Runnable::run, 100, 2, 0,
+            journalPath.toString());
+        chatMessageWriter.write(messageOf("hello"));
+        verify(chatMessageService, never()).chatMessageSaveAll(anyList());
+
+        chatMessageWriter.write(messageOf("hi"));
+        chatMessageWriter.write(messageOf("bye"));
+        chatMessageWriter.flush();
+
+        ArgumentCaptor<List<ChatMessageSendDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageService, times(2)).chatMessageSaveAll(captor.capture());
+        assertThat(captor.getAllValues().get(0)).extracting(ChatMessageSendDto::getMessage)
+            .containsExactly("hello", "hi");
+        assertThat(captor.getAllValues().get(1)).extracting(ChatMessageSendDto::getMessage)
+            .containsExactly("bye");
+        assertThat(chatMessageWriter.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 - 실패한 메시지는 남겨 두고 다음 저장 때 재시도")
+    void flushRetry() {
+
+        when(chatMessageService.chatMessageSaveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("db down"))
+            .thenReturn(1);
+
+        chatMessageWriter.write(messageOf("hello"));
+        chatMessageWriter.flush();
+        assertThat(chatMessageWriter.getPendingCount()).isEqualTo(1);
+
+        chatMessageWriter.flush();
+        verify(chatMessageService, times(2)).chatMessageSaveAll(anyList());
+        assertThat(chatMessageWriter.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 - 다시 시도해도 실패하는 batch 는 한 건씩 저장")
+    void flushSaveEach() {
+
+        when(chatMessageService.chatMessageSaveAll(anyList()))
+            .thenThrow(new DataIntegrityViolationException("too long"))
+            .thenReturn(1)
+            .thenThrow(new DataIntegrityViolationException("too long"));
+
+        chatMessageWriter.write(messageOf("hello"));
+        chatMessageWriter.write(messageOf("invalid"));
+        chatMessageWriter.flush();
+
+        verify(chatMessageService, times(3)).chatMessageSaveAll(anyList());
+        assertThat(chatMessageWriter.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 - 대기열이 가득 차면 보낸 쓰레드에서 직접 저장")
+    @SuppressWarnings("unchecked")
+    void writeBackpressure() {
+
+        chatMessageWriter = new ChatMessageWriter(chatMessageService, Runnable::run, 1, 10, 0,
+            journalPath.toString());
+
+        chatMessageWriter.write(messageOf("hello"));
+        verify(chatMessageService, never()).chatMessageSaveAll(anyList());
+
+        chatMessageWriter.write(messageOf("hi"));
+        ArgumentCaptor<List<ChatMessageSendDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageService, times(1)).chatMessageSaveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatMessageSendDto::getMessage)
+            .containsExactly("hello");
+        assertThat(chatMessageWriter.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 - 대기열이 가득 찬 상태에서 저장 실패 시 메시지를 버리지 않음")
+    void writeBackpressureSaveFail() {
+
+        when(chatMessageService.chatMessageSaveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("db down"));
+        chatMessageWriter = new ChatMessageWriter(chatMessageService, Runnable::run, 1, 10, 0,
+            journalPath.toString());
+
+        chatMessageWriter.write(messageOf("hello"));
+        Thread.currentThread().interrupt();
+        try {
+            chatMessageWriter.write(messageOf("hi"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(chatMessageWriter.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 저장 실패한 메시지를 저널에 기록하고 기동 시 복구")
+    @SuppressWarnings("unchecked")
+    void shutdownAndRecover() throws Exception {
+
+        when(chatMessageService.chatMessageSaveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("db down"));
+        chatMessageWriter.write(messageOf("hello\tworld\n"));
+
+        chatMessageWriter.shutdown();
+        assertThat(Files.readAllLines(journalPath)).hasSize(1);
+
+        ChatMessageService recoverService = mock(ChatMessageService.class);
+        ChatMessageWriter recovered = new ChatMessageWriter(recoverService, Runnable::run, 100, 3,
+            0, journalPath.toString());
+        recovered.recover();
+
+        ArgumentCaptor<List<ChatMessageSendDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recoverService, times(1)).chatMessageSaveAll(captor.capture());
+        assertThat(captor.getValue().get(0).getMessage()).isEqualTo("hello\tworld\n");
+        assertThat(Files.exists(journalPath)).isFalse();
+    }
+
+    private ChatMessageSendDto messageOf(String message) {
+
+        return ChatMessageSendDto.builder()
+            .roomId(1L)
+            .sender("test")
+            .message(message)
+            .build();
+    }
+}
@@ -3,13 +3,15 @@ package com.jh.movieticket.chat.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.jh.movieticket.chat.domain.ChatMessage;
+import com.jh.movieticket.chat.domain.ChatReadCursor;
 import com.jh.movieticket.chat.domain.ChatRoom;
-import com.jh.movieticket.chat.dto.ChatMessageServiceDto;
 import com.jh.movieticket.chat.dto.ChatRoomCreateDto;
 import com.jh.movieticket.chat.dto.ChatRoomJoinDto;
 import com.jh.movieticket.chat.dto.ChatRoomOutDto;
@@ -17,25 +19,29 @@ import com.jh.movieticket.chat.dto.ChatRoomServiceDto;
 import com.jh.movieticket.chat.dto.ChatRoomVerifyDto;
 import com.jh.movieticket.chat.exception.ChatRoomException;
 import com.jh.movieticket.chat.repository.ChatMessageRepository;
+import com.jh.movieticket.chat.repository.ChatReadCursorRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
+import com.jh.movieticket.config.CursorPage;
+import com.jh.movieticket.config.InvalidCursorException;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.member.domain.Role;
 import com.jh.movieticket.member.exception.MemberException;
 import com.jh.movieticket.member.repository.MemberRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.redis.core.ListOperations;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -51,10 +57,13 @@ class ChatRoomServiceTest {
     MemberRepository memberRepository;
 
     @MockBean
-    RedisTemplate<String, ChatMessageServiceDto> chatMessageRedisTemplate;
+    ChatReadCursorRepository chatReadCursorRepository;
 
     @MockBean
-    ListOperations<String, ChatMessageServiceDto> listOperations;
+    ChatUnreadCounter chatUnreadCounter;
+
+    @MockBean
+    ChatHistoryCache chatHistoryCache;
 
     ChatRoomService chatRoomService;
     ChatRoomCreateDto.Request createRequest;
@@ -73,9 +82,7 @@ class ChatRoomServiceTest {
     void before() {
 
         chatRoomService = new ChatRoomService(chatRoomRepository, chatMessageRepository,
-            memberRepository, chatMessageRedisTemplate);
-
-        when(chatMessageRedisTemplate.opsForList()).thenReturn(listOperations);
+            memberRepository, chatReadCursorRepository, chatUnreadCounter, chatHistoryCache);
 
         createRequest = ChatRoomCreateDto.Request.builder()
             .userId("test")
@@ -186,13 +193,57 @@ class ChatRoomServiceTest {
     void chatRoomEnterService() {
 
         when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
-        when(chatMessageRepository.findAllByChatRoom(any())).thenReturn(chatMessageList);
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(chatMessageRepository.findLastMessageId(any())).thenReturn(10L);
+        when(chatReadCursorRepository.findByChatRoomAndMember(any(), any())).thenReturn(
+            Optional.empty());
 
         chatRoomService.enterChatRoom(joinRequest);
 
+        ArgumentCaptor<ChatReadCursor> captor = ArgumentCaptor.forClass(ChatReadCursor.class);
+        verify(chatReadCursorRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getLastReadMessageId()).isEqualTo(10L);
+        verify(chatUnreadCounter, times(1)).reset("test", chatRoom.getId());
+        verify(chatMessageRepository, never()).save(any());
         verify(chatRoomRepository, times(1)).save(any());
     }
 
+    @Test
+    @DisplayName("채팅방 입장 서비스 - 이미 마지막 메시지까지 읽은 경우 읽은 위치 유지")
+    void chatRoomEnterServiceAlreadyRead() {
+
+        ChatReadCursor chatReadCursor = ChatReadCursor.builder()
+            .id(1L)
+            .chatRoom(chatRoom)
+            .member(member)
+            .lastReadMessageId(10L)
+            .build();
+
+        when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(chatMessageRepository.findLastMessageId(any())).thenReturn(10L);
+        when(chatReadCursorRepository.findByChatRoomAndMember(any(), any())).thenReturn(
+            Optional.of(chatReadCursor));
+
+        chatRoomService.enterChatRoom(joinRequest);
+
+        verify(chatReadCursorRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("채팅방 입장 서비스 실패 - 없는 회원")
+    void chatRoomEnterServiceFail2() {
+
+        when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.empty());
+
+        assertThatThrownBy(() -> chatRoomService.enterChatRoom(joinRequest)).isInstanceOf(
+            MemberException.class);
+    }
+
     @Test
     @DisplayName("채팅방 입장 서비스 실패 - 없는 채팅방")
     void chatRoomEnterServiceFail1() {
@@ -230,11 +281,26 @@ class ChatRoomServiceTest {
 
         when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
         when(chatMessageRepository.findAllByChatRoom(any())).thenReturn(chatMessageList);
-        when(chatMessageRedisTemplate.hasKey(any())).thenReturn(true);
 
         chatRoomService.deleteChatRoom(1L);
 
         verify(chatRoomRepository, times(1)).save(any());
+        verify(chatUnreadCounter, times(1)).remove(chatRoom.getId(), "test", "admin");
+    }
+
+    @Test
+    @DisplayName("채팅방 삭제 서비스 - 최근 메시지 캐시 삭제")
+    void chatRoomDeleteServiceEvictHistory() {
+
+        chatRoom = chatRoom.toBuilder()
+            .id(1L)
+            .build();
+        when(chatRoomRepository.findById(any())).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findAllByChatRoom(any())).thenReturn(chatMessageList);
+
+        chatRoomService.deleteChatRoom(1L);
+
+        verify(chatHistoryCache, times(1)).evict(1L);
     }
 
     @Test
@@ -256,10 +322,37 @@ class ChatRoomServiceTest {
         when(chatRoomRepository.findByMember(any())).thenReturn(Optional.of(chatRoom));
         when(chatMessageRepository.findAllByChatRoom(any())).thenReturn(chatMessageList);
         when(chatRoomRepository.save(any())).thenReturn(chatRoom);
+        when(chatMessageRepository.countNotReadMessage(any(), any())).thenReturn(3L);
 
         ChatRoomServiceDto chatRoomServiceDto = chatRoomService.verifyChatRoom(verifyRequest);
 
         assertThat(chatRoomServiceDto.getMemberId()).isEqualTo("test");
+        assertThat(chatRoomServiceDto.getNotReadMessage()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("채팅방 전체 리스트 조회 서비스 - redis 의 안읽은 메시지 수 사용")
+    void ChatRoomVerifyAllServiceWithUnreadCounter() {
+
+        ChatRoom secondChatRoom = chatRoom.toBuilder()
+            .id(2L)
+            .build();
+        chatRoom = chatRoom.toBuilder()
+            .id(1L)
+            .build();
+        when(chatRoomRepository.findAll(pageable)).thenReturn(
+            new PageImpl<>(List.of(chatRoom, secondChatRoom), pageable, 2));
+        when(chatUnreadCounter.getCounts("test", List.of(1L, 2L))).thenReturn(Map.of(1L, 5L));
+        when(chatMessageRepository.countNotReadMessage(secondChatRoom, "test")).thenReturn(2L);
+        when(chatUnreadCounter.getVersions("test", List.of(2L))).thenReturn(Map.of(2L, 0L));
+
+        Page<ChatRoomServiceDto> allChatRoom = chatRoomService.verifyAllChatRoom("test",
+            pageable);
+
+        assertThat(allChatRoom.getContent()).extracting(ChatRoomServiceDto::getNotReadMessage)
+            .containsExactly(5L, 2L);
+        verify(chatMessageRepository, never()).countNotReadMessage(eq(chatRoom), any());
+        verify(chatUnreadCounter, times(1)).initCounts("test", Map.of(2L, 2L), Map.of(2L, 0L));
     }
 
     @Test
@@ -298,4 +391,31 @@ class ChatRoomServiceTest {
 
         assertThat(allChatRoom.getTotalElements()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("채팅방 전체 리스트 커서 페이징 조회 서비스")
+    void ChatRoomVerifyAllByCursorService() {
+
+        String cursor = CursorPage.encodeCursor(5L, null);
+        when(chatRoomRepository.findAllByIdGreaterThanOrderByIdAsc(eq(5L), eq(Limit.of(11))))
+            .thenReturn(List.of(chatRoom));
+        when(chatMessageRepository.findAllByChatRoom(any())).thenReturn(chatMessageList);
+        when(chatRoomRepository.save(any())).thenReturn(chatRoom);
+
+        CursorPage<ChatRoomServiceDto> result = chatRoomService.verifyAllChatRoomByCursor("test",
+            cursor, 10);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("채팅방 전체 리스트 커서 페이징 조회 서비스 실패 - 잘못된 커서")
+    void ChatRoomVerifyAllByCursorServiceFail() {
+
+        assertThatThrownBy(
+            () -> chatRoomService.verifyAllChatRoomByCursor("test", "잘못된커서", 10))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.jh.movieticket.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ChatUnreadCounterTest {
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    ChatUnreadCounter chatUnreadCounter;
+    HashOperations<String, Object, Object> hashOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        chatUnreadCounter = new ChatUnreadCounter(stringRedisTemplate);
+        hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 조회 - HMGET 한 번으로 조회하고 세지 않는 채팅방은 제외")
+    void getCounts() {
+
+        when(hashOperations.multiGet("chatUnread:test", List.of("1", "2", "3")))
+            .thenReturn(Arrays.asList("5", null, "0"));
+
+        Map<Long, Long> countMap = chatUnreadCounter.getCounts("test", List.of(1L, 2L, 3L));
+
+        assertThat(countMap).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 3L, 0L));
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 조회 - redis 장애 시 빈 결과")
+    void getCountsRedisFail() {
+
+        when(hashOperations.multiGet(anyString(), anyList()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        Map<Long, Long> countMap = chatUnreadCounter.getCounts("test", List.of(1L));
+
+        assertThat(countMap).isEmpty();
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 조회 - 채팅방이 없다면 redis 를 조회하지 않음")
+    void getCountsEmpty() {
+
+        assertThat(chatUnreadCounter.getCounts("test", List.of())).isEmpty();
+        verify(hashOperations, never()).multiGet(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 증가 - 세고 있는 채팅방만 증가하는 스크립트 실행")
+    @SuppressWarnings("unchecked")
+    void increment() {
+
+        chatUnreadCounter.increment("admin", 1L);
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("chatUnread:admin")),
+            eq("1"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 초기화")
+    void reset() {
+
+        chatUnreadCounter.reset("test", 1L);
+
+        verify(hashOperations).put("chatUnread:test", "1", "0");
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 버전 조회 - 버전이 없다면 0")
+    void getVersions() {
+
+        when(hashOperations.multiGet("chatUnread:test", List.of("1:version", "2:version")))
+            .thenReturn(Arrays.asList("3", null));
+
+        Map<Long, Long> versionMap = chatUnreadCounter.getVersions("test", List.of(1L, 2L));
+
+        assertThat(versionMap).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, 0L));
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 저장 - 버전을 조회한 채팅방만 버전과 함께 스크립트 한 번으로 저장")
+    @SuppressWarnings("unchecked")
+    void initCounts() {
+
+        chatUnreadCounter.initCounts("test", Map.of(1L, 3L, 2L, 0L), Map.of(1L, 4L));
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("chatUnread:test")),
+            eq("1"), eq("3"), eq("4"));
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 저장 - 버전을 모르는 채팅방뿐이라면 저장하지 않음")
+    @SuppressWarnings("unchecked")
+    void initCountsWithoutVersion() {
+
+        chatUnreadCounter.initCounts("test", Map.of(1L, 3L), Map.of());
+
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(),
+            any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("안읽은 메시지 수 제거 - 버전도 함께 제거")
+    void remove() {
+
+        chatUnreadCounter.remove(1L, "test", "admin");
+
+        verify(hashOperations).delete("chatUnread:test", "1", "1:version");
+        verify(hashOperations).delete("chatUnread:admin", "1", "1:version");
+    }
+}
@@ -0,0 +1,95 @@
+package com.jh.movieticket.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import com.jh.movieticket.movie.service.MovieService;
+import com.jh.movieticket.theater.dto.TheaterServiceDto;
+import com.jh.movieticket.theater.service.TheaterService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class CacheWarmUpRunnerTest {
+
+    @MockBean
+    MovieRepository movieRepository;
+
+    @MockBean
+    MovieService movieService;
+
+    @MockBean
+    TheaterService theaterService;
+
+    @MockBean
+    CacheManager redisCacheManager;
+
+    CacheWarmUpRunner cacheWarmUpRunner;
+    TwoLevelCache movieCache;
+    Cache theaterCache;
+
+    @BeforeEach
+    void before() {
+
+        cacheWarmUpRunner = new CacheWarmUpRunner(movieRepository, movieService, theaterService,
+            redisCacheManager, 2, 2, 10);
+        movieCache = mock(TwoLevelCache.class);
+        theaterCache = mock(Cache.class);
+        when(redisCacheManager.getCache(CacheName.MOVIE_CACHE_NAME)).thenReturn(movieCache);
+        when(redisCacheManager.getCache(CacheName.THEATER_CACHE_NAME)).thenReturn(theaterCache);
+    }
+
+    @Test
+    @DisplayName("상영 중, 상영 예정 영화를 배치로 나누어 예열하고 전체 상영관 예열")
+    void run() {
+
+        MovieServiceDto movieServiceDto = MovieServiceDto.builder()
+            .title("title1")
+            .build();
+        TheaterServiceDto theaterServiceDto = TheaterServiceDto.builder()
+            .name("theater1")
+            .build();
+
+        when(movieRepository.findTitlesByScreenTypeIn(
+            List.of(ScreenType.NOW, ScreenType.EXPECTED))).thenReturn(
+            List.of("title1", "title2", "title3"));
+        when(movieService.verifyMovies(anyList())).thenReturn(List.of(movieServiceDto));
+        when(theaterService.verifyAll()).thenReturn(List.of(theaterServiceDto));
+
+        cacheWarmUpRunner.run(new DefaultApplicationArguments());
+
+        verify(movieService).verifyMovies(List.of("title1", "title2"));
+        verify(movieService).verifyMovies(List.of("title3"));
+        verify(movieCache, times(2)).putLocal("title1", movieServiceDto);
+        verify(theaterCache).putIfAbsent("theater1", theaterServiceDto);
+    }
+
+    @Test
+    @DisplayName("예열 중 예외가 발생해도 서버 시작은 계속")
+    void runFail() {
+
+        when(movieRepository.findTitlesByScreenTypeIn(any())).thenReturn(List.of("title1"));
+        when(movieService.verifyMovies(anyList())).thenThrow(new IllegalStateException("db down"));
+        when(theaterService.verifyAll()).thenReturn(List.of());
+
+        cacheWarmUpRunner.run(new DefaultApplicationArguments());
+
+        verify(movieCache, never()).putLocal(any(), any());
+    }
+}
@@ -0,0 +1,77 @@
+package com.jh.movieticket.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactRedisSerializerTest {
+
+    CompactRedisSerializer<MovieServiceDto> serializer;
+    MovieServiceDto movieServiceDto;
+
+    @BeforeEach
+    void before() {
+
+        serializer = new CompactRedisSerializer<>(MovieServiceDto.class, 1024);
+        movieServiceDto = MovieServiceDto.builder()
+            .id(1L)
+            .title("title")
+            .director("director")
+            .description("description")
+            .screenType(ScreenType.NOW)
+            .releaseDate(LocalDate.of(2024, 6, 1))
+            .genreList(new ArrayList<>(List.of("genre1", "genre2")))
+            .actorList(new ArrayList<>(List.of("actor1")))
+            .gradeAvg(4.5)
+            .build();
+    }
+
+    @Test
+    @DisplayName("기준 크기 미만은 압축하지 않고 직렬화 후 복원")
+    void serializePlain() {
+
+        byte[] bytes = serializer.serialize(movieServiceDto);
+        MovieServiceDto result = serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0);
+        assertThat(result.getTitle()).isEqualTo("title");
+        assertThat(result.getReleaseDate()).isEqualTo(LocalDate.of(2024, 6, 1));
+        assertThat(result.getGenreList()).containsExactly("genre1", "genre2");
+        assertThat(result.getGradeAvg()).isEqualTo(4.5);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상은 lz4 로 압축하며 json 보다 작게 저장")
+    void serializeCompressed() {
+
+        MovieServiceDto longMovie = movieServiceDto.toBuilder()
+            .description("아주 긴 영화 설명입니다. ".repeat(300))
+            .build();
+
+        byte[] bytes = serializer.serialize(longMovie);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(longMovie);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(json.length / 2);
+        assertThat(serializer.deserialize(bytes).getDescription())
+            .isEqualTo(longMovie.getDescription());
+    }
+
+    @Test
+    @DisplayName("이전 json 형식으로 저장된 값은 캐시에 없는 것으로 처리")
+    void deserializeLegacyJson() {
+
+        byte[] json = "{\"title\":\"title\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(serializer.deserialize(json)).isNull();
+    }
+}
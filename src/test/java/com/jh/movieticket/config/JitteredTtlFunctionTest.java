@@ -0,0 +1,37 @@
+package com.jh.movieticket.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JitteredTtlFunctionTest {
+
+    @Test
+    @DisplayName("캐시 수명은 기준 ± 편차 범위 안에서 흩어진다")
+    void next() {
+
+        JitteredTtlFunction ttlFunction = new JitteredTtlFunction(Duration.ofMinutes(30), 0.1);
+
+        Set<Duration> ttlSet = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            Duration ttl = ttlFunction.getTimeToLive("key", "value");
+            assertThat(ttl).isBetween(Duration.ofMinutes(27), Duration.ofMinutes(33));
+            ttlSet.add(ttl);
+        }
+
+        assertThat(ttlSet.size()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("편차 비율이 0이면 기준 수명 그대로")
+    void nextWithoutJitter() {
+
+        JitteredTtlFunction ttlFunction = new JitteredTtlFunction(Duration.ofMinutes(30), 0);
+
+        assertThat(ttlFunction.next()).isEqualTo(Duration.ofMinutes(30));
+    }
+}
@@ -0,0 +1,105 @@
+package com.jh.movieticket.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class MessageBroadcasterTest {
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<RedisMessageBroadcaster> subscriberList; // redis pub/sub 대신 메시지를 전달할 서버들
+    SimpMessageSendingOperations nodeA;
+    SimpMessageSendingOperations nodeB;
+    RedisMessageBroadcaster broadcasterA;
+    RedisMessageBroadcaster broadcasterB;
+
+    @BeforeEach
+    void before() {
+
+        // 발행된 메시지를 같은 채널을 구독하는 모든 서버에 전달하는 in-process pub/sub
+        subscriberList = new ArrayList<>();
+        doAnswer(invocation -> {
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            DefaultMessage message = new DefaultMessage(
+                invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8), body);
+            subscriberList.forEach(subscriber -> subscriber.onMessage(message, null));
+            return 2L;
+        }).when(stringRedisTemplate).convertAndSend(eq(RedisMessageBroadcaster.BROADCAST_CHANNEL),
+            anyString());
+
+        nodeA = mock(SimpMessageSendingOperations.class);
+        nodeB = mock(SimpMessageSendingOperations.class);
+        broadcasterA = new RedisMessageBroadcaster(nodeA, stringRedisTemplate, objectMapper);
+        broadcasterB = new RedisMessageBroadcaster(nodeB, stringRedisTemplate, objectMapper);
+        subscriberList.add(broadcasterA);
+        subscriberList.add(broadcasterB);
+    }
+
+    @Test
+    @DisplayName("redis 모드 - 모든 서버의 구독자에게 같은 json 을 한 번씩 발송")
+    void redisBroadcast() {
+
+        broadcasterA.broadcast("/sub/chat/room1", Map.of("sender", "test", "message", "hello"));
+
+        ArgumentCaptor<Object> captorA = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> captorB = ArgumentCaptor.forClass(Object.class);
+        verify(nodeA, times(1)).convertAndSend(eq("/sub/chat/room1"), captorA.capture());
+        verify(nodeB, times(1)).convertAndSend(eq("/sub/chat/room1"), captorB.capture());
+        assertThat(captorB.getValue()).isEqualTo(captorA.getValue());
+        assertThat(((JsonNode) captorB.getValue()).path("message").asText()).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("redis 모드 - 다른 서버에 알리지 못해도 이 서버의 구독자에게는 발송")
+    void redisBroadcastPublishFail() {
+
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        broadcasterA.broadcast("/sub/chat/room1", Map.of("message", "hello"));
+
+        verify(nodeA, times(1)).convertAndSend(eq("/sub/chat/room1"), any(Object.class));
+        verify(nodeB, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("simple 모드 - 이 서버의 구독자에게만 발송")
+    void simpleBroadcast() {
+
+        SimpleMessageBroadcaster simpleMessageBroadcaster = new SimpleMessageBroadcaster(nodeA);
+
+        simpleMessageBroadcaster.broadcast("/sub/chat/room1", "hello");
+
+        verify(nodeA, times(1)).convertAndSend("/sub/chat/room1", "hello");
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
@@ -0,0 +1,184 @@
+package com.jh.movieticket.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @MockBean
+    RedisCacheManager redisCacheManager;
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    TwoLevelCacheManager twoLevelCacheManager;
+    ConcurrentMapCache redisMovieCache;
+
+    @BeforeEach
+    void before() {
+
+        redisMovieCache = new ConcurrentMapCache(CacheName.MOVIE_CACHE_NAME);
+        when(redisCacheManager.getCache(CacheName.MOVIE_CACHE_NAME)).thenReturn(redisMovieCache);
+        when(redisCacheManager.getCache(CacheName.CHAT_MESSAGE_CACHE_NAME)).thenReturn(
+            new ConcurrentMapCache(CacheName.CHAT_MESSAGE_CACHE_NAME));
+
+        twoLevelCacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+            Set.of(CacheName.MOVIE_CACHE_NAME), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 대상이 아닌 캐시는 redis 캐시 그대로 제공")
+    void getCacheNotLocal() {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.CHAT_MESSAGE_CACHE_NAME);
+
+        assertThat(cache).isInstanceOf(ConcurrentMapCache.class);
+    }
+
+    @Test
+    @DisplayName("redis 에서 조회한 값은 로컬 캐시에 채워 다음 조회는 로컬 캐시에서 응답")
+    void getFillsLocalCache() {
+
+        redisMovieCache.put("title", "movie");
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+
+        assertThat(cache.get("title", String.class)).isEqualTo("movie");
+
+        redisMovieCache.clear();
+        assertThat(cache.get("title", String.class)).isEqualTo("movie");
+    }
+
+    @Test
+    @DisplayName("캐시 변경 시 다른 서버에 무효화 메시지 발행")
+    void putPublishesInvalidation() {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+
+        cache.put("title", "movie");
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+            captor.capture());
+        assertThat(captor.getValue()).endsWith("|movie|title");
+        assertThat(redisMovieCache.get("title", String.class)).isEqualTo("movie");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지는 로컬 캐시만 제거하고 자신이 보낸 메시지는 무시")
+    void onMessage() {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+        cache.put("title", "movie");
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(anyString(), captor.capture());
+        redisMovieCache.put("title", "changed");
+
+        twoLevelCacheManager.onMessage(toMessage(captor.getValue()), null);
+        assertThat(cache.get("title", String.class)).isEqualTo("movie");
+
+        twoLevelCacheManager.onMessage(toMessage("otherNode|movie|title"), null);
+        assertThat(cache.get("title", String.class)).isEqualTo("changed");
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 요청하면 한 번만 불러오고 redis 캐시에 저장")
+    void getSingleFlight() throws Exception {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+        AtomicInteger loadCnt = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> valueLoader = () -> {
+            loadCnt.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "movie";
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futureList = new ArrayList<>();
+            futureList.add(executorService.submit(() -> cache.get("title", valueLoader)));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                futureList.add(executorService.submit(() -> cache.get("title", valueLoader)));
+            }
+            release.countDown();
+
+            for (Future<String> future : futureList) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("movie");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(loadCnt.get()).isEqualTo(1);
+        assertThat(redisMovieCache.get("title", String.class)).isEqualTo("movie");
+    }
+
+    @Test
+    @DisplayName("불러오기 실패 시 예외를 그대로 전달하고 캐시에 저장하지 않음")
+    void getLoaderFail() {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+
+        assertThatThrownBy(() -> cache.get("title", () -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(redisMovieCache.get("title")).isNull();
+        assertThat(cache.get("title", () -> "movie")).isEqualTo("movie");
+    }
+
+    @Test
+    @DisplayName("불러오는 동안 다른 요청이 redis 캐시에 저장한 값은 덮어쓰지 않음")
+    void getLoaderNotOverwriteConcurrentPut() {
+
+        Cache cache = twoLevelCacheManager.getCache(CacheName.MOVIE_CACHE_NAME);
+
+        String result = cache.get("title", () -> {
+            redisMovieCache.put("title", "changed"); // 불러오는 도중 다른 요청의 @CachePut
+            return "stale";
+        });
+
+        assertThat(result).isEqualTo("changed");
+        assertThat(redisMovieCache.get("title", String.class)).isEqualTo("changed");
+        assertThat(cache.get("title", String.class)).isEqualTo("changed");
+    }
+
+    private DefaultMessage toMessage(String body) {
+
+        return new DefaultMessage(
+            TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,6 +13,7 @@ import com.jh.movieticket.chat.repository.ChatMessageRepository;
 import com.jh.movieticket.chat.repository.ChatRoomRepository;
 import com.jh.movieticket.grade.repository.GradeRepository;
 import com.jh.movieticket.mail.service.MailService;
+import com.jh.movieticket.config.CursorPage;
 import com.jh.movieticket.member.domain.Member;
 import com.jh.movieticket.member.domain.Role;
 import com.jh.movieticket.member.dto.MemberModifyDto;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -395,4 +397,27 @@ class MemberServiceTest {
         assertThat(memberServiceDtos.getNumberOfElements()).isEqualTo(1);
         assertThat(memberServiceDtos.getContent().get(0).getUserId()).isEqualTo("test");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원 전체 리스트 커서 페이징 조회")
+    void memberListByCursor() {
+
+        Member member1 = Member.builder()
+            .userId("test1")
+            .id(1L)
+            .build();
+        Member member2 = Member.builder()
+            .userId("test2")
+            .id(2L)
+            .build();
+
+        when(memberRepository.findAllByDeleteDateIsNullAndIdGreaterThanOrderByIdAsc(eq(0L),
+            eq(Limit.of(2)))).thenReturn(List.of(member1, member2));
+
+        CursorPage<MemberServiceDto> result = memberService.allMembersByCursor(null, 1);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(CursorPage.decodeCursorId(result.getNextCursor())).isEqualTo(1L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jh.movieticket.movie.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -19,6 +20,7 @@ import com.jh.movieticket.movie.dto.MovieCreateDto.Request;
 import com.jh.movieticket.movie.dto.MovieModifyDto;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
 import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.service.MovieRankingService;
 import com.jh.movieticket.movie.service.MovieService;
 import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
@@ -62,6 +64,9 @@ class MovieControllerTest {
     @MockBean
     MovieService movieService;
 
+    @MockBean
+    MovieRankingService movieRankingService;
+
     @MockBean
     TokenProvider tokenProvider;
 
@@ -551,4 +556,19 @@ class MovieControllerTest {
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$.status").value(404));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("영화 순위 조회 컨트롤러")
+    void movieRankingController() throws Exception {
+
+        when(movieRankingService.getRanking(any(), any(), any(), anyInt())).thenReturn(
+            List.of(movieServiceDto));
+
+        mockMvc.perform(get("/movies/rankings")
+                .param("rankingType", "RESERVATION")
+                .param("screenType", "NOW"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(200))
+            .andExpect(jsonPath("$.data[0].title").value("title"));
+    }
+}
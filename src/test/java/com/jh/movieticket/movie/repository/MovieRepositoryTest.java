@@ -122,4 +122,73 @@ class MovieRepositoryTest {
 
         assertThat(bySearchOption.getTotalElements()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동적 검색 - 제목 대소문자 무시")
+    void searchIgnoreCase() {
+
+        MovieSearchDto.Request upperCaseRequest = searchRequest.toBuilder()
+            .title("TITLE")
+            .build();
+
+        Page<Movie> bySearchOption = movieRepository.findBySearchOption(upperCaseRequest,
+            pageable);
+
+        assertThat(bySearchOption.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동적 검색 - 장르 조건, 정렬 기준 없음")
+    void searchByGenre() {
+
+        MovieSearchDto.Request genreRequest = MovieSearchDto.Request.builder()
+            .title("title")
+            .genre("느와르")
+            .build();
+
+        Page<Movie> bySearchOption = movieRepository.findBySearchOption(genreRequest, pageable);
+
+        assertThat(bySearchOption.getTotalElements()).isEqualTo(1);
+        assertThat(bySearchOption.getContent().get(0).getTitle()).isEqualTo("title1");
+        assertThat(bySearchOption.getContent().get(0).toServiceDto().getGenreList())
+            .containsExactly("느와르");
+    }
+
+    @Test
+    @DisplayName("동적 검색 - 페이지 크기보다 많은 결과의 전체 개수")
+    void searchTotalCount() {
+
+        MovieSearchDto.Request allRequest = MovieSearchDto.Request.builder()
+            .title("title")
+            .orderBy("grade")
+            .build();
+
+        Page<Movie> bySearchOption = movieRepository.findBySearchOption(allRequest,
+            PageRequest.of(0, 1));
+
+        assertThat(bySearchOption.getContent()).hasSize(1);
+        assertThat(bySearchOption.getContent().get(0).getTitle()).isEqualTo("title2");
+        assertThat(bySearchOption.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 마지막 영화 이후부터 조회")
+    void searchAfterCursor() {
+
+        MovieSearchDto.Request gradeRequest = MovieSearchDto.Request.builder()
+            .title("title")
+            .orderBy("grade")
+            .build();
+
+        List<Long> firstPage = movieRepository.findIdsBySearchOptionAfter(gradeRequest, null,
+            null, 1);
+        Movie first = movieRepository.findById(firstPage.get(0)).orElseThrow();
+        List<Long> secondPage = movieRepository.findIdsBySearchOptionAfter(gradeRequest,
+            first.getId(), String.valueOf(first.getGradeAvg()), 2);
+
+        assertThat(first.getTitle()).isEqualTo("title2");
+        assertThat(secondPage).hasSize(1);
+        assertThat(movieRepository.findById(secondPage.get(0)).orElseThrow().getTitle())
+            .isEqualTo("title1");
+    }
+}
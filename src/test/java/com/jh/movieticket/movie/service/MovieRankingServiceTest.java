@@ -0,0 +1,195 @@
+package com.jh.movieticket.movie.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.RankingType;
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class MovieRankingServiceTest {
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    MovieRepository movieRepository;
+
+    MovieRankingService movieRankingService;
+    ZSetOperations<String, String> zSetOperations;
+    SetOperations<String, String> setOperations;
+    MovieServiceDto movieServiceDto;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        movieRankingService = new MovieRankingService(stringRedisTemplate, movieRepository);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        setOperations = mock(SetOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+
+        movieServiceDto = MovieServiceDto.builder()
+            .id(1L)
+            .title("title")
+            .screenType(ScreenType.NOW)
+            .genreList(List.of("액션"))
+            .gradeAvg(4.5)
+            .reservationRate(12.3)
+            .totalAudienceCnt(1000)
+            .build();
+    }
+
+    @Test
+    @DisplayName("순위 점수 갱신 - 기준별 전체, 상영 타입, 장르 순위")
+    void update() {
+
+        movieRankingService.update(null, movieServiceDto);
+
+        verify(zSetOperations).add("movieRanking:grade:all", "1", 4.5);
+        verify(zSetOperations).add("movieRanking:reservation:screen:NOW", "1", 12.3);
+        verify(zSetOperations).add("movieRanking:audience:genre:액션", "1", 1000);
+        verify(zSetOperations, never()).remove(any(), any());
+        verify(setOperations).add(eq("movieRanking:keys"), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("순위 점수 갱신 - 바뀐 상영 타입 순위에서 제거")
+    void updateScreenType() {
+
+        MovieServiceDto after = movieServiceDto.toBuilder()
+            .screenType(ScreenType.PREVIOUS)
+            .build();
+
+        movieRankingService.update(movieServiceDto, after);
+
+        verify(zSetOperations).remove("movieRanking:grade:screen:NOW", "1");
+        verify(zSetOperations, never()).remove("movieRanking:grade:all", "1");
+        verify(zSetOperations).add("movieRanking:grade:screen:PREVIOUS", "1", 4.5);
+    }
+
+    @Test
+    @DisplayName("순위 조회 - 삭제된 영화는 순위에서 제거")
+    void getRanking() {
+
+        Movie movie = Movie.builder()
+            .id(2L)
+            .title("title2")
+            .releaseDate(LocalDate.now())
+            .build();
+        when(zSetOperations.reverseRange("movieRanking:reservation:genre:액션", 0, 9)).thenReturn(
+            new LinkedHashSet<>(List.of("2", "1")));
+        when(movieRepository.findAllWithGenreAndActor(anyList())).thenReturn(List.of(movie));
+
+        List<MovieServiceDto> result = movieRankingService.getRanking(RankingType.RESERVATION,
+            ScreenType.NOW, "액션", 10);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(2L);
+        verify(zSetOperations).remove(eq("movieRanking:reservation:genre:액션"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("순위 생성 - 새 순위로 교체하고 영화가 없어진 순위는 제거")
+    @SuppressWarnings("unchecked")
+    void build() {
+
+        Movie movie = Movie.builder()
+            .id(1L)
+            .title("title")
+            .screenType(ScreenType.NOW)
+            .build();
+        when(movieRepository.findAll(any(Pageable.class))).thenReturn(
+            new PageImpl<>(List.of(movie)));
+        when(setOperations.members("movieRanking:keys")).thenReturn(
+            Set.of("movieRanking:grade:all", "movieRanking:grade:genre:로맨스"));
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(
+            invocation -> {
+                invocation.getArgument(0, RedisCallback.class).doInRedis(connection);
+                return List.of();
+            });
+
+        movieRankingService.build();
+
+        verify(connection).zAdd("movieRanking:grade:all:building", 0, "1");
+        verify(connection).rename("movieRanking:grade:all:building", "movieRanking:grade:all");
+        verify(connection).rename("movieRanking:grade:screen:NOW:building",
+            "movieRanking:grade:screen:NOW");
+        verify(connection).del("movieRanking:grade:genre:로맨스");
+        verify(connection, never()).del("movieRanking:grade:all");
+        verify(connection).set(eq("movieRanking:built"), anyString());
+    }
+
+    @Test
+    @DisplayName("순위 조회 - 순위가 유실되었고 다시 생성하지 못했다면 db 에서 조회")
+    void getRankingLost() {
+
+        Movie movie = Movie.builder()
+            .id(2L)
+            .title("title2")
+            .build();
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(Set.of());
+        when(stringRedisTemplate.hasKey("movieRanking:built")).thenReturn(false);
+        when(movieRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        when(movieRepository.findBySearchOption(any(), any())).thenReturn(
+            new PageImpl<>(List.of(movie)));
+
+        List<MovieServiceDto> result = movieRankingService.getRanking(RankingType.GRADE,
+            ScreenType.NOW, "액션", 10);
+
+        ArgumentCaptor<MovieSearchDto.Request> captor = ArgumentCaptor.forClass(
+            MovieSearchDto.Request.class);
+        verify(movieRepository).findBySearchOption(captor.capture(), eq(PageRequest.of(0, 10)));
+        assertThat(captor.getValue().getOrderBy()).isEqualTo("grade");
+        assertThat(captor.getValue().getGenre()).isEqualTo("액션");
+        assertThat(captor.getValue().getScreenType()).isNull();
+        assertThat(result).extracting(MovieServiceDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("순위 조회 - redis 장애 시 db 에서 조회")
+    void getRankingRedisFail() {
+
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+        when(movieRepository.findBySearchOption(any(), any())).thenReturn(
+            new PageImpl<>(List.of()));
+
+        assertThat(movieRankingService.getRanking(RankingType.AUDIENCE, null, null, 5)).isEmpty();
+        verify(movieRepository).findBySearchOption(any(), eq(PageRequest.of(0, 5)));
+    }
+}
@@ -0,0 +1,125 @@
+package com.jh.movieticket.movie.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.MovieSchedule;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateDto;
+import com.jh.movieticket.movie.dto.MovieScheduleCreateServiceDto;
+import com.jh.movieticket.movie.exception.MovieException;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import com.jh.movieticket.movie.repository.MovieScheduleRepository;
+import com.jh.movieticket.movie.repository.MovieScheduleSeatJdbcRepository;
+import com.jh.movieticket.theater.domain.Theater;
+import com.jh.movieticket.theater.exception.TheaterException;
+import com.jh.movieticket.theater.repository.TheaterRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class MovieScheduleServiceTest {
+
+    @MockBean
+    MovieScheduleRepository movieScheduleRepository;
+
+    @MockBean
+    MovieScheduleSeatJdbcRepository movieScheduleSeatJdbcRepository;
+
+    @MockBean
+    MovieRepository movieRepository;
+
+    @MockBean
+    TheaterRepository theaterRepository;
+
+    MovieScheduleService movieScheduleService;
+    LocalDateTime startTime;
+
+    @BeforeEach
+    void before() {
+
+        movieScheduleService = new MovieScheduleService(movieScheduleRepository,
+            movieScheduleSeatJdbcRepository, movieRepository, theaterRepository);
+
+        startTime = LocalDateTime.of(2024, 7, 1, 10, 0);
+    }
+
+    @Test
+    @DisplayName("영화 스케줄 일괄 생성 서비스")
+    @SuppressWarnings("unchecked")
+    void createWeeklySchedulesService() {
+
+        List<MovieScheduleCreateDto.Schedule> scheduleList = IntStream.range(0, 7)
+            .mapToObj(day -> createSchedule(startTime.plusDays(day)))
+            .toList();
+        AtomicLong id = new AtomicLong();
+
+        when(movieRepository.findAllById(anyList())).thenReturn(
+            List.of(Movie.builder().id(1L).build()));
+        when(theaterRepository.findAllById(anyList())).thenReturn(
+            List.of(Theater.builder().id(1L).build()));
+        when(movieScheduleRepository.saveAll(anyList())).thenAnswer(
+            invocation -> ((List<MovieSchedule>) invocation.getArgument(0)).stream()
+                .map(schedule -> schedule.toBuilder().id(id.incrementAndGet()).build())
+                .toList());
+        when(movieScheduleSeatJdbcRepository.insertAllBySchedules(anyList())).thenReturn(2100);
+
+        MovieScheduleCreateServiceDto result = movieScheduleService.createWeeklySchedules(
+            scheduleList);
+
+        assertThat(result.getScheduleCnt()).isEqualTo(7);
+        assertThat(result.getSeatCnt()).isEqualTo(2100);
+        assertThat(result.getRowsPerSecond()).isPositive();
+        verify(movieScheduleSeatJdbcRepository).insertAllBySchedules(
+            List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+    }
+
+    @Test
+    @DisplayName("영화 스케줄 일괄 생성 서비스 실패 - 일주일을 넘는 기간")
+    void createWeeklySchedulesServicePeriodFail() {
+
+        List<MovieScheduleCreateDto.Schedule> scheduleList = List.of(createSchedule(startTime),
+            createSchedule(startTime.plusDays(7)));
+
+        assertThatThrownBy(() -> movieScheduleService.createWeeklySchedules(scheduleList))
+            .isInstanceOf(MovieException.class);
+        verify(movieScheduleRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("영화 스케줄 일괄 생성 서비스 실패 - 없는 상영관")
+    void createWeeklySchedulesServiceTheaterFail() {
+
+        when(movieRepository.findAllById(anyList())).thenReturn(
+            List.of(Movie.builder().id(1L).build()));
+        when(theaterRepository.findAllById(anyList())).thenReturn(List.of());
+
+        assertThatThrownBy(
+            () -> movieScheduleService.createWeeklySchedules(List.of(createSchedule(startTime))))
+            .isInstanceOf(TheaterException.class);
+    }
+
+    private MovieScheduleCreateDto.Schedule createSchedule(LocalDateTime start) {
+
+        return MovieScheduleCreateDto.Schedule.builder()
+            .movieId(1L)
+            .theaterId(1L)
+            .endDate(LocalDate.of(2024, 8, 1))
+            .startTime(start)
+            .endTime(start.plusHours(2))
+            .build();
+    }
+}
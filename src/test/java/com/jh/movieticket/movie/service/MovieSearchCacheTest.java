@@ -0,0 +1,91 @@
+package com.jh.movieticket.movie.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieSearchResultDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class MovieSearchCacheTest {
+
+    @MockBean
+    RedisTemplate<String, Object> redisTemplate;
+
+    MovieSearchCache movieSearchCache;
+    ValueOperations<String, Object> valueOperations;
+    SetOperations<String, Object> setOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        movieSearchCache = new MovieSearchCache(redisTemplate, 10);
+        valueOperations = mock(ValueOperations.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("검색 결과 저장 - 색인 세대와 정규화된 키, 상영 타입, 장르 태그")
+    void put() {
+
+        MovieSearchDto.Request searchRequest = MovieSearchDto.Request.builder()
+            .title(" Inside Out ")
+            .screenType(ScreenType.NOW)
+            .build();
+        MovieSearchResultDto result = MovieSearchResultDto.builder()
+            .content(new ArrayList<>())
+            .build();
+
+        movieSearchCache.put(3L, searchRequest, PageRequest.of(0, 10), result);
+
+        String key = "movieSearch::v=3|q=insideout|s=NOW|g=*|o=title|p=0|n=10";
+        verify(valueOperations).set(key, result, Duration.ofMinutes(10));
+        verify(setOperations).add("movieSearchTag::s=NOW|g=*", key);
+    }
+
+    @Test
+    @DisplayName("검색 결과 삭제 - 변경된 영화가 포함될 수 있는 조합만 삭제")
+    @SuppressWarnings("unchecked")
+    void evict() {
+
+        when(setOperations.members(anyString())).thenReturn(Set.of("movieSearch::key"));
+        MovieServiceDto movieServiceDto = MovieServiceDto.builder()
+            .screenType(ScreenType.NOW)
+            .genreList(List.of("액션"))
+            .build();
+
+        movieSearchCache.evict(movieServiceDto);
+
+        ArgumentCaptor<String> tagCaptor = ArgumentCaptor.forClass(String.class);
+        verify(setOperations, times(4)).members(tagCaptor.capture());
+        verify(redisTemplate, times(4)).delete(anyCollection());
+        assertThat(tagCaptor.getAllValues()).containsExactlyInAnyOrder(
+            "movieSearchTag::s=*|g=*", "movieSearchTag::s=*|g=액션",
+            "movieSearchTag::s=NOW|g=*", "movieSearchTag::s=NOW|g=액션");
+    }
+}
@@ -0,0 +1,235 @@
+package com.jh.movieticket.movie.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.Movie;
+import com.jh.movieticket.movie.domain.ScreenType;
+import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieServiceDto;
+import com.jh.movieticket.movie.repository.MovieRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class MovieSearchIndexTest {
+
+    @MockBean
+    MovieRepository movieRepository;
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    MovieSearchIndex movieSearchIndex;
+    ValueOperations<String, String> valueOperations;
+    AtomicLong generation = new AtomicLong();
+    Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenAnswer(
+            invocation -> generation.incrementAndGet());
+        movieSearchIndex = new MovieSearchIndex(movieRepository, stringRedisTemplate);
+        when(movieRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        movieSearchIndex.build();
+
+        movieSearchIndex.put(MovieServiceDto.builder()
+            .id(1L)
+            .title("범죄도시")
+            .director("강윤성")
+            .actorList(List.of("마동석", "윤계상"))
+            .genreList(List.of("액션", "범죄"))
+            .screenType(ScreenType.NOW)
+            .reservationRate(10)
+            .build());
+        movieSearchIndex.put(MovieServiceDto.builder()
+            .id(2L)
+            .title("Inside Out 2")
+            .director("Kelsey Mann")
+            .actorList(List.of("Amy Poehler"))
+            .genreList(List.of("애니메이션"))
+            .screenType(ScreenType.NOW)
+            .reservationRate(20)
+            .build());
+        movieSearchIndex.put(MovieServiceDto.builder()
+            .id(3L)
+            .title("범죄와의 전쟁")
+            .director("윤종빈")
+            .actorList(List.of("최민식", "하정우"))
+            .genreList(List.of("범죄"))
+            .screenType(ScreenType.EXPECTED)
+            .reservationRate(30)
+            .build());
+    }
+
+    @Test
+    @DisplayName("검색 - 제목 n-gram")
+    void searchByTitle() {
+
+        Page<Long> result = movieSearchIndex.search(request("범죄", null, null, "reservation"),
+            pageable);
+
+        assertThat(result.getContent()).containsExactly(3L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색 - 배우, 감독 이름과 대소문자, 공백 무시")
+    void searchByPerson() {
+
+        assertThat(movieSearchIndex.search(request("마동석", null, null, null), pageable)
+            .getContent()).containsExactly(1L);
+        assertThat(movieSearchIndex.search(request("insideout", null, null, null), pageable)
+            .getContent()).containsExactly(2L);
+        assertThat(movieSearchIndex.search(request("KELSEY", null, null, null), pageable)
+            .getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("검색 - 초성")
+    void searchByChosung() {
+
+        Page<Long> result = movieSearchIndex.search(request("ㅁㄷㅅ", null, null, null), pageable);
+
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 - 장르, 상영 타입 필터와 페이징")
+    void searchWithFilter() {
+
+        Page<Long> result = movieSearchIndex.search(
+            request(null, "범죄", ScreenType.NOW, null), pageable);
+        Page<Long> paged = movieSearchIndex.search(request(null, null, null, "reservation"),
+            PageRequest.of(1, 2));
+
+        assertThat(result.getContent()).containsExactly(1L);
+        assertThat(paged.getContent()).containsExactly(1L);
+        assertThat(paged.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("색인 갱신과 제거")
+    void putAndRemove() {
+
+        movieSearchIndex.put(MovieServiceDto.builder()
+            .id(1L)
+            .title("베테랑")
+            .director("류승완")
+            .screenType(ScreenType.NOW)
+            .build());
+        movieSearchIndex.remove(3L);
+
+        assertThat(movieSearchIndex.search(request("범죄", null, null, null), pageable)
+            .getContent()).isEmpty();
+        assertThat(movieSearchIndex.search(request("베테랑", null, null, null), pageable)
+            .getContent()).containsExactly(1L);
+        verify(stringRedisTemplate, times(5)).convertAndSend(
+            eq(MovieSearchIndex.INDEX_CHANGE_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 영화 변경 알림 - db 에서 다시 읽어 반영하고 삭제된 영화는 제거")
+    void onMessage() {
+
+        when(movieRepository.findAllWithGenreAndActor(List.of(1L))).thenReturn(List.of(
+            Movie.builder()
+                .id(1L)
+                .title("베테랑")
+                .director("류승완")
+                .screenType(ScreenType.NOW)
+                .build()));
+        when(movieRepository.findAllWithGenreAndActor(List.of(3L))).thenReturn(List.of());
+
+        movieSearchIndex.onMessage(message("other|1|4"), null);
+        movieSearchIndex.onMessage(message("other|3|5"), null);
+
+        assertThat(movieSearchIndex.search(request("범죄", null, null, null), pageable)
+            .getContent()).isEmpty();
+        assertThat(movieSearchIndex.search(request("베테랑", null, null, null), pageable)
+            .getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("반영된 세대 - 앞 세대가 모두 반영된 만큼만 올리고, 재생성 시 시작 세대까지 반영")
+    void appliedGeneration() {
+
+        when(movieRepository.findAllWithGenreAndActor(anyList())).thenReturn(List.of());
+        assertThat(movieSearchIndex.getAppliedGeneration()).isEqualTo(3);
+
+        movieSearchIndex.onMessage(message("other|1|5"), null);
+        assertThat(movieSearchIndex.getAppliedGeneration()).isEqualTo(3);
+
+        movieSearchIndex.onMessage(message("other|2|4"), null);
+        assertThat(movieSearchIndex.getAppliedGeneration()).isEqualTo(5);
+
+        when(valueOperations.get(anyString())).thenReturn("9");
+        movieSearchIndex.build();
+        assertThat(movieSearchIndex.getGeneration()).isEqualTo(9);
+        assertThat(movieSearchIndex.getAppliedGeneration()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("색인 생성 중 변경된 영화는 새 색인에도 반영")
+    void putDuringBuild() {
+
+        when(movieRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            movieSearchIndex.put(MovieServiceDto.builder()
+                .id(4L)
+                .title("베테랑")
+                .screenType(ScreenType.NOW)
+                .build());
+            return new PageImpl<>(List.of());
+        });
+
+        movieSearchIndex.build();
+
+        assertThat(movieSearchIndex.search(request("베테랑", null, null, null), pageable)
+            .getContent()).containsExactly(4L);
+        assertThat(movieSearchIndex.search(request("범죄", null, null, null), pageable)
+            .getContent()).isEmpty();
+    }
+
+    Message message(String body) {
+
+        return new DefaultMessage(MovieSearchIndex.INDEX_CHANGE_CHANNEL.getBytes(
+            StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    MovieSearchDto.Request request(String title, String genre, ScreenType screenType,
+        String orderBy) {
+
+        return MovieSearchDto.Request.builder()
+            .title(title)
+            .genre(genre)
+            .screenType(screenType)
+            .orderBy(orderBy)
+            .build();
+    }
+}
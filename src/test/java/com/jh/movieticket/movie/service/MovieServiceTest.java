@@ -3,20 +3,29 @@ package com.jh.movieticket.movie.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.jh.movieticket.config.JitteredTtlFunction;
 import com.jh.movieticket.movie.domain.Movie;
 import com.jh.movieticket.movie.domain.ScreenType;
 import com.jh.movieticket.movie.dto.MovieCreateDto;
 import com.jh.movieticket.movie.dto.MovieModifyDto;
 import com.jh.movieticket.movie.dto.MovieSearchDto;
+import com.jh.movieticket.movie.dto.MovieSearchResultDto;
 import com.jh.movieticket.movie.dto.MovieServiceDto;
 import com.jh.movieticket.movie.exception.MovieException;
 import com.jh.movieticket.movie.exception.PosterException;
 import com.jh.movieticket.movie.repository.MovieRepository;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +40,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -55,10 +67,27 @@ class MovieServiceTest {
     @MockBean
     CacheManager redisCacheManager;
 
+    @MockBean
+    MovieSearchIndex movieSearchIndex;
+
+    @MockBean
+    MovieRankingService movieRankingService;
+
+    @MockBean
+    MovieSearchCache movieSearchCache;
+
+    @MockBean
+    RedisTemplate<String, MovieServiceDto> movieCacheRedisTemplate;
+
+    @MockBean
+    ValueOperations<String, MovieServiceDto> valueOperations;
+
     @BeforeEach
     void before() {
 
-        movieService = new MovieService(movieRepository, posterService, redisCacheManager);
+        movieService = new MovieService(movieRepository, posterService, redisCacheManager,
+            movieSearchIndex, movieRankingService, movieSearchCache, movieCacheRedisTemplate,
+            new JitteredTtlFunction(Duration.ofMinutes(30), 0.1));
 
         List<String> genreList = List.of("genre1", "genre2");
         List<String> actorList = List.of("actor1", "actor2");
@@ -270,4 +299,106 @@ class MovieServiceTest {
 
         assertThat(movieServiceDtos.getTotalElements()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("영화 검색 서비스 - 검색 색인 사용")
+    void movieSearchServiceWithIndex() {
+
+        when(movieSearchIndex.getGeneration()).thenReturn(2L);
+        when(movieSearchIndex.getAppliedGeneration()).thenReturn(2L);
+        when(movieSearchIndex.isReady()).thenReturn(true);
+        when(movieSearchIndex.search(any(), any())).thenReturn(
+            new PageImpl<>(List.of(1L), pageable, 11));
+        when(movieRepository.findAllWithGenreAndActor(anyList())).thenReturn(List.of(movie));
+
+        Page<MovieServiceDto> movieServiceDtos = movieService.searchMovie(searchRequest, pageable);
+
+        assertThat(movieServiceDtos.getContent()).hasSize(1);
+        assertThat(movieServiceDtos.getTotalElements()).isEqualTo(11);
+        verify(movieRepository, never()).findBySearchOption(any(), any());
+        verify(movieSearchCache).put(eq(2L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("영화 검색 서비스 - 색인이 현재 세대를 반영하지 못했다면 결과를 캐시하지 않음")
+    void movieSearchServiceWithStaleIndex() {
+
+        when(movieSearchIndex.getGeneration()).thenReturn(2L);
+        when(movieSearchIndex.getAppliedGeneration()).thenReturn(1L);
+        when(movieSearchIndex.isReady()).thenReturn(true);
+        when(movieSearchIndex.search(any(), any())).thenReturn(
+            new PageImpl<>(List.of(1L), pageable, 11));
+        when(movieRepository.findAllWithGenreAndActor(anyList())).thenReturn(List.of(movie));
+
+        movieService.searchMovie(searchRequest, pageable);
+
+        verify(movieSearchCache, never()).put(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("영화 검색 서비스 - 캐시된 결과 사용")
+    void movieSearchServiceWithCache() {
+
+        when(movieSearchIndex.getGeneration()).thenReturn(2L);
+        when(movieSearchCache.get(eq(2L), any(), any())).thenReturn(MovieSearchResultDto.builder()
+            .content(List.of(movieServiceDto))
+            .totalElements(3)
+            .build());
+
+        Page<MovieServiceDto> movieServiceDtos = movieService.searchMovie(searchRequest, pageable);
+
+        assertThat(movieServiceDtos.getTotalElements()).isEqualTo(3);
+        verify(movieRepository, never()).findBySearchOption(any(), any());
+        verify(movieSearchCache, never()).put(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 영화 한 번에 조회 서비스 - 캐시에 없는 영화만 db 조회")
+    void moviesVerifyService() {
+
+        Movie movie2 = Movie.builder()
+            .title("title2")
+            .screenType(ScreenType.NOW)
+            .build();
+
+        when(movieCacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(movieServiceDto, null));
+        when(movieRepository.findAllWithGenreAndActorByTitleIn(anyCollection())).thenReturn(
+            List.of(movie2));
+
+        List<MovieServiceDto> result = movieService.verifyMovies(
+            List.of("title", "title2", "title"));
+
+        assertThat(result).extracting(MovieServiceDto::getTitle)
+            .containsExactly("title", "title2");
+        verify(movieRepository).findAllWithGenreAndActorByTitleIn(List.of("title2"));
+        verify(movieCacheRedisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("여러 영화 한 번에 조회 서비스 - 모두 캐시에 있는 경우")
+    void moviesVerifyServiceAllCached() {
+
+        when(movieCacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(movieServiceDto));
+
+        List<MovieServiceDto> result = movieService.verifyMovies(List.of("title"));
+
+        assertThat(result).hasSize(1);
+        verify(movieRepository, never()).findAllWithGenreAndActorByTitleIn(anyCollection());
+        verify(movieCacheRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("여러 영화 한 번에 조회 서비스 - redis 장애 시 db 조회")
+    void moviesVerifyServiceRedisFail() {
+
+        when(movieCacheRedisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+        when(movieRepository.findAllWithGenreAndActorByTitleIn(anyCollection())).thenReturn(
+            List.of(movie));
+
+        List<MovieServiceDto> result = movieService.verifyMovies(List.of("title"));
+
+        assertThat(result).hasSize(1);
+    }
+}
@@ -0,0 +1,162 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.reservation.exception.ReservationException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class IdempotencyStoreTest {
+
+    @MockBean
+    RedisTemplate<String, Object> redisTemplate;
+
+    @MockBean
+    TaskScheduler taskScheduler;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    IdempotencyStore idempotencyStore;
+    AtomicInteger executedCnt;
+
+    @BeforeEach
+    void before() {
+
+        idempotencyStore = new IdempotencyStore(redisTemplate, taskScheduler, 60, 30, 100);
+        executedCnt = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("멱등 처리 - 같은 키로 재시도하면 처리하지 않고 저장된 결과 리턴")
+    void executeOnce() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+
+        String first = idempotencyStore.execute("key", "request", () -> "result" + executedCnt.incrementAndGet());
+        String second = idempotencyStore.execute("key", "request", () -> "result" + executedCnt.incrementAndGet());
+
+        assertThat(first).isEqualTo("result1");
+        assertThat(second).isEqualTo("result1");
+        assertThat(executedCnt.get()).isEqualTo(1);
+        verify(valueOperations, times(1)).set(eq("idempotency:key"), eq("result1"),
+            any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("멱등 처리 - 다른 서버에서 처리된 결과는 redis 에서 조회")
+    void executeFromRedis() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("idempotency:key")).thenReturn("stored");
+
+        String result = idempotencyStore.execute("key", "request", () -> "result" + executedCnt.incrementAndGet());
+
+        assertThat(result).isEqualTo("stored");
+        assertThat(executedCnt.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("멱등 처리 실패 - 같은 키의 요청이 처리 중")
+    void executeInProgressFail() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("idempotency:key")).thenReturn("IN_PROGRESS");
+
+        assertThatThrownBy(() -> idempotencyStore.execute("key", "request", () -> "result"))
+            .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("멱등 처리 실패 - 처리 실패 시 재시도할 수 있도록 처리 중 표시 삭제")
+    void executeFail() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> idempotencyStore.execute("key", "request", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate, times(1)).delete("idempotency:key");
+    }
+
+    @Test
+    @DisplayName("멱등 처리 실패 - 같은 키로 다른 내용을 요청")
+    void executeRequestMismatchFail() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+        idempotencyStore.execute("key", "request", () -> "result");
+
+        assertThatThrownBy(() -> idempotencyStore.execute("key", "other", () -> "result"))
+            .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("멱등 처리 실패 - 다른 서버에서 처리한 키로 다른 내용을 요청")
+    void executeRequestMismatchFromRedisFail() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("idempotency:key:request")).thenReturn("stored-hash");
+        when(valueOperations.get("idempotency:key")).thenReturn("stored");
+
+        assertThatThrownBy(() -> idempotencyStore.execute("key", "request", () -> "result"))
+            .isInstanceOf(ReservationException.class);
+        assertThat(executedCnt.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("멱등 처리 - 결과 저장에 실패해도 처리 결과 리턴")
+    void executeResultSaveFail() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+        doThrow(new RedisConnectionFailureException("redis down")).when(valueOperations)
+            .set(eq("idempotency:key"), any(), any(Duration.class));
+
+        String result = idempotencyStore.execute("key", "request", () -> "result");
+
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    @DisplayName("멱등 처리 - 처리하는 동안 처리 중 표시 연장")
+    void executeExtendInProgress() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        when(taskScheduler.scheduleAtFixedRate(captor.capture(), any(Duration.class)))
+            .thenAnswer(invocation -> future);
+
+        idempotencyStore.execute("key", "request", () -> {
+            captor.getValue().run(); // 처리 중 연장 주기 도래
+            return "result";
+        });
+        captor.getValue().run(); // 처리가 끝난 후에는 연장 x
+
+        verify(redisTemplate, times(1)).expire("idempotency:key", Duration.ofSeconds(30));
+        verify(future, times(1)).cancel(false);
+    }
+}
@@ -0,0 +1,125 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemorySeatHoldStoreTest {
+
+    MutableClock clock;
+    InMemorySeatHoldStore seatHoldStore;
+
+    @BeforeEach
+    void before() {
+
+        clock = new MutableClock();
+        seatHoldStore = new InMemorySeatHoldStore(Duration.ofMinutes(10), Duration.ofHours(24),
+            clock);
+    }
+
+    @Test
+    @DisplayName("좌석 선점")
+    void hold() {
+
+        assertThat(seatHoldStore.hold(1L, List.of(1, 2), "user1")).isTrue();
+        assertThat(seatHoldStore.hold(1L, List.of(1, 2), "user1")).isTrue(); // 본인 선점 연장
+    }
+
+    @Test
+    @DisplayName("좌석 선점 실패 - 하나라도 다른 회원이 선점한 경우 전부 선점 x")
+    void holdFail() {
+
+        seatHoldStore.hold(1L, List.of(2), "user1");
+
+        assertThat(seatHoldStore.hold(1L, List.of(1, 2), "user2")).isFalse();
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 - 선점 유지 시간이 지나면 다른 회원이 선점 가능")
+    void holdExpire() {
+
+        seatHoldStore.hold(1L, List.of(1), "user1");
+        clock.plus(Duration.ofMinutes(10));
+
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 확정 - 확정된 좌석은 선점, 확정 불가")
+    void confirm() {
+
+        seatHoldStore.hold(1L, List.of(1), "user1");
+
+        assertThat(seatHoldStore.confirm(1L, List.of(1), "user2", null)).isFalse();
+        assertThat(seatHoldStore.confirm(1L, List.of(1), "user1", null)).isTrue();
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user1")).isFalse();
+
+        clock.plus(Duration.ofMinutes(30)); // 선점 유지 시간이 지나도 확정 좌석은 유지
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("좌석 확정 - 확정 좌석은 상영이 끝난 뒤 보관 시간까지 유지")
+    void confirmUntilEndTime() {
+
+        LocalDateTime endTime = LocalDateTime.now(clock).plusDays(7);
+        seatHoldStore.confirm(1L, List.of(1), "user1", endTime);
+
+        clock.plus(Duration.ofDays(7)); // 예매 후 보관 시간(24시간)이 지나도 상영 전이라면 유지
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isFalse();
+
+        clock.plus(Duration.ofHours(24));
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 해제 - 본인이 선점한 좌석만 해제")
+    void release() {
+
+        seatHoldStore.hold(1L, List.of(1), "user1");
+        seatHoldStore.release(1L, List.of(1), "user2");
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isFalse();
+
+        seatHoldStore.release(1L, List.of(1), "user1");
+        assertThat(seatHoldStore.hold(1L, List.of(1), "user2")).isTrue();
+    }
+
+    // 테스트에서 시간을 이동시키기 위한 clock
+    static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void plus(Duration duration) {
+
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.reservation.repository.ReservationRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ReservationNumberGeneratorTest {
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    ReservationRepository reservationRepository;
+
+    AtomicLong sequence; // redis 시퀀스 대역(키가 없다면 null)
+    Clock clock = Clock.fixed(Instant.parse("2026-10-18T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        sequence = new AtomicLong();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+            .thenAnswer(invocation -> allocate(invocation.getArgument(2),
+                invocation.getArgument(3)));
+    }
+
+    @Test
+    @DisplayName("예약 번호 발급 - 블록 단위 할당")
+    void generate() {
+
+        ReservationNumberGenerator generator = new ReservationNumberGenerator(stringRedisTemplate,
+            reservationRepository, 3, clock);
+
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            result.add(generator.generate());
+        }
+
+        assertThat(result).containsExactly("202610180000000001", "202610180000000002",
+            "202610180000000003", "202610180000000004", "202610180000000005");
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class),
+            eq(List.of("reservationNumber:20261018")), eq("3"), eq(""), any());
+        verify(reservationRepository, never()).findMaxReservationNumber(any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 번호 발급 - redis 시퀀스 키가 사라지면 db의 마지막 예약 번호부터 이어서 발급")
+    void generateAfterKeyLost() {
+
+        sequence = null;
+        when(reservationRepository.findMaxReservationNumber("202610180000000000",
+            "202610189999999999")).thenReturn(Optional.of("202610180000000042"));
+        ReservationNumberGenerator generator = new ReservationNumberGenerator(stringRedisTemplate,
+            reservationRepository, 3, clock);
+
+        assertThat(generator.generate()).isEqualTo("202610180000000043");
+    }
+
+    @Test
+    @DisplayName("예약 번호 발급 - 여러 서버에서 동시에 발급해도 중복 없음")
+    void generateConcurrently() throws InterruptedException {
+
+        List<ReservationNumberGenerator> generatorList = List.of(
+            new ReservationNumberGenerator(stringRedisTemplate, reservationRepository, 100, clock),
+            new ReservationNumberGenerator(stringRedisTemplate, reservationRepository, 100, clock));
+        int threadCnt = 8;
+        int perThread = 1000;
+        Set<String> numberSet = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch latch = new CountDownLatch(threadCnt);
+
+        for (int i = 0; i < threadCnt; i++) {
+            ReservationNumberGenerator generator = generatorList.get(i % 2);
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        numberSet.add(generator.generate());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(numberSet).hasSize(threadCnt * perThread);
+        assertThat(new HashSet<>(numberSet.stream().map(String::length).toList()))
+            .containsExactly(18);
+    }
+
+    // 시퀀스 할당 스크립트와 같은 동작
+    private synchronized Long allocate(String blockSize, String lastSequence) {
+
+        if (sequence == null) {
+            if (lastSequence.isEmpty()) {
+                return -1L;
+            }
+            sequence = new AtomicLong(Long.parseLong(lastSequence));
+        }
+
+        return sequence.addAndGet(Long.parseLong(blockSize));
+    }
+}
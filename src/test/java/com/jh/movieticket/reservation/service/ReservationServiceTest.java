@@ -0,0 +1,222 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.member.domain.Member;
+import com.jh.movieticket.member.exception.MemberException;
+import com.jh.movieticket.member.repository.MemberRepository;
+import com.jh.movieticket.movie.domain.MovieSchedule;
+import com.jh.movieticket.movie.repository.MovieScheduleRepository;
+import com.jh.movieticket.reservation.domain.SeatInventory;
+import com.jh.movieticket.reservation.dto.ReservationServiceDto;
+import com.jh.movieticket.reservation.dto.SeatHoldServiceDto;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import com.jh.movieticket.reservation.repository.ReservationRepository;
+import com.jh.movieticket.waiting.service.WaitingQueueService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ReservationServiceTest {
+
+    @MockBean
+    ReservationRepository reservationRepository;
+
+    @MockBean
+    MemberRepository memberRepository;
+
+    @MockBean
+    MovieScheduleRepository movieScheduleRepository;
+
+    @MockBean
+    SeatInventoryService seatInventoryService;
+
+    @MockBean
+    SeatHoldStore seatHoldStore;
+
+    @MockBean
+    WaitingQueueService waitingQueueService;
+
+    @MockBean
+    ReservationNumberGenerator reservationNumberGenerator;
+
+    ReservationService reservationService;
+    Member member;
+    MovieSchedule movieSchedule;
+
+    @BeforeEach
+    void before() {
+
+        reservationService = new ReservationService(reservationRepository, memberRepository,
+            movieScheduleRepository, seatInventoryService, seatHoldStore, waitingQueueService,
+            reservationNumberGenerator);
+
+        member = Member.builder()
+            .userId("test")
+            .build();
+
+        movieSchedule = MovieSchedule.builder()
+            .id(1L)
+            .build();
+
+        when(seatInventoryService.getInventory(any())).thenReturn(new SeatInventory(1L, 40));
+        when(seatInventoryService.isAvailable(any(), anyList())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스")
+    void holdSeatsService() {
+
+        when(seatHoldStore.hold(any(), anyList(), any())).thenReturn(true);
+        when(seatHoldStore.getHoldTtl()).thenReturn(Duration.ofMinutes(10));
+
+        SeatHoldServiceDto result = reservationService.holdSeats("test", 1L, List.of(3, 4));
+
+        assertThat(result.getSeatNoList()).containsExactly(3, 4);
+        assertThat(result.getExpireDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 실패 - 다른 회원이 선점한 좌석")
+    void holdSeatsServiceFail() {
+
+        when(seatHoldStore.hold(any(), anyList(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.holdSeats("test", 1L, List.of(3, 4)))
+            .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 실패 - 이미 예약된 좌석")
+    void holdSeatsServiceBookedFail() {
+
+        when(seatInventoryService.isAvailable(any(), anyList())).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.holdSeats("test", 1L, List.of(3, 4)))
+            .isInstanceOf(ReservationException.class);
+        verify(seatHoldStore, never()).hold(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 실패 - 없는 좌석 번호")
+    void holdSeatsServiceSeatNoFail() {
+
+        assertThatThrownBy(() -> reservationService.holdSeats("test", 1L, List.of(41)))
+            .isInstanceOf(ReservationException.class);
+        verify(seatHoldStore, never()).hold(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("예매 서비스")
+    void reserveService() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(movieScheduleRepository.findById(any())).thenReturn(Optional.of(movieSchedule));
+        when(seatHoldStore.confirm(any(), anyList(), any(), any())).thenReturn(true);
+        when(seatInventoryService.claimSeats(any(), anyList())).thenReturn(true);
+        when(reservationNumberGenerator.generate()).thenReturn("202610180000000001");
+        when(reservationRepository.saveAll(anyList())).thenAnswer(
+            invocation -> invocation.getArgument(0));
+
+        List<ReservationServiceDto> result = reservationService.reserve("test", 1L,
+            List.of(3, 4));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getReservationNumber()).isEqualTo(
+            result.get(1).getReservationNumber());
+        assertThat(result.get(1).getSeatNo()).isEqualTo(4);
+        verify(seatInventoryService, times(1)).persistSeatStatus(any(), anyList(), any());
+        verify(seatInventoryService, times(1)).notifySeatStatus(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("예매 서비스 실패 - 이미 예약된 좌석")
+    void reserveServiceFail() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(movieScheduleRepository.findById(any())).thenReturn(Optional.of(movieSchedule));
+        when(seatHoldStore.confirm(any(), anyList(), any(), any())).thenReturn(true);
+        when(seatInventoryService.claimSeats(any(), anyList())).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.reserve("test", 1L, List.of(3, 4)))
+            .isInstanceOf(ReservationException.class);
+        verify(reservationRepository, never()).saveAll(anyList());
+        verify(seatHoldStore, times(1)).release(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("예매 서비스 실패 - 다른 회원이 선점한 좌석")
+    void reserveServiceHoldFail() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(movieScheduleRepository.findById(any())).thenReturn(Optional.of(movieSchedule));
+        when(seatHoldStore.confirm(any(), anyList(), any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.reserve("test", 1L, List.of(3, 4)))
+            .isInstanceOf(ReservationException.class);
+        verify(seatInventoryService, never()).claimSeats(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("예매 서비스 실패 - db 저장 실패 시 선점한 좌석 원복")
+    void reserveServiceSaveFail() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(movieScheduleRepository.findById(any())).thenReturn(Optional.of(movieSchedule));
+        when(seatHoldStore.confirm(any(), anyList(), any(), any())).thenReturn(true);
+        when(seatInventoryService.claimSeats(any(), anyList())).thenReturn(true);
+        when(reservationRepository.saveAll(anyList())).thenThrow(new RuntimeException());
+
+        assertThatThrownBy(() -> reservationService.reserve("test", 1L, List.of(3, 4)))
+            .isInstanceOf(RuntimeException.class);
+        verify(seatInventoryService, times(1)).releaseSeats(any(), anyList());
+        verify(seatHoldStore, times(1)).release(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("예매 서비스 실패 - db에 이미 예약된 좌석")
+    void reserveServiceDuplicatedFail() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.of(member));
+        when(movieScheduleRepository.findById(any())).thenReturn(Optional.of(movieSchedule));
+        when(seatHoldStore.confirm(any(), anyList(), any(), any())).thenReturn(true);
+        when(seatInventoryService.claimSeats(any(), anyList())).thenReturn(true);
+        when(reservationRepository.saveAll(anyList())).thenThrow(
+            new DataIntegrityViolationException("uk_reservation_schedule_seat"));
+
+        assertThatThrownBy(() -> reservationService.reserve("test", 1L, List.of(3, 4)))
+            .isInstanceOf(ReservationException.class);
+        verify(seatInventoryService, times(1)).releaseSeats(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("예매 서비스 실패 - 없는 회원")
+    void reserveServiceMemberFail() {
+
+        when(memberRepository.findByUserIdAndDeleteDate(any(), any())).thenReturn(
+            Optional.empty());
+
+        assertThatThrownBy(() -> reservationService.reserve("test", 1L, List.of(3, 4)))
+            .isInstanceOf(MemberException.class);
+    }
+}
@@ -0,0 +1,359 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.MovieScheduleSeat;
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.movie.repository.MovieScheduleSeatRepository;
+import com.jh.movieticket.reservation.dto.SeatMapCompactServiceDto;
+import com.jh.movieticket.reservation.dto.SeatMapServiceDto;
+import com.jh.movieticket.reservation.exception.ReservationException;
+import com.jh.movieticket.theater.domain.Seat;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class SeatInventoryServiceTest {
+
+    @MockBean
+    MovieScheduleSeatRepository movieScheduleSeatRepository;
+
+    @MockBean
+    SeatStatusWriter seatStatusWriter;
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    SeatInventoryService seatInventoryService;
+    List<MovieScheduleSeat> scheduleSeatList;
+
+    @BeforeEach
+    void before() {
+
+        seatInventoryService = new SeatInventoryService(movieScheduleSeatRepository,
+            seatStatusWriter, stringRedisTemplate);
+
+        scheduleSeatList = new ArrayList<>();
+        IntStream.range(1, 41) // long 하나(32좌석)를 넘어가는 좌석 수
+            .mapToObj(i -> MovieScheduleSeat.builder()
+                .seat(Seat.builder().seatNo(i).build())
+                .status(i == 1 ? SeatType.BOOKED : i == 40 ? SeatType.UNAVAILABLE : SeatType.AVAILABLE)
+                .build())
+            .forEach(scheduleSeatList::add);
+    }
+
+    @Test
+    @DisplayName("좌석 현황 조회 서비스")
+    void seatMapService() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapServiceDto seatMap = seatInventoryService.getSeatMap(1L);
+
+        assertThat(seatMap.getSeatCnt()).isEqualTo(40);
+        assertThat(seatMap.getRemainSeatCnt()).isEqualTo(38);
+        assertThat(seatMap.getSeatStatusList().get(0)).isEqualTo(SeatType.BOOKED);
+        assertThat(seatMap.getSeatStatusList().get(39)).isEqualTo(SeatType.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("좌석 현황 조회 서비스 - 두번째 조회부터 db 조회 x")
+    void seatMapServiceFromMemory() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        seatInventoryService.getSeatMap(1L);
+        seatInventoryService.getSeatMap(1L);
+
+        verify(movieScheduleSeatRepository, times(1)).findAllWithSeatBySchedule(any());
+    }
+
+    @Test
+    @DisplayName("좌석 현황 조회 서비스 - 등록되지 않은 좌석 번호는 사용 불가")
+    void seatMapServiceMissingSeatNo() {
+
+        scheduleSeatList.remove(4); // 5번 좌석
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapServiceDto seatMap = seatInventoryService.getSeatMap(1L);
+
+        assertThat(seatMap.getSeatCnt()).isEqualTo(40);
+        assertThat(seatMap.getRemainSeatCnt()).isEqualTo(37);
+        assertThat(seatMap.getSeatStatusList().get(4)).isEqualTo(SeatType.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("좌석 현황 조회 서비스 실패 - 좌석 정보가 없는 스케줄")
+    void seatMapServiceFail() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> seatInventoryService.getSeatMap(1L)).isInstanceOf(
+            ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경 서비스")
+    void changeSeatStatusService() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        seatInventoryService.changeSeatStatus(1L, List.of(2, 33), SeatType.UNAVAILABLE);
+
+        assertThat(seatInventoryService.getRemainSeatCnt(1L)).isEqualTo(36);
+        verify(seatStatusWriter, times(1)).write(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경 서비스 실패 - 없는 좌석 번호")
+    void changeSeatStatusServiceFail() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        assertThatThrownBy(
+            () -> seatInventoryService.changeSeatStatus(1L, List.of(41), SeatType.BOOKED))
+            .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스")
+    void claimSeatsService() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        boolean result = seatInventoryService.claimSeats(1L, List.of(2, 3, 33));
+
+        assertThat(result).isTrue();
+        assertThat(seatInventoryService.getRemainSeatCnt(1L)).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 실패 - 이미 예약된 좌석 포함 시 전부 선점 x")
+    void claimSeatsServiceFail() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        boolean result = seatInventoryService.claimSeats(1L, List.of(2, 33, 40));
+
+        assertThat(result).isFalse();
+        assertThat(seatInventoryService.getRemainSeatCnt(1L)).isEqualTo(38);
+    }
+
+    @Test
+    @DisplayName("예약 가능 좌석 확인 서비스")
+    void isAvailableService() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        assertThat(seatInventoryService.isAvailable(1L, List.of(2, 33))).isTrue();
+        assertThat(seatInventoryService.isAvailable(1L, List.of(1, 2))).isFalse();
+        assertThat(seatInventoryService.isAvailable(1L, List.of(40))).isFalse();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 실패 - 중복된 좌석 번호")
+    void claimSeatsServiceDuplicatedFail() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        assertThatThrownBy(() -> seatInventoryService.claimSeats(1L, List.of(2, 2)))
+            .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 서비스 - 동시에 같은 좌석 선점 시 하나만 성공")
+    void claimSeatsServiceConcurrency() throws InterruptedException {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+        seatInventoryService.getInventory(1L);
+
+        int threadCnt = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch latch = new CountDownLatch(threadCnt);
+        AtomicInteger successCnt = new AtomicInteger();
+        for (int i = 0; i < threadCnt; i++) {
+            List<Integer> seatNoList = i % 2 == 0 ? List.of(5, 32, 33) : List.of(33, 34);
+            executorService.submit(() -> {
+                try {
+                    if (seatInventoryService.claimSeats(1L, seatNoList)) {
+                        successCnt.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCnt.get()).isEqualTo(1);
+        assertThat(seatInventoryService.getInventory(1L).getStatus(33)).isEqualTo(SeatType.BOOKED);
+    }
+
+    @Test
+    @DisplayName("압축 좌석 현황 조회 서비스 - 좌석당 2비트로 압축")
+    void compactSeatMapService() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(1L, null, null);
+        byte[] seats = Base64.getDecoder().decode(seatMap.getSeats());
+
+        assertThat(seats).hasSize(10);
+        assertThat(seats[0]).isEqualTo((byte) 0b01); // 1번 좌석 BOOKED
+        assertThat(seats[9]).isEqualTo((byte) 0b10000000); // 40번 좌석 UNAVAILABLE
+        assertThat(seatMap.getChangeList()).isNull();
+    }
+
+    @Test
+    @DisplayName("압축 좌석 현황 조회 서비스 - 버전 이후 변경된 좌석만 조회")
+    void compactSeatMapServiceDelta() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(1L, null, null);
+        long version = seatMap.getVersion();
+        seatInventoryService.claimSeats(1L, List.of(3, 33));
+        seatInventoryService.releaseSeats(1L, List.of(3));
+
+        SeatMapCompactServiceDto delta = seatInventoryService.getCompactSeatMap(1L,
+            seatMap.getEpoch(), version);
+
+        assertThat(delta.getVersion()).isEqualTo(version + 3);
+        assertThat(delta.getSeats()).isNull();
+        assertThat(delta.getChangeList()).containsExactly(3 * 4, 33 * 4 + 1);
+    }
+
+    @Test
+    @DisplayName("압축 좌석 현황 조회 서비스 - 변경 로그를 넘어선 오래된 버전은 전체 조회")
+    void compactSeatMapServiceDeltaExpired() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(1L, null, null);
+        long version = seatMap.getVersion();
+        for (int i = 0; i < 600; i++) {
+            seatInventoryService.claimSeats(1L, List.of(5));
+            seatInventoryService.releaseSeats(1L, List.of(5));
+        }
+
+        SeatMapCompactServiceDto result = seatInventoryService.getCompactSeatMap(1L,
+            seatMap.getEpoch(), version);
+
+        assertThat(result.getSeats()).isNotNull();
+        assertThat(result.getChangeList()).isNull();
+    }
+
+    @Test
+    @DisplayName("압축 좌석 현황 조회 서비스 - 다른 비트맵(다른 서버, 재적재 전)의 버전은 전체 조회")
+    void compactSeatMapServiceEpochMismatch() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+
+        SeatMapCompactServiceDto seatMap = seatInventoryService.getCompactSeatMap(1L, null, null);
+        seatInventoryService.evictInventory(1L); // 재적재되면 epoch 가 바뀐다.
+        seatInventoryService.claimSeats(1L, List.of(3));
+
+        SeatMapCompactServiceDto result = seatInventoryService.getCompactSeatMap(1L,
+            seatMap.getEpoch(), seatMap.getVersion());
+
+        assertThat(result.getEpoch()).isNotEqualTo(seatMap.getEpoch());
+        assertThat(result.getSeats()).isNotNull();
+        assertThat(result.getChangeList()).isNull();
+    }
+
+    @Test
+    @DisplayName("좌석 상태 db 반영 서비스 - 호출한 트랜잭션 안에서 바로 반영")
+    void persistSeatStatusService() {
+
+        seatInventoryService.persistSeatStatus(1L, List.of(2, 3), SeatType.BOOKED);
+
+        verify(seatStatusWriter, times(1)).writeNow(1L, List.of(2, 3), SeatType.BOOKED);
+        verify(seatStatusWriter, never()).write(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경 알림 서비스")
+    void notifySeatStatusService() {
+
+        seatInventoryService.notifySeatStatus(1L, List.of(2, 3), SeatType.BOOKED);
+
+        verify(stringRedisTemplate, times(1)).convertAndSend(
+            eq(SeatInventoryService.SEAT_STATUS_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 좌석 상태 변경 반영")
+    void onMessage() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+        seatInventoryService.getInventory(1L);
+
+        seatInventoryService.onMessage(new DefaultMessage(
+            SeatInventoryService.SEAT_STATUS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "other|1|1|2,33".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(seatInventoryService.getInventory(1L).getStatus(2)).isEqualTo(SeatType.BOOKED);
+        assertThat(seatInventoryService.getInventory(1L).getStatus(33)).isEqualTo(SeatType.BOOKED);
+        assertThat(seatInventoryService.getRemainSeatCnt(1L)).isEqualTo(36);
+    }
+
+    @Test
+    @DisplayName("좌석 비트맵 db 비교 - 연속 두 번 db와 다른 좌석만 반영")
+    void reloadInventory() {
+
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+        seatInventoryService.getInventory(1L);
+
+        List<MovieScheduleSeat> changedList = new ArrayList<>(scheduleSeatList);
+        changedList.set(1, changedList.get(1).toBuilder().status(SeatType.BOOKED).build()); // 다른 서버에서 예약된 2번 좌석
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(changedList);
+
+        seatInventoryService.reloadInventory();
+        assertThat(seatInventoryService.getInventory(1L).getStatus(2)).isEqualTo(
+            SeatType.AVAILABLE);
+
+        seatInventoryService.reloadInventory();
+        assertThat(seatInventoryService.getInventory(1L).getStatus(2)).isEqualTo(SeatType.BOOKED);
+    }
+}
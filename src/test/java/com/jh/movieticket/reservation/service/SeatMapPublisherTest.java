@@ -0,0 +1,97 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.MovieScheduleSeat;
+import com.jh.movieticket.movie.domain.SeatType;
+import com.jh.movieticket.movie.repository.MovieScheduleSeatRepository;
+import com.jh.movieticket.reservation.dto.SeatMapCompactDto;
+import com.jh.movieticket.theater.domain.Seat;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class SeatMapPublisherTest {
+
+    @MockBean
+    SimpMessageSendingOperations simpMessageSendingOperations;
+
+    @MockBean
+    MovieScheduleSeatRepository movieScheduleSeatRepository;
+
+    @MockBean
+    SeatStatusWriter seatStatusWriter;
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    SeatInventoryService seatInventoryService;
+    SeatMapPublisher seatMapPublisher;
+
+    @BeforeEach
+    void before() {
+
+        seatInventoryService = new SeatInventoryService(movieScheduleSeatRepository,
+            seatStatusWriter, stringRedisTemplate);
+        seatMapPublisher = new SeatMapPublisher(simpMessageSendingOperations,
+            seatInventoryService);
+
+        List<MovieScheduleSeat> scheduleSeatList = IntStream.range(1, 11)
+            .mapToObj(i -> MovieScheduleSeat.builder()
+                .seat(Seat.builder().seatNo(i).build())
+                .status(SeatType.AVAILABLE)
+                .build())
+            .toList();
+        when(movieScheduleSeatRepository.findAllWithSeatBySchedule(any())).thenReturn(
+            scheduleSeatList);
+        seatInventoryService.getInventory(1L);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경분 발송 - 변경이 없다면 발송 x")
+    void publishNoChange() {
+
+        seatMapPublisher.publish();
+        seatMapPublisher.publish();
+
+        verify(simpMessageSendingOperations, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경분 발송 - 주기 내의 변경은 한 번에 발송")
+    void publishCoalesced() {
+
+        seatMapPublisher.publish();
+        seatInventoryService.claimSeats(1L, List.of(1, 2));
+        seatInventoryService.claimSeats(1L, List.of(5));
+        seatInventoryService.releaseSeats(1L, List.of(2));
+
+        seatMapPublisher.publish();
+        seatMapPublisher.publish();
+
+        ArgumentCaptor<SeatMapCompactDto.Response> captor = ArgumentCaptor.forClass(
+            SeatMapCompactDto.Response.class);
+        verify(simpMessageSendingOperations, times(1)).convertAndSend(
+            eq("/sub/schedule/1/seats"), captor.capture());
+        assertThat(captor.getValue().getChanges()).containsExactly(1 * 4 + 1, 2 * 4, 5 * 4 + 1);
+        assertThat(captor.getValue().getSinceVersion()).isEqualTo(0L);
+        assertThat(captor.getValue().getEpoch()).isEqualTo(
+            seatInventoryService.getInventory(1L).getEpoch());
+    }
+}
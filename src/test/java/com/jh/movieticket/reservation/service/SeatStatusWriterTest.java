@@ -0,0 +1,124 @@
+package com.jh.movieticket.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jh.movieticket.movie.domain.SeatType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class SeatStatusWriterTest {
+
+    @MockBean
+    JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    SeatStatusWriter seatStatusWriter;
+    Path journalPath;
+
+    @BeforeEach
+    void before() {
+
+        journalPath = tempDir.resolve("seat-status.journal");
+        seatStatusWriter = new SeatStatusWriter(jdbcTemplate, Runnable::run, 500,
+            journalPath.toString());
+    }
+
+    @Test
+    @DisplayName("좌석 상태 반영 - 같은 좌석의 변경은 마지막 상태만 반영")
+    @SuppressWarnings("unchecked")
+    void flushCoalesce() {
+
+        seatStatusWriter.write(1L, List.of(1, 2), SeatType.BOOKED);
+        seatStatusWriter.write(1L, List.of(2), SeatType.AVAILABLE);
+        seatStatusWriter.write(2L, List.of(1), SeatType.BOOKED);
+
+        seatStatusWriter.flush();
+
+        ArgumentCaptor<Collection<Object>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture(), anyInt(), any());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(seatStatusWriter.getPendingStatus(1L)).isEmpty();
+        assertThat(seatStatusWriter.getPendingScheduleCnt()).isZero(); // 비워진 스케줄 대기열 정리
+    }
+
+    @Test
+    @DisplayName("좌석 상태 즉시 반영 - 대기열을 거치지 않고 바로 반영")
+    void writeNow() {
+
+        seatStatusWriter.writeNow(1L, List.of(1, 2), SeatType.BOOKED);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), anyInt(), any());
+        assertThat(seatStatusWriter.getPendingStatus(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌석 상태 반영 - 변경 개수가 batch-size 에 도달하면 즉시 반영")
+    void flushOnBatchSize() {
+
+        seatStatusWriter = new SeatStatusWriter(jdbcTemplate, Runnable::run, 3,
+            journalPath.toString());
+
+        seatStatusWriter.write(1L, List.of(1, 2), SeatType.BOOKED);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+
+        seatStatusWriter.write(1L, List.of(3), SeatType.BOOKED);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 상태 반영 실패 - 대기열에 남아 다음 반영 때 재시도")
+    void flushFail() {
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenThrow(
+            new DataAccessResourceFailureException("db down"));
+
+        seatStatusWriter.write(1L, List.of(1), SeatType.BOOKED);
+        seatStatusWriter.flush();
+
+        assertThat(seatStatusWriter.getPendingStatus(1L)).containsEntry(1, SeatType.BOOKED);
+    }
+
+    @Test
+    @DisplayName("종료 시 반영 실패 - 저널에 기록 후 기동 시 복구")
+    void shutdownAndRecover() throws Exception {
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenThrow(
+            new DataAccessResourceFailureException("db down"));
+
+        seatStatusWriter.write(1L, List.of(1, 2), SeatType.BOOKED);
+        seatStatusWriter.shutdown();
+
+        assertThat(Files.readAllLines(journalPath)).hasSize(2);
+
+        SeatStatusWriter restartedWriter = new SeatStatusWriter(jdbcTemplate, Runnable::run, 500,
+            journalPath.toString());
+        restartedWriter.recover();
+
+        assertThat(restartedWriter.getPendingStatus(1L)).containsEntry(1, SeatType.BOOKED)
+            .containsEntry(2, SeatType.BOOKED);
+        assertThat(Files.exists(journalPath)).isFalse();
+    }
+}
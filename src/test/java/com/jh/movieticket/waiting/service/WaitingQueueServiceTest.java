@@ -0,0 +1,139 @@
+package com.jh.movieticket.waiting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.jh.movieticket.config.MessageBroadcaster;
+import com.jh.movieticket.waiting.dto.WaitingServiceDto;
+import com.jh.movieticket.waiting.exception.WaitingException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class WaitingQueueServiceTest {
+
+    @MockBean
+    MessageBroadcaster messageBroadcaster;
+
+    InMemoryWaitingQueueStore waitingQueueStore;
+    WaitingQueueService waitingQueueService;
+
+    @BeforeEach
+    void before() {
+
+        waitingQueueStore = new InMemoryWaitingQueueStore(Duration.ZERO, Duration.ofMinutes(10),
+            Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC));
+        waitingQueueService = new WaitingQueueService(waitingQueueStore,
+            messageBroadcaster, true, 2, 1000, 0);
+    }
+
+    @Test
+    @DisplayName("대기열 등록 서비스 - 등록 순서대로 번호표, 대기 순서 발급")
+    void enterService() {
+
+        waitingQueueService.enter(1L, "user1");
+        waitingQueueService.enter(1L, "user2");
+        waitingQueueService.enter(1L, "user3");
+        WaitingServiceDto status = waitingQueueService.enter(1L, "user3"); // 중복 등록
+
+        assertThat(status.getTicket()).isEqualTo(3);
+        assertThat(status.getPosition()).isEqualTo(2);
+        assertThat(status.getEtaSeconds()).isEqualTo(2);
+        assertThat(status.isAdmitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 순서 조회 서비스 실패 - 등록하지 않은 회원")
+    void getStatusServiceFail() {
+
+        assertThatThrownBy(() -> waitingQueueService.getStatus(1L, "user1"))
+            .isInstanceOf(WaitingException.class);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 주기마다 정해진 인원만 입장 후 진행 상황 발송")
+    void admit() {
+
+        waitingQueueService.enter(1L, "user1");
+        waitingQueueService.enter(1L, "user2");
+        waitingQueueService.enter(1L, "user3");
+
+        waitingQueueService.admit();
+
+        assertThat(waitingQueueService.getStatus(1L, "user2").isAdmitted()).isTrue();
+        assertThat(waitingQueueService.getStatus(1L, "user3").getPosition()).isZero();
+        verify(messageBroadcaster, times(1)).broadcast(eq("/sub/waiting/1"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("예매 가능 여부 확인 - 대기열 운영 중인 스케줄은 입장한 회원만 예매 가능")
+    void validateAdmitted() {
+
+        waitingQueueService.enter(1L, "user1");
+        waitingQueueService.enter(1L, "user2");
+        waitingQueueService.enter(1L, "user3");
+        waitingQueueService.admit();
+
+        assertThatNoException().isThrownBy(() -> waitingQueueService.validateAdmitted(1L, "user1"));
+        assertThatThrownBy(() -> waitingQueueService.validateAdmitted(1L, "user3"))
+            .isInstanceOf(WaitingException.class);
+        assertThatNoException().isThrownBy(() -> waitingQueueService.validateAdmitted(2L, "user3"));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 대기 인원이 없어지면 대기열 운영 종료")
+    void admitDeactivate() {
+
+        waitingQueueService.enter(1L, "user1");
+        waitingQueueService.admit();
+
+        assertThat(waitingQueueStore.getActiveScheduleIds()).isEmpty();
+        assertThatNoException().isThrownBy(() -> waitingQueueService.validateAdmitted(1L, "user2"));
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 대기 인원이 없어져도 유지 시간 동안은 운영하며 입장한 회원만 예매 가능")
+    void admitKeepActiveWhileIdle() {
+
+        waitingQueueService = new WaitingQueueService(waitingQueueStore, messageBroadcaster, true,
+            2, 1000, 10);
+
+        waitingQueueService.enter(1L, "user1");
+        waitingQueueService.admit();
+        waitingQueueService.admit();
+
+        assertThat(waitingQueueStore.isActive(1L)).isTrue();
+        assertThatNoException().isThrownBy(() -> waitingQueueService.validateAdmitted(1L, "user1"));
+        assertThatThrownBy(() -> waitingQueueService.validateAdmitted(1L, "user2"))
+            .isInstanceOf(WaitingException.class);
+    }
+
+    @Test
+    @DisplayName("대기열 운영 종료 - 대기 인원이 남아있다면 종료 x, 종료한 대기열은 정리")
+    void deactivate() {
+
+        waitingQueueStore.enter(1L, "user1");
+
+        assertThat(waitingQueueStore.deactivate(1L)).isFalse();
+        assertThat(waitingQueueStore.isActive(1L)).isTrue();
+
+        waitingQueueStore.admit(1L, 1);
+
+        assertThat(waitingQueueStore.deactivate(1L)).isTrue();
+        assertThat(waitingQueueStore.isActive(1L)).isFalse();
+        assertThat(waitingQueueStore.isAdmitted(1L, "user1")).isFalse(); // 대기열 정리
+    }
+}